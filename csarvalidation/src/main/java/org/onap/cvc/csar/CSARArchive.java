@@ -20,13 +20,20 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.onap.cvc.csar.parser.SourcesParser;
 import org.onap.cvc.csar.parser.vnf.DefinitionMetadataParser;
-import org.yaml.snakeyaml.Yaml;
+import org.onap.cvc.csar.parser.vnf.NodeTemplateTypeIndex;
+import org.onap.cvc.csar.parser.vnf.ReadOnlyYaml;
+import org.onap.cvc.csar.parser.vnf.ToscaImportResolver;
+import org.onap.cvc.csar.parser.vnf.ToscaTypeGraph;
+import org.onap.cvc.csar.parser.vnf.YamlProjection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -43,6 +50,8 @@ import java.util.stream.Collectors;
  */
 public class CSARArchive implements AutoCloseable {
 
+    private static final Logger LOG = LoggerFactory.getLogger(CSARArchive.class);
+
     private static Gson gson = new Gson();
     public static final String SOL0004_2_4_1 = "V2.4.1 (2018-02)";
 
@@ -62,6 +71,8 @@ public class CSARArchive implements AutoCloseable {
 
     public static final String TOSCA_METADATA_TOSCA_META_ENTRY_MANIFEST = "Entry-Manifest";
 
+    public static final String TOSCA_METADATA_TOSCA_META_ETSI_ENTRY_MANIFEST = "ETSI-Entry-Manifest";
+
     public static final String TOSCA_METADATA_TOSCA_META_ENTRY_CHANGE_LOG = "Entry-Change-Log";
 
     public static final String CHANGE_LOGS_TXT = "Change-Logs.txt";
@@ -102,7 +113,7 @@ public class CSARArchive implements AutoCloseable {
         WITHOUT_TOSCA_META_DIR
     }
 
-    public static class CSARError{
+    public static class CSARError implements Cloneable {
 
         private String vnfreqNo;
 
@@ -158,6 +169,17 @@ public class CSARArchive implements AutoCloseable {
             this.vnfreqNo = no;
         }
 
+        /**
+         * Returns a shallow copy of the error, of the same class.
+         */
+        public CSARError copy() {
+            try {
+                return (CSARError) clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
         public String toString() {
             try {
                 return gson.toJson(this);
@@ -814,6 +836,22 @@ public class CSARArchive implements AutoCloseable {
 
     private Definition definition = new Definition();
 
+    /**
+     * Paths of the definition YAML read while parsing the CSAR, everything else is skipped.
+     */
+    public static final YamlProjection DEFINITION_YAML_PROJECTION = YamlProjection
+            .of(DefinitionMetadataParser.DEFINITION_YAML_PATHS)
+            .with(ToscaTypeGraph.DEFINITION_YAML_PATHS)
+            .with(NodeTemplateTypeIndex.DEFINITION_YAML_PATHS);
+
+    private YamlProjection definitionYamlProjection = DEFINITION_YAML_PROJECTION;
+
+    private Map<String, ?> definitionYaml = Collections.emptyMap();
+
+    private ToscaTypeGraph toscaTypeGraph = ToscaTypeGraph.empty();
+
+    private NodeTemplateTypeIndex nodeTemplateTypeIndex = NodeTemplateTypeIndex.empty();
+
     private Manifest manifest;
 
     private File toscaMetaFile;
@@ -860,6 +898,48 @@ public class CSARArchive implements AutoCloseable {
         return definition;
     }
 
+    /**
+     * Returns the entry definition YAML parsed during {@link #parse()}.
+     * The tree is read-only, so rules can share it instead of loading the file again.
+     * It contains only the paths of {@link #DEFINITION_YAML_PROJECTION} and the ones added
+     * with {@link #addDefinitionYamlPaths(Collection)}.
+     */
+    public Map<String, ?> getDefinitionYaml() {
+        return definitionYaml;
+    }
+
+    /**
+     * Returns the types declared in the entry definition YAML and in the files it imports.
+     * Imports are resolved on the first call, so rules which never ask for types don't read them.
+     */
+    public synchronized ToscaTypeGraph getToscaTypeGraph() {
+        if (this.toscaTypeGraph == null) {
+            this.toscaTypeGraph = resolveToscaTypeGraph();
+        }
+        return this.toscaTypeGraph;
+    }
+
+    /**
+     * Returns the node templates of the entry definition YAML indexed by their type and by the types
+     * they are derived from.
+     */
+    public synchronized NodeTemplateTypeIndex getNodeTemplateTypeIndex() {
+        if (this.nodeTemplateTypeIndex == null) {
+            this.nodeTemplateTypeIndex = NodeTemplateTypeIndex.of(this.definitionYaml, getToscaTypeGraph());
+        }
+        return this.nodeTemplateTypeIndex;
+    }
+
+    private ToscaTypeGraph resolveToscaTypeGraph() {
+        final ToscaImportResolver resolver = new ToscaImportResolver(this.tempDir);
+        final ToscaTypeGraph typeGraph = resolver.resolve(this.definitionYaml, this.definitionYamlFile.toPath());
+        if (!resolver.getUnresolvedImports().isEmpty()) {
+            LOG.warn("Imports of {} found neither in the package nor among the bundled type libraries: {}",
+                    this.definitionYamlFile.getName(), resolver.getUnresolvedImports());
+        }
+        return typeGraph;
+    }
+
     public Manifest getManifest() {
         return manifest;
     }
@@ -957,10 +1037,14 @@ public class CSARArchive implements AutoCloseable {
 
     private void parseDefinitionMetadata() throws IOException {
         try(FileInputStream ipStream = new FileInputStream(this.definitionYamlFile)) {
-            Map<String, ?> yaml = (Map<String, ?>) new Yaml().load(ipStream);
+            this.definitionYaml = ReadOnlyYaml.of(this.definitionYamlProjection.load(ipStream));
+            synchronized (this) {
+                this.toscaTypeGraph = null;
+                this.nodeTemplateTypeIndex = null;
+            }
 
             DefinitionMetadataParser definitionMetadataParser = new DefinitionMetadataParser(
-                    yaml,
+                    this.definitionYaml,
                     this.definitionYamlFile.getName(),
                     this.toscaMeta.getMode()
             );
@@ -979,10 +1063,10 @@ public class CSARArchive implements AutoCloseable {
                 lineNo ++;
                 line = line.trim();
 
-                if (!line.startsWith("#") && !line.trim().isEmpty()) {
-                    String []lineTokens = line.split(":");
+                if (isToscaMetaEntry(line)) {
+                    Optional<Pair<String, String>> entry = parseToscaMetaEntry(line);
 
-                    if (lineTokens.length != 2) {
+                    if (!entry.isPresent()) {
                         errors.add(
                                 new CSARErrorIgnored(
                                         line,
@@ -992,8 +1076,8 @@ public class CSARArchive implements AutoCloseable {
                         continue;
                     }
 
-                    String key = lineTokens[0].trim();
-                    String value = lineTokens[1].trim();
+                    String key = entry.get().getKey();
+                    String value = entry.get().getValue();
 
                     if(key.equalsIgnoreCase(TOSCA_METADATA_TOSCA_META_TOSCA_META_FILE_VERSION)) {
                         this.toscaMeta.setMetaDataFileVersion(value);
@@ -1185,6 +1269,26 @@ public class CSARArchive implements AutoCloseable {
         }
     }
 
+    /**
+     * Checks whether a line of TOSCA.meta is an entry, i.e. it is neither empty nor a comment.
+     */
+    static boolean isToscaMetaEntry(String line) {
+        final String trimmed = line.trim();
+        return !trimmed.startsWith("#") && !trimmed.isEmpty();
+    }
+
+    /**
+     * Returns the key and the value of an entry of TOSCA.meta, or empty when the entry is not a single
+     * key-value pair.
+     */
+    static Optional<Pair<String, String>> parseToscaMetaEntry(String line) {
+        final String[] lineTokens = line.split(":");
+        if (lineTokens.length != 2) {
+            return Optional.empty();
+        }
+        return Optional.of(Pair.of(lineTokens[0].trim(), lineTokens[1].trim()));
+    }
+
     public String getEntryCertificateParamName() {
         return TOSCA_METADATA_TOSCA_META_ENTRY_CERTIFICATE;
     }
@@ -1198,7 +1302,15 @@ public class CSARArchive implements AutoCloseable {
     }
 
     public void init(String csarPath) throws IOException {
-        this.workspace = new FileArchive(TEMP_DIR).unpack(csarPath);
+        init(csarPath, Collections.emptyList());
+    }
+
+    /**
+     * Unpacks the CSAR, calculating digests of the extracted files with the given algorithms on the way.
+     * The digests are available through {@link FileArchive.Workspace#getDigest(Path, String)}.
+     */
+    public void init(String csarPath, Collection<String> digestAlgorithms) throws IOException {
+        this.workspace = new FileArchive(TEMP_DIR, digestAlgorithms).unpack(csarPath);
 
         final Optional<Path> pathToCsarFolder = workspace.getPathToCsarFolder();
         if (pathToCsarFolder.isPresent()) {
@@ -1206,6 +1318,13 @@ public class CSARArchive implements AutoCloseable {
         }
     }
 
+    /**
+     * Adds paths of the definition YAML which have to be loaded by {@link #parse()}.
+     */
+    public void addDefinitionYamlPaths(Collection<String> paths) {
+        this.definitionYamlProjection = this.definitionYamlProjection.with(paths);
+    }
+
     public void parse() throws IOException {
         //Find out the mode of CSAR
         this.setMode();
@@ -21,8 +21,12 @@ import org.onap.cvc.csar.oclip.Command;
 import org.onap.cvc.csar.oclip.CommandFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class CsarValidator {
 
@@ -43,19 +47,22 @@ public class CsarValidator {
     }
 
     Pair<Boolean, List<VTPValidateCSAR.CSARValidation.Result>> validate(ValidationContext validationContext) {
+        return prepare(validationContext).validate(null);
+    }
 
-        boolean overallPass = true;
-        List<VTPValidateCSAR.CSARValidation.Result> results = new ArrayList<>();
+    /**
+     * Creates the commands of the rules to execute, so a single archive can be prepared for all of them.
+     */
+    PreparedValidation prepare(ValidationContext validationContext) {
+        final List<PreparedRule> preparedRules = new ArrayList<>();
 
         final List<String> rules = getRulesToExecute();
 
         for (String rule : rules) {
-                final Pair<Boolean, List<VTPValidateCSAR.CSARValidation.Result>> pair = executeValidation(releasesResolver, ignoreCodes, rule, validationContext);
-                overallPass &= pair.getLeft();
-                results.addAll(pair.getRight());
+            preparedRules.add(prepareRule(releasesResolver, rule, validationContext));
         }
 
-        return Pair.of(overallPass, results);
+        return new PreparedValidation(preparedRules);
     }
 
     private List<String> getRulesToExecute() {
@@ -66,23 +73,40 @@ public class CsarValidator {
         ).collect(Collectors.toList());
     }
 
+    private PreparedRule prepareRule(ReleasesResolver releasesResolver, String reqName, ValidationContext validationContext) {
+        try {
+            Command cmd = getCommand(reqName, validationContext);
+            if (releasesResolver.resolveWithAncestors(validationContext.getRelease()).contains(cmd.getRelease())) {
+                return new PreparedRule(reqName, cmd, null);
+            }
+            return new PreparedRule(reqName, null, null);
+        } catch (Exception e) {
+            return new PreparedRule(reqName, null, e);
+        }
+    }
+
     private Pair<Boolean, List<VTPValidateCSAR.CSARValidation.Result>> executeValidation(
-            ReleasesResolver releasesResolver, List<String> ignoreCodes,
-            String reqName, ValidationContext validationContext) {
+            List<String> ignoreCodes, PreparedRule rule, CSARArchive csar) {
 
         boolean overallPass = true;
         List<VTPValidateCSAR.CSARValidation.Result> results = new ArrayList<>();
         VTPValidateCSAR.CSARValidation.Result result = new VTPValidateCSAR.CSARValidation.Result();
-        result.setVnfreqName(reqName);
+        result.setVnfreqName(rule.reqName);
 
         try {
-            Command cmd = getCommand(reqName, validationContext);
-            if (releasesResolver.resolveWithAncestors(validationContext.getRelease()).contains(cmd.getRelease())) {
+            if (rule.failure != null) {
+                throw rule.failure;
+            }
+            if (rule.cmd != null) {
+                Command cmd = rule.cmd;
+                if (csar != null) {
+                    cmd.setCsarArchive(csar);
+                }
                 final List<CSARArchive.CSARError> errors = cmd.run();
 
                 result.setDescription(cmd.getDescription());
 
-                final Pair<List<CSARArchive.CSARError>, List<CSARArchive.CSARError>> segregateErrors = segregate(errors, ignoreCodes, reqName);
+                final Pair<List<CSARArchive.CSARError>, List<CSARArchive.CSARError>> segregateErrors = segregate(errors, ignoreCodes, rule.reqName);
                 overallPass = segregateErrors.getLeft().isEmpty();
                 result.addErrors(segregateErrors.getLeft());
                 result.addErrorsAsWarnings(segregateErrors.getRight());
@@ -123,6 +147,66 @@ public class CsarValidator {
         return ignoreCodes.contains(error.getCode()) || ignoreCodes.contains(reqName + "-" + error.getCode());
     }
 
+    /**
+     * Commands of the rules to execute, created before the CSAR is unpacked.
+     */
+    class PreparedValidation {
+        private final List<PreparedRule> rules;
+
+        private PreparedValidation(List<PreparedRule> rules) {
+            this.rules = rules;
+        }
+
+        /**
+         * Digest algorithms which the rules need to be calculated while the CSAR is unpacked.
+         */
+        Collection<String> getDigestAlgorithms() {
+            return getCommands().flatMap(cmd -> cmd.getDigestAlgorithms().stream())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+
+        /**
+         * Paths of the definition YAML which the rules need.
+         */
+        Collection<String> getDefinitionYamlPaths() {
+            return getCommands().flatMap(cmd -> cmd.getDefinitionYamlPaths().stream())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+
+        /**
+         * Executes the rules against the given archive, parsed once for all of them,
+         * or lets every rule unpack the CSAR on its own when the archive is null.
+         */
+        Pair<Boolean, List<VTPValidateCSAR.CSARValidation.Result>> validate(CSARArchive csar) {
+            boolean overallPass = true;
+            List<VTPValidateCSAR.CSARValidation.Result> results = new ArrayList<>();
+
+            for (PreparedRule rule : rules) {
+                final Pair<Boolean, List<VTPValidateCSAR.CSARValidation.Result>> pair = executeValidation(ignoreCodes, rule, csar);
+                overallPass &= pair.getLeft();
+                results.addAll(pair.getRight());
+            }
+
+            return Pair.of(overallPass, results);
+        }
+
+        private Stream<Command> getCommands() {
+            return rules.stream().map(rule -> rule.cmd).filter(Objects::nonNull);
+        }
+    }
+
+    private static class PreparedRule {
+        private final String reqName;
+        private final Command cmd;
+        private final Exception failure;
+
+        private PreparedRule(String reqName, Command cmd, Exception failure) {
+            this.reqName = reqName;
+            this.cmd = cmd;
+            this.failure = failure;
+        }
+    }
+
     public static class ValidationContext {
         private final String pathToCsar;
         private final String product;
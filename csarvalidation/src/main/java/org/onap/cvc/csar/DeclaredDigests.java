@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.onap.cvc.csar.parser.SourcesParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Digests the manifest of a CSAR declares for its <i>Source</i> entries, read from the archive before it is extracted.
+ * Only the declared artifacts are hashed while they are extracted, and only with the algorithm declared for them.
+ * The manifest is found the same way {@link CSARArchive} finds it: it is the one named by the <i>Entry-Manifest</i>
+ * (or <i>ETSI-Entry-Manifest</i>) of TOSCA.meta or, without TOSCA.meta, the only <i>.mf</i> file in the root.
+ */
+final class DeclaredDigests {
+
+    static final DeclaredDigests NONE = new DeclaredDigests(Collections.emptyMap());
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeclaredDigests.class);
+
+    private static final String TOSCA_META = CSARArchive.TOSCA_METADATA + "/" + CSARArchive.TOSCA_METADATA_TOSCA_META;
+
+    private final Map<String, Set<String>> algorithmsByEntry;
+
+    private DeclaredDigests(Map<String, Set<String>> algorithmsByEntry) {
+        this.algorithmsByEntry = algorithmsByEntry;
+    }
+
+    /**
+     * Reads the declared digests, keeping only the supported algorithms.
+     * Entries with a signature are hashed with {@code signedEntriesAlgorithm} as well when it is given,
+     * so positive signature verifications can be looked up by the digest of the artifact.
+     */
+    static DeclaredDigests read(ZipFile csar, Collection<String> supportedAlgorithms, String signedEntriesAlgorithm) {
+        try {
+            final Optional<ZipEntry> manifest = findManifest(csar);
+            if (!manifest.isPresent()) {
+                return NONE;
+            }
+            final List<SourcesParser.Source> sources =
+                new SourcesParser(manifest.get().getName()).parse(readLines(csar, manifest.get())).getLeft();
+            final Map<String, Set<String>> algorithmsByEntry = new HashMap<>();
+            for (SourcesParser.Source source : sources) {
+                final Set<String> algorithms = new LinkedHashSet<>();
+                findSupported(source.getAlgorithm(), supportedAlgorithms).ifPresent(algorithms::add);
+                if (signedEntriesAlgorithm != null && source.getSignature() != null && !source.getSignature().isEmpty()) {
+                    findSupported(signedEntriesAlgorithm, supportedAlgorithms).ifPresent(algorithms::add);
+                }
+                if (!algorithms.isEmpty()) {
+                    algorithmsByEntry.computeIfAbsent(normalize(source.getValue()), key -> new LinkedHashSet<>())
+                        .addAll(algorithms);
+                }
+            }
+            return new DeclaredDigests(algorithmsByEntry);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Unable to read digests declared by the manifest of {}, artifacts are not hashed while extracted",
+                csar.getName(), e);
+            return NONE;
+        }
+    }
+
+    boolean isEmpty() {
+        return algorithmsByEntry.isEmpty();
+    }
+
+    Collection<String> getAlgorithms(String entryName) {
+        return algorithmsByEntry.getOrDefault(normalize(entryName), Collections.emptySet());
+    }
+
+    private static Optional<ZipEntry> findManifest(ZipFile csar) throws IOException {
+        final ZipEntry toscaMeta = csar.getEntry(TOSCA_META);
+        if (toscaMeta == null) {
+            final List<ZipEntry> manifests = csar.stream()
+                .filter(entry -> !entry.isDirectory() && entry.getName().indexOf('/') < 0
+                    && entry.getName().endsWith(CSARArchive.MF))
+                .collect(Collectors.toList());
+            return manifests.size() == 1 ? Optional.of(manifests.get(0)) : Optional.empty();
+        }
+        for (String line : readLines(csar, toscaMeta)) {
+            final String trimmed = line.trim();
+            final Optional<Pair<String, String>> entry = CSARArchive.isToscaMetaEntry(trimmed)
+                ? CSARArchive.parseToscaMetaEntry(trimmed)
+                : Optional.empty();
+            if (entry.isPresent() && isEntryManifest(entry.get().getKey())) {
+                return Optional.ofNullable(csar.getEntry(normalize(entry.get().getValue())));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The type of the package is not known before it is extracted, so the manifest entries of both
+     * {@link CSARArchive} and {@link PnfCSARArchive} are accepted.
+     */
+    private static boolean isEntryManifest(String key) {
+        return key.equalsIgnoreCase(CSARArchive.TOSCA_METADATA_TOSCA_META_ENTRY_MANIFEST)
+            || key.equalsIgnoreCase(CSARArchive.TOSCA_METADATA_TOSCA_META_ETSI_ENTRY_MANIFEST);
+    }
+
+    private static List<String> readLines(ZipFile csar, ZipEntry entry) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(csar.getInputStream(entry), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+
+    private static Optional<String> findSupported(String algorithm, Collection<String> supportedAlgorithms) {
+        return supportedAlgorithms.stream().filter(supported -> supported.equalsIgnoreCase(algorithm)).findFirst();
+    }
+
+    private static String normalize(String entryName) {
+        try {
+            return Paths.get(entryName).normalize().toString().replace('\\', '/');
+        } catch (InvalidPathException e) {
+            return entryName;
+        }
+    }
+}
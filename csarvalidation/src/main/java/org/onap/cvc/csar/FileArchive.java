@@ -17,6 +17,10 @@
 
 package org.onap.cvc.csar;
 
+import org.onap.cvc.csar.security.ArtifactDigestStore;
+import org.onap.cvc.csar.security.ShaHashCodeGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
@@ -27,22 +31,56 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 
 public class FileArchive {
 
+    private static final Logger LOG = LoggerFactory.getLogger(FileArchive.class);
+
     private static final String ZIP_POSTFIX = "zip";
     private static final String CSAR_POSTFIX = ".csar";
     private static final String CERT_POSTFIX = ".cert";
     private static final String CMS_POSTFIX = ".cms";
+    private static final String WORKSPACE_PREFIX = "csar-";
     private final String tempDir;
+    private final Collection<String> digestAlgorithms;
+    private final ArtifactDigestStore digestStore;
+    private final Map<Path, Map<String, byte[]>> digests = new HashMap<>();
 
     FileArchive(String tempDir){
+        this(tempDir, Collections.emptyList());
+    }
+
+    /**
+     * Creates an archive which calculates digests of the extracted artifacts while they are inflated,
+     * so they do not have to be calculated by reading the files again.
+     * Only the <i>Source</i> entries of the CSAR manifest are hashed, with the algorithm the manifest declares
+     * for them if it is one of the given algorithms. The outer container of a ZIP package is not hashed.
+     */
+    FileArchive(String tempDir, Collection<String> digestAlgorithms){
+        this(tempDir, digestAlgorithms, ArtifactDigestStore.getInstance());
+    }
+
+    /**
+     * Creates an archive which takes digests of entries already seen from the given store
+     * instead of calculating them, and records digests of new entries there.
+     */
+    FileArchive(String tempDir, Collection<String> digestAlgorithms, ArtifactDigestStore digestStore){
         this.tempDir = tempDir;
+        this.digestAlgorithms = digestAlgorithms;
+        this.digestStore = digestStore;
     }
 
     Workspace unpack(String pathToFile) throws IOException {
@@ -51,17 +89,20 @@ public class FileArchive {
             throw new IllegalArgumentException(String.format("%s does not exist", fileArchive.getName()));
         }
 
-        String path = String.format("%s%s%d", tempDir, File.separator, System.currentTimeMillis());
-        Optional<Path> workspaceFolderPath = createWorkspaceFolder(path);
+        Optional<Path> workspaceFolderPath = createWorkspaceFolder();
         if(workspaceFolderPath.isPresent()) {
             final Path destination = workspaceFolderPath.get();
-            unzip(fileArchive, destination);
+            final boolean isZip = pathToFile.endsWith(ZIP_POSTFIX);
+            unzip(fileArchive, destination, !isZip);
 
-            if (pathToFile.endsWith(ZIP_POSTFIX)) {
-                return createZipWorkspace(path, destination);
+            final Workspace workspace;
+            if (isZip) {
+                workspace = createZipWorkspace(destination.toString(), destination);
             }else {
-                return Workspace.forCsar(destination);
+                workspace = Workspace.forCsar(destination);
             }
+            workspace.digests = Collections.unmodifiableMap(digests);
+            return workspace;
         }
 
         return Workspace.empty();
@@ -76,7 +117,7 @@ public class FileArchive {
         Path workspaceCsarPath = new File(String.format("%s%scsar", path, File.separator)).toPath();
         if (pathToCsarFile.isPresent()) {
             final Path csarFilePath = pathToCsarFile.get();
-            unzip(csarFilePath.toFile(), workspaceCsarPath);
+            unzip(csarFilePath.toFile(), workspaceCsarPath, true);
 
             return Workspace.forZip(
                     workspaceFolderPath,
@@ -100,17 +141,23 @@ public class FileArchive {
         }
     }
 
-    private Optional<Path> createWorkspaceFolder(String path) {
-        Path destination  = Paths.get(path);
-        if(destination.toFile().mkdirs()){
-            return Optional.of(destination);
+    /**
+     * Creates a new, uniquely named folder, so packages unpacked at the same time do not share it.
+     */
+    private Optional<Path> createWorkspaceFolder() {
+        try {
+            final Path parent = Files.createDirectories(Paths.get(tempDir));
+            return Optional.of(Files.createTempDirectory(parent, WORKSPACE_PREFIX));
+        } catch (IOException e) {
+            return Optional.empty();
         }
-
-        return Optional.empty();
     }
 
-    private void unzip(File file, Path destination) throws IOException {
+    private void unzip(File file, Path destination, boolean hashSources) throws IOException {
 
+        final Map<String, ZipEntry> centralDirectory = new HashMap<>();
+        final DeclaredDigests declaredDigests =
+            hashSources ? readDeclaredDigests(file, centralDirectory) : DeclaredDigests.NONE;
         try (ZipInputStream zipInputStream = new ZipInputStream(new BufferedInputStream(new FileInputStream(file)))){
 
             ZipEntry entry;
@@ -129,22 +176,121 @@ public class FileArchive {
                     if (parentPathFile != null) {
                         parentPathFile.mkdirs();// NOSONAR
                     }
-                    extract(zipInputStream, filePath);
+                    extract(zipInputStream, centralDirectory.getOrDefault(entry.getName(), entry), filePath,
+                        declaredDigests.getAlgorithms(entry.getName()));
                 }
             }
         }
     }
 
-    private void extract(ZipInputStream csar, File filePath) throws IOException {
+    /**
+     * Reads the digests declared by the manifest before the CSAR is extracted.
+     * CRC-32 and sizes of all entries are read up front as well when the digest store is used, because the local
+     * headers read while streaming do not contain them for entries written with a data descriptor.
+     */
+    private DeclaredDigests readDeclaredDigests(File file, Map<String, ZipEntry> centralDirectory) {
+        if (digestAlgorithms.isEmpty()) {
+            return DeclaredDigests.NONE;
+        }
+        try (ZipFile zipFile = new ZipFile(file)) {
+            final DeclaredDigests declaredDigests = DeclaredDigests.read(
+                zipFile, digestAlgorithms, digestStore.isEnabled() ? ShaHashCodeGenerator.SHA_256 : null);
+            if (digestStore.isEnabled() && !declaredDigests.isEmpty()) {
+                zipFile.stream().forEach(entry -> centralDirectory.put(entry.getName(), entry));
+            }
+            return declaredDigests;
+        } catch (IOException e) {
+            LOG.warn("Unable to read digests declared by the manifest of {}, artifacts are not hashed while extracted",
+                file, e);
+            return DeclaredDigests.NONE;
+        }
+    }
+
+    private void extract(ZipInputStream csar, ZipEntry entry, File filePath, Collection<String> algorithms)
+        throws IOException {
         byte[] buffer = new byte[2048];
+        final Optional<ArtifactDigestStore.StoredDigests> storedDigests = findStoredDigests(entry, algorithms);
+        final Map<String, MessageDigest> fileDigests =
+            storedDigests.isPresent() ? Collections.emptyMap() : createDigests(algorithms);
         try (FileOutputStream fos = new FileOutputStream(filePath);// NOSONAR
              BufferedOutputStream bos = new BufferedOutputStream(fos, buffer.length)) {
 
             int len;
             while ((len = csar.read(buffer)) > 0) {
                 bos.write(buffer, 0, len);
+                for (MessageDigest digest : fileDigests.values()) {
+                    digest.update(buffer, 0, len);
+                }
             }
         }
+        if (!algorithms.isEmpty()) {
+            final Path file = normalize(filePath.toPath());
+            digests.put(file, storedDigests.isPresent()
+                ? reuseStoredDigests(storedDigests.get(), entry, file, algorithms)
+                : finishDigests(fileDigests, entry, file));
+        }
+    }
+
+    private Optional<ArtifactDigestStore.StoredDigests> findStoredDigests(ZipEntry entry, Collection<String> algorithms) {
+        if (algorithms.isEmpty()) {
+            return Optional.empty();
+        }
+        return digestStore.find(toArtifactKey(entry)).filter(stored -> stored.containsAll(algorithms));
+    }
+
+    private Map<String, byte[]> reuseStoredDigests(ArtifactDigestStore.StoredDigests storedDigests,
+                                                   ZipEntry entry, Path file, Collection<String> algorithms)
+        throws IOException {
+        final Optional<Map<String, byte[]>> reused =
+            storedDigests.getDigests(ArtifactDigestStore.fingerprint(file), algorithms);
+        if (reused.isPresent()) {
+            return reused.get();
+        }
+        final ShaHashCodeGenerator generator = new ShaHashCodeGenerator();
+        final Map<String, byte[]> values = new HashMap<>();
+        for (String algorithm : algorithms) {
+            try {
+                values.put(algorithm, generator.digest(file, algorithm));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalArgumentException(String.format("Algorithm '%s' is not supported!", algorithm), e);
+            }
+        }
+        storeDigests(entry, file, values);
+        return values;
+    }
+
+    private Map<String, byte[]> finishDigests(Map<String, MessageDigest> fileDigests, ZipEntry entry, Path file)
+        throws IOException {
+        final Map<String, byte[]> values = new HashMap<>();
+        fileDigests.forEach((algorithm, digest) -> values.put(algorithm, digest.digest()));
+        storeDigests(entry, file, values);
+        return values;
+    }
+
+    private void storeDigests(ZipEntry entry, Path file, Map<String, byte[]> values) throws IOException {
+        if (digestStore.isEnabled()) {
+            digestStore.store(toArtifactKey(entry), ArtifactDigestStore.fingerprint(file), values);
+        }
+    }
+
+    private static ArtifactDigestStore.ArtifactKey toArtifactKey(ZipEntry entry) {
+        return ArtifactDigestStore.ArtifactKey.of(entry.getCrc(), entry.getSize(), entry.getCompressedSize());
+    }
+
+    private static Map<String, MessageDigest> createDigests(Collection<String> algorithms) {
+        final Map<String, MessageDigest> fileDigests = new LinkedHashMap<>();
+        for (String algorithm : algorithms) {
+            try {
+                fileDigests.put(algorithm, MessageDigest.getInstance(algorithm));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalArgumentException(String.format("Algorithm '%s' is not supported!", algorithm), e);
+            }
+        }
+        return fileDigests;
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
     }
 
     public static class Workspace{
@@ -154,6 +300,7 @@ public class FileArchive {
         private Path certFile;
         private Path cmsFile;
         private Path csarFile;
+        private Map<Path, Map<String, byte[]>> digests = Collections.emptyMap();
 
         private Workspace(boolean isZip, Path rootFolder,
                 Path pathToCsarFolder,
@@ -217,6 +364,18 @@ public class FileArchive {
         public Optional<Path> getPathToCsarFile() {
             return Optional.ofNullable(csarFile);
         }
+
+        /**
+         * Returns the digest of an extracted file calculated during extraction,
+         * if the archive was unpacked with the given algorithm.
+         */
+        public Optional<byte[]> getDigest(Path file, String algorithm) {
+            final Map<String, byte[]> fileDigests = digests.get(normalize(file));
+            if (fileDigests == null) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(fileDigests.get(algorithm)).map(byte[]::clone);
+        }
     }
 
 }
@@ -59,7 +59,7 @@ public class PnfCSARArchive extends CSARArchive {
 
     @Override
     String getEntryManifestParamName() {
-        return "ETSI-Entry-Manifest";
+        return TOSCA_METADATA_TOSCA_META_ETSI_ENTRY_MANIFEST;
     }
 
     @Override
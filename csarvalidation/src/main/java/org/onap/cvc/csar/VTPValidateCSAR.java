@@ -234,16 +234,21 @@ public class VTPValidateCSAR extends OnapCommand {
         boolean isPnf = (boolean) getParametersMap().get(PNF_ATTRIBUTE_NAME).getValue();
         String rulesToValidate = (String) getParametersMap().get(RULES_ATTRIBUTE_NAME).getValue();
 
+        String keyErrors = isPnf ? "pnferrors.ignored" : "vnferrors.ignored";
+        List<String> ignoreCodes = this.getPropertiesList(keyErrors);
+
+        //rule commands are created first, so the CSAR is unpacked and parsed once for all of them
+        final CsarValidator.PreparedValidation rules = prepare(
+                pathToCsarFile, release, isPnf, ignoreCodes, new RulesToValidate(rulesToValidate));
+
         boolean overallPass = true;
         try (CSARArchive csar = isPnf ? new PnfCSARArchive() : new CSARArchive()) {
-            csar.init(pathToCsarFile);
+            csar.init(pathToCsarFile, rules.getDigestAlgorithms());
+            csar.addDefinitionYamlPaths(rules.getDefinitionYamlPaths());
             csar.parse();
 
             CSARValidation validation = createCsarValidationFor(csar);
 
-            String keyErrors = isPnf ? "pnferrors.ignored" : "vnferrors.ignored";
-            List<String> ignoreCodes = this.getPropertiesList(keyErrors);
-
             //Add SOL004 error codes
             CSARValidation.Result resultSOL004 = new CSARValidation.Result();
             resultSOL004.setVnfreqName("SOL004");
@@ -259,8 +264,7 @@ public class VTPValidateCSAR extends OnapCommand {
 
             validation.getResults().add(resultSOL004);
 
-            final Pair<Boolean, List<CSARValidation.Result>> validationResult =
-                    validate(pathToCsarFile, release, isPnf, ignoreCodes, new RulesToValidate(rulesToValidate));
+            final Pair<Boolean, List<CSARValidation.Result>> validationResult = rules.validate(csar);
 
             overallPass &= validationResult.getLeft();
             validation.getResults().addAll(validationResult.getRight());
@@ -274,7 +278,7 @@ public class VTPValidateCSAR extends OnapCommand {
         }
     }
 
-    private Pair<Boolean,List<CSARValidation.Result>> validate(String path, String release, boolean isPnf, List<String> ignoreCodes, RulesToValidate rulesToValidate) {
+    private CsarValidator.PreparedValidation prepare(String path, String release, boolean isPnf, List<String> ignoreCodes, RulesToValidate rulesToValidate) {
         final String keyReqs = isPnf ? "pnfreqs.enabled" : "vnfreqs.enabled";
         final List<String> activeRules = this.getPropertiesList(keyReqs);
         final String releasesOrder = PROPERTIES.getProperty("releases.order");
@@ -282,7 +286,7 @@ public class VTPValidateCSAR extends OnapCommand {
         final String product = this.getInfo().getProduct();
 
         return new CsarValidator(new CommandFactory(), ignoreCodes, activeRules, releasesResolver, rulesToValidate)
-                .validate(new CsarValidator.ValidationContext(path, product, release, isPnf));
+                .prepare(new CsarValidator.ValidationContext(path, product, release, isPnf));
     }
 
     static CSARValidation createCsarValidationFor(CSARArchive csar) {
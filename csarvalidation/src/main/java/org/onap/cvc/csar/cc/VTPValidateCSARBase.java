@@ -27,6 +27,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 public abstract class VTPValidateCSARBase extends OnapCommand {
@@ -34,33 +36,46 @@ public abstract class VTPValidateCSARBase extends OnapCommand {
 
     protected List<CSARError> errors = new ArrayList<>();
 
+    private CSARArchive sharedCsar;
+
     protected abstract void validateCSAR(CSARArchive csar) throws Exception; //NOSONAR
 
     protected abstract String getVnfReqsNo();
 
+    /**
+     * Paths of the definition YAML the rule needs on top of {@link CSARArchive#DEFINITION_YAML_PROJECTION}.
+     */
+    public Collection<String> getDefinitionYamlPaths() {
+        return Collections.emptyList();
+    }
 
+    /**
+     * Digest algorithms which should be applied to every file while the CSAR is unpacked.
+     */
+    public Collection<String> getDigestAlgorithms() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Validates the given archive instead of unpacking and parsing the CSAR again.
+     * The archive has to be initialized with the {@link #getDigestAlgorithms()} and the
+     * {@link #getDefinitionYamlPaths()} of the rule; the caller closes it.
+     */
+    public void setCsarArchive(CSARArchive csar) {
+        this.sharedCsar = csar;
+    }
 
     @Override
     protected void run() throws OnapCommandException {
-        //Read the input arguments
-        String path = (String) getParametersMap().get("csar").getValue();
-        boolean isPnf = isPnf();
-
         //execute
-        try (CSARArchive csar = isPnf ? new PnfCSARArchive(): new CSARArchive()){
-
-            csar.init(path);
-            csar.parse();
-
-            errors.addAll(csar.getErrors());
-
-            this.validateCSAR(csar);
-
-        } catch (Exception e) {
-            String errorMsg = this.getVnfReqsNo() + ": Failed to validate CSAR " + e;
-            throw new OnapCommandExecutionFailed(errorMsg);
+        if (this.sharedCsar != null) {
+            validate(this.sharedCsar);
+        } else {
+            validateOwnCsar();
         }
 
+        //errors of a shared archive must not carry the number of this rule into the other rules
+        this.errors.replaceAll(CSARError::copy);
         for (CSARError e: this.errors) {
             e.setVnfreqNo(this.getVnfReqsNo());
             this.getResult().getRecordsMap().get("code").getValues().add(this.getVnfReqsNo() + "-" + e.getCode());
@@ -73,6 +88,41 @@ public abstract class VTPValidateCSARBase extends OnapCommand {
         this.getResult().setPassed(this.errors.isEmpty());
    }
 
+    private void validateOwnCsar() throws OnapCommandExecutionFailed {
+        //Read the input arguments
+        String path = (String) getParametersMap().get("csar").getValue();
+        boolean isPnf = isPnf();
+
+        try (CSARArchive csar = isPnf ? new PnfCSARArchive(): new CSARArchive()){
+
+            csar.init(path, getDigestAlgorithms());
+            csar.addDefinitionYamlPaths(getDefinitionYamlPaths());
+            csar.parse();
+
+            validate(csar);
+
+        } catch (OnapCommandExecutionFailed e) {
+            throw e;
+        } catch (Exception e) {
+            throw validationFailed(e);
+        }
+    }
+
+    private void validate(CSARArchive csar) throws OnapCommandExecutionFailed {
+        try {
+            errors.addAll(csar.getErrors());
+
+            this.validateCSAR(csar);
+        } catch (Exception e) {
+            throw validationFailed(e);
+        }
+    }
+
+    private OnapCommandExecutionFailed validationFailed(Exception e) {
+        String errorMsg = this.getVnfReqsNo() + ": Failed to validate CSAR " + e;
+        return new OnapCommandExecutionFailed(errorMsg);
+    }
+
     private boolean isPnf() {
         final OnapCommandParameter pnf = getParametersMap().get("pnf");
         return pnf != null && (boolean) pnf.getValue();
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.cvc.csar.cc.sol001;
+
+import org.onap.cvc.csar.CSARArchive.CSARError;
+
+/**
+ * Declares that a definition YAML has to contain at least one node template of the given TOSCA type.
+ * When it does not, the error created by the factory is reported for the requirement.
+ */
+public final class TypePresenceRequirement {
+
+    @FunctionalInterface
+    public interface ErrorFactory {
+        CSARError create(String definitionYaml, String entry);
+    }
+
+    private final String vnfReqsNo;
+    private final String type;
+    private final String entry;
+    private final ErrorFactory errorFactory;
+
+    private TypePresenceRequirement(String vnfReqsNo, String type, String entry, ErrorFactory errorFactory) {
+        this.vnfReqsNo = vnfReqsNo;
+        this.type = type;
+        this.entry = entry;
+        this.errorFactory = errorFactory;
+    }
+
+    public static TypePresenceRequirement of(String vnfReqsNo, String type, String entry, ErrorFactory errorFactory) {
+        return new TypePresenceRequirement(vnfReqsNo, type, entry, errorFactory);
+    }
+
+    public String getVnfReqsNo() {
+        return vnfReqsNo;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getEntry() {
+        return entry;
+    }
+
+    CSARError createError(String definitionYaml) {
+        return errorFactory.create(definitionYaml, entry);
+    }
+}
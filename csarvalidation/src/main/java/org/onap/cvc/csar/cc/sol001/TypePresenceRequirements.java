@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.cvc.csar.cc.sol001;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * All type-presence requirements declared by the SOL001 rules, compiled into a single engine.
+ */
+public final class TypePresenceRequirements {
+
+    public static final List<TypePresenceRequirement> ALL = Collections.unmodifiableList(concat(
+            VTPValidateCSARR02454.REQUIREMENTS,
+            VTPValidateCSARR09467.REQUIREMENTS,
+            VTPValidateCSARR32155.REQUIREMENTS,
+            VTPValidateCSARR35851.REQUIREMENTS,
+            VTPValidateCSARR54356.REQUIREMENTS,
+            VTPValidateCSARR67895.REQUIREMENTS,
+            VTPValidateCSARR95321.REQUIREMENTS));
+
+    public static final TypePresenceRuleEngine ENGINE = TypePresenceRuleEngine.compile(ALL);
+
+    private TypePresenceRequirements() {
+    }
+
+    @SafeVarargs
+    private static List<TypePresenceRequirement> concat(List<TypePresenceRequirement>... requirements) {
+        final List<TypePresenceRequirement> all = new ArrayList<>();
+        Arrays.stream(requirements).forEach(all::addAll);
+        return all;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.cvc.csar.cc.sol001;
+
+import org.onap.cvc.csar.CSARArchive.CSARError;
+import org.onap.cvc.csar.parser.vnf.NodeTemplateTypeIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates a set of {@link TypePresenceRequirement}s against the node templates of a definition YAML.
+ * A requirement is satisfied by a node template of the required type or of a type derived from it.
+ * Declarations are compiled once into an index by requirement id, so a rule evaluates just the requirements
+ * it declares, and errors are reported in declaration order.
+ */
+public final class TypePresenceRuleEngine {
+
+    private final List<TypePresenceRequirement> requirements;
+    private final Map<String, int[]> requirementsById;
+
+    private TypePresenceRuleEngine(List<TypePresenceRequirement> requirements, Map<String, int[]> requirementsById) {
+        this.requirements = requirements;
+        this.requirementsById = requirementsById;
+    }
+
+    public static TypePresenceRuleEngine compile(List<TypePresenceRequirement> requirements) {
+        final List<TypePresenceRequirement> declarations = Collections.unmodifiableList(new ArrayList<>(requirements));
+        final Map<String, List<Integer>> indicesById = new LinkedHashMap<>();
+        for (int i = 0; i < declarations.size(); i++) {
+            indicesById.computeIfAbsent(declarations.get(i).getVnfReqsNo(), key -> new ArrayList<>()).add(i);
+        }
+        return new TypePresenceRuleEngine(declarations, toArrays(indicesById));
+    }
+
+    private static Map<String, int[]> toArrays(Map<String, List<Integer>> indices) {
+        final Map<String, int[]> arrays = new HashMap<>();
+        indices.forEach((key, values) -> arrays.put(key, values.stream().mapToInt(Integer::intValue).toArray()));
+        return arrays;
+    }
+
+    /**
+     * Returns the errors of the unsatisfied requirements of a single rule, without evaluating the other rules.
+     */
+    public List<CSARError> evaluate(String vnfReqsNo, NodeTemplateTypeIndex nodeTypes, String definitionYaml) {
+        final int[] indices = requirementsById.get(vnfReqsNo);
+        if (indices == null) {
+            return Collections.emptyList();
+        }
+        final List<CSARError> errors = new ArrayList<>();
+        for (int index : indices) {
+            final TypePresenceRequirement requirement = requirements.get(index);
+            if (!nodeTypes.hasNodeDerivedFrom(requirement.getType())) {
+                errors.add(requirement.createError(definitionYaml));
+            }
+        }
+        return errors;
+    }
+}
@@ -16,17 +16,14 @@
 
 package org.onap.cvc.csar.cc.sol001;
 
-import java.io.FileInputStream;
-import java.util.Map;
-
 import org.onap.cli.fw.schema.OnapCommandSchema;
-import org.onap.cvc.csar.CSARArchive;
 import org.onap.cvc.csar.CSARArchive.CSARErrorEntryMissing;
-import org.onap.cvc.csar.cc.VTPValidateCSARBase;
-import org.yaml.snakeyaml.Yaml;
+
+import java.util.Arrays;
+import java.util.List;
 
 @OnapCommandSchema(schema = "vtp-validate-csar-r02454.yaml")
-public class VTPValidateCSARR02454 extends VTPValidateCSARBase {
+public class VTPValidateCSARR02454 extends VTPValidateCSARTypePresenceBase {
 
     public static class CSARErrorEntryMissingSwImage extends CSARErrorEntryMissing {
         public CSARErrorEntryMissingSwImage(String defYaml, String entry) {
@@ -35,36 +32,12 @@ public class VTPValidateCSARR02454 extends VTPValidateCSARBase {
         }
     }
 
+    static final List<TypePresenceRequirement> REQUIREMENTS = Arrays.asList(
+            TypePresenceRequirement.of("R02454", "tosca.artifacts.nfv.SwImage", "Software Image",
+                    CSARErrorEntryMissingSwImage::new));
+
     @Override
     protected String getVnfReqsNo() {
         return "R02454";
     }
-
-    @Override
-    protected void validateCSAR(CSARArchive csar) throws Exception {
-        try(FileInputStream ipStream = new FileInputStream(csar.getDefinitionYamlFile())) {
-            Map<String, ?> yaml = (Map<String, ?>) new Yaml().load(ipStream);
-            yaml = (Map<String, ?>) yaml.get("topology_template");
-            Map<String, ?> nodeTmpls = (Map<String,?>) yaml.get("node_templates");
-
-            boolean vlExist = false;
-
-            for (Object nodeO: nodeTmpls.values()) {
-                Map<String, ?> node = (Map<String, ?>) nodeO;
-                if (node.containsKey("type")) {
-                    String type = (String)node.get("type");
-                    if (type.equalsIgnoreCase("tosca.artifacts.nfv.SwImage")) {
-                        vlExist = true;
-                        break;
-                    }
-                }
-            }
-
-            if (!vlExist) {
-                this.errors.add(new CSARErrorEntryMissingSwImage(
-                    csar.getDefinitionYamlFile().getName(),
-                    "Software Image"));
-            }
-        }
-    }
 }
@@ -16,17 +16,14 @@ x * Copyright 2017 Huawei Technologies Co., Ltd.
 
 package org.onap.cvc.csar.cc.sol001;
 
-import java.io.FileInputStream;
-import java.util.Map;
-
 import org.onap.cli.fw.schema.OnapCommandSchema;
-import org.onap.cvc.csar.CSARArchive;
 import org.onap.cvc.csar.CSARArchive.CSARErrorEntryMissing;
-import org.onap.cvc.csar.cc.VTPValidateCSARBase;
-import org.yaml.snakeyaml.Yaml;
+
+import java.util.Arrays;
+import java.util.List;
 
 @OnapCommandSchema(schema = "vtp-validate-csar-r09467.yaml")
-public class VTPValidateCSARR09467 extends VTPValidateCSARBase {
+public class VTPValidateCSARR09467 extends VTPValidateCSARTypePresenceBase {
 
     public static class CSARErrorEntryMissingVDUCompute extends CSARErrorEntryMissing {
         public CSARErrorEntryMissingVDUCompute(String defYaml, String entry) {
@@ -42,43 +39,11 @@ public class VTPValidateCSARR09467 extends VTPValidateCSARBase {
         }
     }
 
-    @Override
-    protected void validateCSAR(CSARArchive csar) throws Exception {
-        try(FileInputStream ipStream = new FileInputStream(csar.getDefinitionYamlFile())) {
-            Map<String, ?> yaml = (Map<String, ?>) new Yaml().load(ipStream);
-            yaml = (Map<String, ?>) yaml.get("topology_template");
-            Map<String, ?> nodeTmpls = (Map<String,?>) yaml.get("node_templates");
-
-            boolean computeExist = false;
-            boolean storageExist = false;
-
-            for (Object nodeO: nodeTmpls.values()) {
-                Map<String, ?> node = (Map<String, ?>) nodeO;
-                if (node.containsKey("type")) {
-                    String type = (String)node.get("type");
-                    if ("tosca.nodes.nfv.VDU.Compute".equalsIgnoreCase(type)) {
-                        computeExist = true;
-
-                    }
-
-                    if ("tosca.nodes.nfv.VDU.VirtualStorage".equalsIgnoreCase(type)) {
-                        storageExist = true;
-
-                    }
-                }
-            }
-
-            if (!computeExist)
-                this.errors.add(new CSARErrorEntryMissingVDUCompute(
-                    csar.getDefinitionYamlFile().getName(),
-                    "VDU Compute"));
-
-            if (!storageExist)
-                this.errors.add(new CSARErrorEntryMissingVDUVirtualStorage(
-                        csar.getDefinitionYamlFile().getName(),
-                        "VirtualStorage"));
-        }
-    }
+    static final List<TypePresenceRequirement> REQUIREMENTS = Arrays.asList(
+            TypePresenceRequirement.of("R09467", "tosca.nodes.nfv.VDU.Compute", "VDU Compute",
+                    CSARErrorEntryMissingVDUCompute::new),
+            TypePresenceRequirement.of("R09467", "tosca.nodes.nfv.VDU.VirtualStorage", "VirtualStorage",
+                    CSARErrorEntryMissingVDUVirtualStorage::new));
 
     @Override
     protected String getVnfReqsNo() {
@@ -18,14 +18,12 @@ package org.onap.cvc.csar.cc.sol001;
 
 import org.onap.cli.fw.schema.OnapCommandSchema;
 import org.onap.cvc.csar.CSARArchive;
-import org.onap.cvc.csar.cc.VTPValidateCSARBase;
-import org.yaml.snakeyaml.Yaml;
 
-import java.io.FileInputStream;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.List;
 
 @OnapCommandSchema(schema = "vtp-validate-csar-r32155.yaml")
-public class VTPValidateCSARR32155 extends VTPValidateCSARBase {
+public class VTPValidateCSARR32155 extends VTPValidateCSARTypePresenceBase {
 
     public static class CSARErrorEntryMissingVirtualLink extends CSARArchive.CSARErrorEntryMissing {
         public CSARErrorEntryMissingVirtualLink(String entry, String file) {
@@ -34,52 +32,11 @@ public class VTPValidateCSARR32155 extends VTPValidateCSARBase {
         }
     }
 
-    @Override
-    protected void validateCSAR(CSARArchive csar) throws Exception {
-
-        try (FileInputStream ipStream = new FileInputStream(csar.getDefinitionYamlFile())) {
-
-            Map<String, ?> yaml = (Map<String, ?>) new Yaml().load(ipStream);
-            yaml = (Map<String, ?>) yaml.get("topology_template");
-            Map<String, ?> yamlTmpls = (Map<String, ?>) yaml.get("node_templates");
-
-            boolean []vlExist = new boolean[2];
-
-            for (Object node0 : yamlTmpls.values()) {
-
-                Map<String, ?> node = (Map<String, ?>) node0;
-
-                if (node.containsKey("type")) {
-                    String type = (String) node.get("type");
-
-                    if ("tosca.nodes.nfv.VnfVirtualLinkDesc".equalsIgnoreCase(type)) {
-
-                        vlExist[0] = true;
-                    }
-
-                    if ("tosca.capabilities.nfv.VirtualLinkable".equalsIgnoreCase(type)) {
-
-                        vlExist[1] = true;
-                    }
-                }
-            }
-
-            if (!vlExist[0]) {
-                this.errors.add(
-                        new CSARErrorEntryMissingVirtualLink(
-                                "Virtual",
-                                csar.getDefinitionYamlFile().getName()));
-            }
-
-            if (!vlExist[1]) {
-                this.errors.add(
-                        new CSARErrorEntryMissingVirtualLink(
-                                "Virtual",
-                                csar.getDefinitionYamlFile().getName()));
-            }
-        }
-
-    }
+    static final List<TypePresenceRequirement> REQUIREMENTS = Arrays.asList(
+            TypePresenceRequirement.of("R32155", "tosca.nodes.nfv.VnfVirtualLinkDesc", "Virtual",
+                    (definitionYaml, entry) -> new CSARErrorEntryMissingVirtualLink(entry, definitionYaml)),
+            TypePresenceRequirement.of("R32155", "tosca.capabilities.nfv.VirtualLinkable", "Virtual",
+                    (definitionYaml, entry) -> new CSARErrorEntryMissingVirtualLink(entry, definitionYaml)));
 
     @Override
     protected String getVnfReqsNo() {
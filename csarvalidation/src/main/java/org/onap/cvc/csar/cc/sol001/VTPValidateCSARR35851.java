@@ -16,17 +16,14 @@
 
 package org.onap.cvc.csar.cc.sol001;
 
-import java.io.FileInputStream;
-import java.util.Map;
-
 import org.onap.cli.fw.schema.OnapCommandSchema;
-import org.onap.cvc.csar.CSARArchive;
 import org.onap.cvc.csar.CSARArchive.CSARErrorEntryMissing;
-import org.onap.cvc.csar.cc.VTPValidateCSARBase;
-import org.yaml.snakeyaml.Yaml;
+
+import java.util.Arrays;
+import java.util.List;
 
 @OnapCommandSchema(schema = "vtp-validate-csar-r35851.yaml")
-public class VTPValidateCSARR35851 extends VTPValidateCSARBase {
+public class VTPValidateCSARR35851 extends VTPValidateCSARTypePresenceBase {
 
     private static final String SET_CODE = "0x1000";
 
@@ -52,54 +49,13 @@ public class VTPValidateCSARR35851 extends VTPValidateCSARBase {
         }
     }
 
-    @Override
-    protected void validateCSAR(CSARArchive csar) throws Exception {
-        try(FileInputStream ipStream = new FileInputStream(csar.getDefinitionYamlFile())) {
-            Map<String, ?> yaml = (Map<String, ?>) new Yaml().load(ipStream);
-            yaml = (Map<String, ?>) yaml.get("topology_template");
-            Map<String, ?> nodeTmpls = (Map<String,?>) yaml.get("node_templates");
-
-            boolean[] vlExist = new boolean[3];
-
-            for (Object nodeO: nodeTmpls.values()) {
-                Map<String, ?> node = (Map<String, ?>) nodeO;
-                if (node.containsKey("type")) {
-                    String type = (String)node.get("type");
-                    if ("tosca.nodes.nfv.VnfVirtualLink".equalsIgnoreCase(type)) {
-                        vlExist[0] = true;
-
-                    }
-
-                    if ("tosca.nodes.nfv.VduCp".equalsIgnoreCase(type)) {
-                        vlExist[1] = true;
-
-                    }
-
-                    if ("tosca.nodes.nfv.VnfExtCp".equalsIgnoreCase(type)) {
-                        vlExist[2] = true;
-
-                    }
-                }
-            }
-
-            if (!vlExist[0])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamlVnfVirtualLink(
-                    csar.getDefinitionYamlFile().getName(),
-                    "nodes VnfVirtualLink"));
-
-
-            if (!vlExist[1])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamlVduCp(
-                        csar.getDefinitionYamlFile().getName(),
-                        "nodes VduCp"));
-
-            if (!vlExist[2])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamlVnfExtCp(
-                        csar.getDefinitionYamlFile().getName(),
-                        "nodes VnfExtCp"));
-        }
-
-    }
+    static final List<TypePresenceRequirement> REQUIREMENTS = Arrays.asList(
+            TypePresenceRequirement.of("R35851", "tosca.nodes.nfv.VnfVirtualLink", "nodes VnfVirtualLink",
+                    CSARErrorEntryMissingDefinitionYamlVnfVirtualLink::new),
+            TypePresenceRequirement.of("R35851", "tosca.nodes.nfv.VduCp", "nodes VduCp",
+                    CSARErrorEntryMissingDefinitionYamlVduCp::new),
+            TypePresenceRequirement.of("R35851", "tosca.nodes.nfv.VnfExtCp", "nodes VnfExtCp",
+                    CSARErrorEntryMissingDefinitionYamlVnfExtCp::new));
 
     @Override
     protected String getVnfReqsNo() {
@@ -18,14 +18,12 @@ package org.onap.cvc.csar.cc.sol001;
 
 import org.onap.cli.fw.schema.OnapCommandSchema;
 import org.onap.cvc.csar.CSARArchive;
-import org.onap.cvc.csar.cc.VTPValidateCSARBase;
-import org.yaml.snakeyaml.Yaml;
 
-import java.io.FileInputStream;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.List;
 
 @OnapCommandSchema(schema = "vtp-validate-csar-r54356.yaml")
-public class VTPValidateCSARR54356 extends VTPValidateCSARBase {
+public class VTPValidateCSARR54356 extends VTPValidateCSARTypePresenceBase {
     private static final String SET_CODE = "0x1000";
     public static class CSARErrorEntryMissingDefinitionYamldatatypesL3AddressData extends CSARArchive.CSARErrorEntryMissing {
         public CSARErrorEntryMissingDefinitionYamldatatypesL3AddressData(String defYaml, String entry) {
@@ -195,261 +193,55 @@ public class VTPValidateCSARR54356 extends VTPValidateCSARBase {
         }
     }
 
-    @Override
-    protected void validateCSAR(CSARArchive csar) throws Exception {
-        try (FileInputStream ipStream = new FileInputStream(csar.getDefinitionYamlFile())) {
-            Map<String, ?> yaml = (Map<String, ?>) new Yaml().load(ipStream);
-            yaml = (Map<String, ?>) yaml.get("topology_template");
-            Map<String, ?> nodeTmpls = (Map<String, ?>) yaml.get("node_templates");
-
-            boolean []vlExist = new boolean[30];
-
-            for (Object nodeO : nodeTmpls.values()) {
-                Map<String, ?> node = (Map<String, ?>) nodeO;
-                if (node.containsKey("type")) {
-                    String type = (String) node.get("type");
-                    if ("tosca.datatypes.nfv.L3AddressData".equalsIgnoreCase(type)) {
-                        vlExist[0] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.AddressData".equalsIgnoreCase(type)) {
-                        vlExist[1] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.VirtualNetworkInterfaceRequirements".equalsIgnoreCase(type)) {
-                        vlExist[2] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.ConnectivityType".equalsIgnoreCase(type)) {
-                        vlExist[3] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.RequestedAdditionalCapability".equalsIgnoreCase(type)) {
-                        vlExist[4] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.VirtualMemory".equalsIgnoreCase(type)) {
-                        vlExist[5] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.VirtualCpu".equalsIgnoreCase(type)) {
-                        vlExist[6] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.VirtualCpuPinning".equalsIgnoreCase(type)) {
-                        vlExist[7] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.VnfcConfigurableProperties".equalsIgnoreCase(type)) {
-                        vlExist[8] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.VduProfile".equalsIgnoreCase(type)) {
-                        vlExist[9] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.VlProfile".equalsIgnoreCase(type)) {
-                        vlExist[10] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.InstantiationLevel".equalsIgnoreCase(type)) {
-                        vlExist[11] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.VduLevel".equalsIgnoreCase(type)) {
-                        vlExist[12] = true;
-
-                    }
-                    if ("tosca.datatypes.nfv.ScaleInfo".equalsIgnoreCase(type)) {
-                        vlExist[13] = true;
-
-                    }
-                    if ("tosca.datatypes.nfv.injectFile".equalsIgnoreCase(type)) {
-                        vlExist[14] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.ScalingAspect".equalsIgnoreCase(type)) {
-                        vlExist[15] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.LinkBitRateRequirements".equalsIgnoreCase(type)) {
-                        vlExist[16] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.Qos".equalsIgnoreCase(type)) {
-                        vlExist[17] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.CpProtocolData".equalsIgnoreCase(type)) {
-                        vlExist[18] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.VnfConfigurableProperties".equalsIgnoreCase(type)) {
-                        vlExist[19] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.VnfAdditionalConfigurableProperties".equalsIgnoreCase(type)) {
-                        vlExist[20] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.VnfInfoModifiableAttributes".equalsIgnoreCase(type)) {
-                        vlExist[21] = true;
-
-                    }
-
-                    if ("tosca.datatypes.nfv.VnfInfoModifiableAttributesExtensions".equalsIgnoreCase(type)) {
-                        vlExist[22] = true;
-
-                    }
-                    if ("tosca.datatypes.nfv.VnfInfoModifiableAttributesMetadata".equalsIgnoreCase(type)) {
-                        vlExist[23] = true;
-
-                    }
-
-                }
-            }
-
-            if (!vlExist[0])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesL3AddressData(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes L3AddressData"));
-
-
-            if (!vlExist[1])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesAddressData(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes AddressData"));
-
-            if (!vlExist[2])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesVirtualNetworkInterfaceRequirements(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes VirtualNetworkInterfaceRequirements"));
-
-            if (!vlExist[3])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesConnectivityType(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes ConnectivityType"));
-
-            if (!vlExist[4])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesRequestedAdditionalCapability(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes RequestedAdditionalCapability"));
-
-            if (!vlExist[5])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesVirtualMemory(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes VirtualMemory"));
-
-            if (!vlExist[6])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesVirtualCpu(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes VirtualCpu"));
-
-            if (!vlExist[7])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesVirtualCpuPinning(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes VirtualCpuPinning"));
-
-            if (!vlExist[8])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesVnfcConfigurableProperties(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes VnfcConfigurableProperties"));
-
-            if (!vlExist[9])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesVduProfile(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes VduProfile"));
-
-            if (!vlExist[10])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesVlProfile(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes VlProfile"));
-
-            if (!vlExist[11])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesInstantiationLevel(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes InstantiationLevel"));
-
-            if (!vlExist[12])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesVduLevel(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes VduLevel"));
-
-            if (!vlExist[13])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesScaleInfo(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes ScaleInfo"));
-
-            if (!vlExist[14])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesinjectFile(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes injectFile"));
-
-            if (!vlExist[15])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesScalingAspect(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes ScalingAspect"));
-
-            if (!vlExist[16])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesLinkBitRateRequirements(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes LinkBitRateRequirements"));
-
-            if (!vlExist[17])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesQos(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes Qos"));
-
-            if (!vlExist[18])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesCpProtocolData(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes CpProtocolData"));
-
-            if (!vlExist[19])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesVnfConfigurableProperties(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes VnfConfigurableProperties"));
-
-            if (!vlExist[20])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesVnfAdditionalConfigurableProperties(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes VnfAdditionalConfigurableProperties"));
-
-            if (!vlExist[21])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesVnfInfoModifiableAttributes(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes VnfInfoModifiableAttributes"));
-
-            if (!vlExist[22])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesVnfInfoModifiableAttributesExtensions(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes VnfInfoModifiableAttributesExtensions"));
-
-            if (!vlExist[23])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamldatatypesVnfInfoModifiableAttributesMetadata(
-                        csar.getDefinitionYamlFile().getName(),
-                        "datatypes VnfInfoModifiableAttributesMetadata"));
-        }
-    }
+    static final List<TypePresenceRequirement> REQUIREMENTS = Arrays.asList(
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.L3AddressData", "datatypes L3AddressData",
+                    CSARErrorEntryMissingDefinitionYamldatatypesL3AddressData::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.AddressData", "datatypes AddressData",
+                    CSARErrorEntryMissingDefinitionYamldatatypesAddressData::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.VirtualNetworkInterfaceRequirements", "datatypes VirtualNetworkInterfaceRequirements",
+                    CSARErrorEntryMissingDefinitionYamldatatypesVirtualNetworkInterfaceRequirements::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.ConnectivityType", "datatypes ConnectivityType",
+                    CSARErrorEntryMissingDefinitionYamldatatypesConnectivityType::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.RequestedAdditionalCapability", "datatypes RequestedAdditionalCapability",
+                    CSARErrorEntryMissingDefinitionYamldatatypesRequestedAdditionalCapability::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.VirtualMemory", "datatypes VirtualMemory",
+                    CSARErrorEntryMissingDefinitionYamldatatypesVirtualMemory::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.VirtualCpu", "datatypes VirtualCpu",
+                    CSARErrorEntryMissingDefinitionYamldatatypesVirtualCpu::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.VirtualCpuPinning", "datatypes VirtualCpuPinning",
+                    CSARErrorEntryMissingDefinitionYamldatatypesVirtualCpuPinning::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.VnfcConfigurableProperties", "datatypes VnfcConfigurableProperties",
+                    CSARErrorEntryMissingDefinitionYamldatatypesVnfcConfigurableProperties::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.VduProfile", "datatypes VduProfile",
+                    CSARErrorEntryMissingDefinitionYamldatatypesVduProfile::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.VlProfile", "datatypes VlProfile",
+                    CSARErrorEntryMissingDefinitionYamldatatypesVlProfile::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.InstantiationLevel", "datatypes InstantiationLevel",
+                    CSARErrorEntryMissingDefinitionYamldatatypesInstantiationLevel::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.VduLevel", "datatypes VduLevel",
+                    CSARErrorEntryMissingDefinitionYamldatatypesVduLevel::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.ScaleInfo", "datatypes ScaleInfo",
+                    CSARErrorEntryMissingDefinitionYamldatatypesScaleInfo::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.injectFile", "datatypes injectFile",
+                    CSARErrorEntryMissingDefinitionYamldatatypesinjectFile::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.ScalingAspect", "datatypes ScalingAspect",
+                    CSARErrorEntryMissingDefinitionYamldatatypesScalingAspect::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.LinkBitRateRequirements", "datatypes LinkBitRateRequirements",
+                    CSARErrorEntryMissingDefinitionYamldatatypesLinkBitRateRequirements::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.Qos", "datatypes Qos",
+                    CSARErrorEntryMissingDefinitionYamldatatypesQos::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.CpProtocolData", "datatypes CpProtocolData",
+                    CSARErrorEntryMissingDefinitionYamldatatypesCpProtocolData::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.VnfConfigurableProperties", "datatypes VnfConfigurableProperties",
+                    CSARErrorEntryMissingDefinitionYamldatatypesVnfConfigurableProperties::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.VnfAdditionalConfigurableProperties", "datatypes VnfAdditionalConfigurableProperties",
+                    CSARErrorEntryMissingDefinitionYamldatatypesVnfAdditionalConfigurableProperties::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.VnfInfoModifiableAttributes", "datatypes VnfInfoModifiableAttributes",
+                    CSARErrorEntryMissingDefinitionYamldatatypesVnfInfoModifiableAttributes::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.VnfInfoModifiableAttributesExtensions", "datatypes VnfInfoModifiableAttributesExtensions",
+                    CSARErrorEntryMissingDefinitionYamldatatypesVnfInfoModifiableAttributesExtensions::new),
+            TypePresenceRequirement.of("R54356", "tosca.datatypes.nfv.VnfInfoModifiableAttributesMetadata", "datatypes VnfInfoModifiableAttributesMetadata",
+                    CSARErrorEntryMissingDefinitionYamldatatypesVnfInfoModifiableAttributesMetadata::new));
 
     @Override
     protected String getVnfReqsNo() {
@@ -18,14 +18,12 @@ package org.onap.cvc.csar.cc.sol001;
 
 import org.onap.cli.fw.schema.OnapCommandSchema;
 import org.onap.cvc.csar.CSARArchive;
-import org.onap.cvc.csar.cc.VTPValidateCSARBase;
-import org.yaml.snakeyaml.Yaml;
 
-import java.io.FileInputStream;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.List;
 
 @OnapCommandSchema(schema = "vtp-validate-csar-r67895.yaml")
-public class VTPValidateCSARR67895 extends VTPValidateCSARBase {
+public class VTPValidateCSARR67895 extends VTPValidateCSARTypePresenceBase {
 
     public static class CSARErrorEntryMissingDefinitionYamlcapabilitiesVirtualBindable extends CSARArchive.CSARErrorEntryMissing {
         public CSARErrorEntryMissingDefinitionYamlcapabilitiesVirtualBindable(String defYaml, String entry) {
@@ -41,43 +39,11 @@ public class VTPValidateCSARR67895 extends VTPValidateCSARBase {
         }
     }
 
-    @Override
-    protected void validateCSAR(CSARArchive csar) throws Exception {
-        try (FileInputStream ipStream = new FileInputStream(csar.getDefinitionYamlFile())) {
-            Map<String, ?> yaml = (Map<String, ?>) new Yaml().load(ipStream);
-            yaml = (Map<String, ?>) yaml.get("topology_template");
-            Map<String, ?> nodeTmpls = (Map<String, ?>) yaml.get("node_templates");
-
-            boolean []vlExist = new boolean[2];
-
-            for (Object nodeO : nodeTmpls.values()) {
-                Map<String, ?> node = (Map<String, ?>) nodeO;
-                if (node.containsKey("type")) {
-                    String type = (String) node.get("type");
-                    if ("tosca.capabilities.nfv.VirtualBindable".equalsIgnoreCase(type)) {
-                        vlExist[0] = true;
-
-                    }
-
-                    if ("tosca.capabilities.nfv.VirtualLinkable".equalsIgnoreCase(type)) {
-                        vlExist[1] = true;
-
-                    }
-                }
-            }
-
-            if (!vlExist[0])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamlcapabilitiesVirtualBindable(
-                        csar.getDefinitionYamlFile().getName(),
-                        "capabilities VirtualBindable"));
-
-
-            if (!vlExist[1])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamlcapabilitiesVirtualLinkable(
-                        csar.getDefinitionYamlFile().getName(),
-                        "capabilities VirtualLinkable"));
-        }
-    }
+    static final List<TypePresenceRequirement> REQUIREMENTS = Arrays.asList(
+            TypePresenceRequirement.of("R67895", "tosca.capabilities.nfv.VirtualBindable", "capabilities VirtualBindable",
+                    CSARErrorEntryMissingDefinitionYamlcapabilitiesVirtualBindable::new),
+            TypePresenceRequirement.of("R67895", "tosca.capabilities.nfv.VirtualLinkable", "capabilities VirtualLinkable",
+                    CSARErrorEntryMissingDefinitionYamlcapabilitiesVirtualLinkable::new));
 
     @Override
     protected String getVnfReqsNo() {
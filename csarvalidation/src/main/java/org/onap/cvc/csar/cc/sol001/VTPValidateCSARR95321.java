@@ -18,14 +18,12 @@ package org.onap.cvc.csar.cc.sol001;
 
 import org.onap.cli.fw.schema.OnapCommandSchema;
 import org.onap.cvc.csar.CSARArchive;
-import org.onap.cvc.csar.cc.VTPValidateCSARBase;
-import org.yaml.snakeyaml.Yaml;
 
-import java.io.FileInputStream;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.List;
 
 @OnapCommandSchema(schema = "vtp-validate-csar-r95321.yaml")
-public class VTPValidateCSARR95321 extends VTPValidateCSARBase {
+public class VTPValidateCSARR95321 extends VTPValidateCSARTypePresenceBase {
 
     public static class CSARErrorEntryMissingDefinitionYamlRelationshipsVirtualBindsTo extends CSARArchive.CSARErrorEntryMissing {
         public CSARErrorEntryMissingDefinitionYamlRelationshipsVirtualBindsTo(String defYaml, String entry) {
@@ -42,43 +40,11 @@ public class VTPValidateCSARR95321 extends VTPValidateCSARBase {
     }
 
 
-    @Override
-    protected void validateCSAR(CSARArchive csar) throws Exception {
-        try (FileInputStream ipStream = new FileInputStream(csar.getDefinitionYamlFile())) {
-            Map<String, ?> yaml = (Map<String, ?>) new Yaml().load(ipStream);
-            yaml = (Map<String, ?>) yaml.get("topology_template");
-            Map<String, ?> nodeTmpls = (Map<String, ?>) yaml.get("node_templates");
-
-            boolean []vlExist = new boolean[2];
-
-            for (Object nodeO : nodeTmpls.values()) {
-                Map<String, ?> node = (Map<String, ?>) nodeO;
-                if (node.containsKey("type")) {
-                    String type = (String) node.get("type");
-                    if ("tosca.relationships.nfv.VirtualBindsTo".equalsIgnoreCase(type)) {
-                        vlExist[0] = true;
-
-                    }
-
-                    if ("tosca.relationships.nfv.VirtualLinksTo".equalsIgnoreCase(type)) {
-                        vlExist[1] = true;
-
-                    }
-                }
-            }
-
-            if (!vlExist[0])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamlRelationshipsVirtualBindsTo(
-                        csar.getDefinitionYamlFile().getName(),
-                        "Relationships VirtualBindsTo"));
-
-
-            if (!vlExist[1])
-                this.errors.add(new CSARErrorEntryMissingDefinitionYamlRelationshipsVirtualLinksTo(
-                        csar.getDefinitionYamlFile().getName(),
-                        "RelationshipsRelationships VirtualLinksTo"));
-        }
-    }
+    static final List<TypePresenceRequirement> REQUIREMENTS = Arrays.asList(
+            TypePresenceRequirement.of("R95321", "tosca.relationships.nfv.VirtualBindsTo", "Relationships VirtualBindsTo",
+                    CSARErrorEntryMissingDefinitionYamlRelationshipsVirtualBindsTo::new),
+            TypePresenceRequirement.of("R95321", "tosca.relationships.nfv.VirtualLinksTo", "RelationshipsRelationships VirtualLinksTo",
+                    CSARErrorEntryMissingDefinitionYamlRelationshipsVirtualLinksTo::new));
 
     @Override
     protected String getVnfReqsNo() {
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.cvc.csar.cc.sol001;
+
+import org.onap.cvc.csar.CSARArchive;
+import org.onap.cvc.csar.cc.VTPValidateCSARBase;
+
+/**
+ * Base of the SOL001 rules which only check that node templates of some TOSCA types are present.
+ * The rules declare their requirements in {@link TypePresenceRequirements} and are evaluated by the shared engine.
+ */
+public abstract class VTPValidateCSARTypePresenceBase extends VTPValidateCSARBase {
+
+    @Override
+    protected void validateCSAR(CSARArchive csar) {
+        this.errors.addAll(TypePresenceRequirements.ENGINE.evaluate(
+                getVnfReqsNo(),
+                csar.getNodeTemplateTypeIndex(),
+                csar.getDefinitionYamlFile().getName()));
+    }
+}
@@ -24,13 +24,19 @@ import org.onap.cvc.csar.CSARArchive;
 import org.onap.cvc.csar.cc.VTPValidateCSARBase;
 import org.onap.cvc.csar.cc.sol004.r130206.CsarSecurityValidator;
 import org.onap.cvc.csar.cc.sol004.r130206.Error;
+import org.onap.cvc.csar.security.ShaHashCodeGenerator;
 
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @OnapCommandSchema(schema = "vtp-validate-csar-r130206.yaml")
 public class VTPValidateCSARR130206 extends VTPValidateCSARBase {
 
+    private static final List<String> DIGEST_ALGORITHMS =
+        Arrays.asList(ShaHashCodeGenerator.SHA_256, ShaHashCodeGenerator.SHA_512);
 
     @Override
     protected void validateCSAR(CSARArchive csar) throws OnapCommandException {
@@ -38,7 +44,8 @@ public class VTPValidateCSARR130206 extends VTPValidateCSARBase {
         try {
             final Optional<Path> pathToCsarFolder = getPathToCsar(csar);
             if (pathToCsarFolder.isPresent()) {
-                final CsarSecurityValidator csarSecurityValidator = new CsarSecurityValidator(csar, pathToCsarFolder.get());
+                final CsarSecurityValidator csarSecurityValidator = new CsarSecurityValidator(
+                    csar, pathToCsarFolder.get(), csar.getWorkspace()::getDigest);
                 this.errors.addAll(csarSecurityValidator.validate());
             } else {
                 this.errors.add(new Error.CSARErrorUnableToFindCsarContent());
@@ -50,6 +57,11 @@ public class VTPValidateCSARR130206 extends VTPValidateCSARBase {
 
     }
 
+    @Override
+    public Collection<String> getDigestAlgorithms() {
+        return DIGEST_ALGORITHMS;
+    }
+
     private Optional<Path> getPathToCsar(CSARArchive csar) {
         return csar.getWorkspace().getPathToCsarFolder();
     }
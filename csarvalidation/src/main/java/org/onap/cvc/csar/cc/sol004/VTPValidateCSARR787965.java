@@ -23,6 +23,8 @@ import org.onap.cli.fw.schema.OnapCommandSchema;
 import org.onap.cvc.csar.CSARArchive;
 import org.onap.cvc.csar.FileArchive;
 import org.onap.cvc.csar.cc.VTPValidateCSARBase;
+import org.onap.cvc.csar.security.CertificateChainValidator;
+import org.onap.cvc.csar.security.CmsSignatureData;
 import org.onap.cvc.csar.security.CmsSignatureValidator;
 import org.onap.cvc.csar.security.CmsSignatureValidatorException;
 import org.slf4j.Logger;
@@ -38,6 +40,7 @@ public class VTPValidateCSARR787965 extends VTPValidateCSARBase {
 
     private static final Logger LOG = LoggerFactory.getLogger(VTPValidateCSARR787965.class);
     private final CmsSignatureValidator securityManager = new CmsSignatureValidator();
+    private final CertificateChainValidator certificateChainValidator = CertificateChainValidator.getInstance();
 
     static class CSARErrorInvalidSignature extends CSARArchive.CSARError {
         CSARErrorInvalidSignature() {
@@ -53,6 +56,13 @@ public class VTPValidateCSARR787965 extends VTPValidateCSARBase {
         }
     }
 
+    static class CSARErrorUntrustedCertificate extends CSARArchive.CSARError {
+        CSARErrorUntrustedCertificate(String reason) {
+            super("0x3005");
+            this.message = String.format("Certificate used to sign the CSAR is not trusted: %s", reason);
+        }
+    }
+
     static class BrokenZipPackageError extends CSARArchive.CSARError {
         BrokenZipPackageError() {
             super("0x3004");
@@ -94,21 +104,28 @@ public class VTPValidateCSARR787965 extends VTPValidateCSARBase {
     }
 
     private void verifyTwoFileCertification(Path pathToCsarFile, Path pathToCertFile, Path pathToCmsFile) throws IOException, CmsSignatureValidatorException {
-        byte[] csarContent = Files.readAllBytes(pathToCsarFile);
         byte[] signature = Files.readAllBytes(pathToCmsFile);
         byte[] publicCertification = Files.readAllBytes(pathToCertFile);
 
-        if (!securityManager.verifySignedData(signature, Optional.of(publicCertification) ,csarContent)) {
-            this.errors.add(new CSARErrorInvalidSignature());
-        }
+        verifySignature(securityManager.createSignatureData(signature, Optional.of(publicCertification), pathToCsarFile));
     }
 
     private void verifyOneFileCertification(Path pathToCsarFile, Path pathToSignatureAndCmsFile) throws IOException, CmsSignatureValidatorException {
-        byte[] csarContent = Files.readAllBytes(pathToCsarFile);
         byte[] signature = Files.readAllBytes(pathToSignatureAndCmsFile);
 
-        if(!securityManager.verifySignedData(signature, Optional.empty(), csarContent)){
+        verifySignature(securityManager.createSignatureData(signature, Optional.empty(), pathToCsarFile));
+    }
+
+    private void verifySignature(CmsSignatureData signatureData) throws CmsSignatureValidatorException {
+        if (!securityManager.verifySignedData(signatureData)) {
             this.errors.add(new CSARErrorInvalidSignature());
+        } else if (signatureData.getCertificate().isPresent()) {
+            final CertificateChainValidator.Result result =
+                certificateChainValidator.validate(
+                    signatureData.getCertificate().get(), signatureData.getEmbeddedCertificates());
+            if (!result.isTrusted()) {
+                this.errors.add(new CSARErrorUntrustedCertificate(result.getReason()));
+            }
         }
     }
 
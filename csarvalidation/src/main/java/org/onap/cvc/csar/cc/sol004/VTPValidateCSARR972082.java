@@ -47,7 +47,7 @@ import org.onap.cvc.csar.cc.VTPValidateCSARBase;
 import org.onap.cvc.csar.cc.sol004.VTPValidateCSARR972082.PnfSoftwareInformation.PnfSoftwareInformationField;
 import org.onap.cvc.csar.cc.sol004.VTPValidateCSARR972082.PnfSoftwareInformation.PnfSoftwareVersion;
 import org.onap.cvc.csar.cc.sol004.VTPValidateCSARR972082.PnfSoftwareInformation.PnfSoftwareVersion.PnfSoftwareVersionField;
-import org.yaml.snakeyaml.Yaml;
+import org.onap.validation.yaml.parser.YamlParser;
 import org.yaml.snakeyaml.error.YAMLException;
 
 @OnapCommandSchema(schema = "vtp-validate-csar-r972082.yaml")
@@ -212,8 +212,7 @@ public class VTPValidateCSARR972082 extends VTPValidateCSARBase {
         }
 
         private Object read(final InputStream yamlFileInputStream) {
-            final Yaml yaml = new Yaml();
-            return yaml.load(yamlFileInputStream);
+            return YamlParser.getInstance().load(yamlFileInputStream);
         }
 
         private Optional<PnfSoftwareInformation> parse(final String swInformationFilePath) {
@@ -18,9 +18,11 @@ package org.onap.cvc.csar.cc.sol004.r130206;
 
 import org.onap.cvc.csar.CSARArchive;
 import org.onap.cvc.csar.parser.SourcesParser;
+import org.onap.cvc.csar.security.CertificateChainValidator;
 import org.onap.cvc.csar.security.CertificateLoadingException;
 import org.onap.cvc.csar.security.CmsSignatureData;
 import org.onap.cvc.csar.security.CmsSignatureLoadingException;
+import org.onap.cvc.csar.security.PrecomputedDigests;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,15 +44,22 @@ public class CsarSecurityValidator {
     private static final String EMPTY_STRING = "";
     public static final String CERTIFICATE_EXTENSION = ".cert";
     private final FileSignatureValidator fileSignatureValidator = new FileSignatureValidator();
+    private final CertificateChainValidator certificateChainValidator = CertificateChainValidator.getInstance();
 
     private final List<CSARArchive.CSARError> errors = new ArrayList<>();
 
     private final CSARArchive csar;
     private final Path csarRootDirectory;
+    private final PrecomputedDigests precomputedDigests;
 
     public CsarSecurityValidator(CSARArchive csar, Path csarRootDirectory) {
+        this(csar, csarRootDirectory, PrecomputedDigests.NONE);
+    }
+
+    public CsarSecurityValidator(CSARArchive csar, Path csarRootDirectory, PrecomputedDigests precomputedDigests) {
         this.csar = csar;
         this.csarRootDirectory = csarRootDirectory;
+        this.precomputedDigests = precomputedDigests;
     }
 
     public List<CSARArchive.CSARError> validate() throws IOException, NoSuchAlgorithmException {
@@ -181,6 +190,13 @@ public class CsarSecurityValidator {
         final boolean isValid = this.fileSignatureValidator.isValid(signatureData);
         if (!isValid) {
             this.errors.add(new Error.CSARErrorInvalidSignature());
+        } else if (signatureData.getCertificate().isPresent()) {
+            final CertificateChainValidator.Result result =
+                this.certificateChainValidator.validate(
+                    signatureData.getCertificate().get(), signatureData.getEmbeddedCertificates());
+            if (!result.isTrusted()) {
+                this.errors.add(new Error.CSARErrorUntrustedCertificate(result.getReason()));
+            }
         }
     }
 
@@ -214,7 +230,7 @@ public class CsarSecurityValidator {
         final CSARArchive.Manifest manifest = csar.getManifest();
         final Map<String, Map<String, List<String>>> nonMano = manifest.getNonMano();
         final List<SourcesParser.Source> sources = manifest.getSources();
-        return new CsarSourcesSecurityValidator(nonMano, sources, csarRootDirectory);
+        return new CsarSourcesSecurityValidator(nonMano, sources, csarRootDirectory, precomputedDigests);
     }
 
 }
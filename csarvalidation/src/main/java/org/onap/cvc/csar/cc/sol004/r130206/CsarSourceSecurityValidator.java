@@ -21,14 +21,23 @@ import org.onap.cvc.csar.cc.sol004.r130206.artifact.ArtifactSecurityFileValidato
 import org.onap.cvc.csar.cc.sol004.r130206.artifact.ArtifactSecurityFileValidatorFactory;
 import org.onap.cvc.csar.cc.sol004.r130206.artifact.ValidatedSecurityFile;
 import org.onap.cvc.csar.parser.SourcesParser;
+import org.onap.cvc.csar.security.ArtifactDigestStore;
+import org.onap.cvc.csar.security.CertificateChainValidator;
 import org.onap.cvc.csar.security.CmsSignatureData;
 import org.onap.cvc.csar.security.CmsSignatureLoadingException;
+import org.onap.cvc.csar.security.PrecomputedDigests;
+import org.onap.cvc.csar.security.ShaHashCodeGenerator;
+import org.onap.cvc.csar.security.X509CertificateCache;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 public class CsarSourceSecurityValidator {
 
@@ -38,7 +47,10 @@ public class CsarSourceSecurityValidator {
     private static final String[] ARTIFACT_CERTIFICATE_EXTENSIONS = {".cert"};
 
     private final FileSignatureValidator fileSignatureValidator = new FileSignatureValidator();
-    private final FileHashValidator fileHashValidator = new FileHashValidator();
+    private final FileHashValidator fileHashValidator;
+    private final PrecomputedDigests precomputedDigests;
+    private final ArtifactDigestStore digestStore = ArtifactDigestStore.getInstance();
+    private final CertificateChainValidator certificateChainValidator = CertificateChainValidator.getInstance();
 
     private final SourcesParser.Source source;
     private final Path csarRootDirectory;
@@ -47,6 +59,13 @@ public class CsarSourceSecurityValidator {
     private final ArtifactSecurityFileValidator certificateValidator;
 
     public CsarSourceSecurityValidator(SourcesParser.Source source, Path csarRootDirectory) {
+        this(source, csarRootDirectory, PrecomputedDigests.NONE);
+    }
+
+    public CsarSourceSecurityValidator(SourcesParser.Source source, Path csarRootDirectory,
+                                       PrecomputedDigests precomputedDigests) {
+        this.fileHashValidator = new FileHashValidator(precomputedDigests);
+        this.precomputedDigests = precomputedDigests;
         this.source = source;
         this.csarRootDirectory = csarRootDirectory;
         ArtifactSecurityFileValidatorFactory fileValidatorFactory =
@@ -56,6 +75,13 @@ public class CsarSourceSecurityValidator {
     }
 
     public CsarSourceSecurityValidator(SourcesParser.Source source, Path csarRootDirectory, Path commonCert) {
+        this(source, csarRootDirectory, commonCert, PrecomputedDigests.NONE);
+    }
+
+    public CsarSourceSecurityValidator(SourcesParser.Source source, Path csarRootDirectory, Path commonCert,
+                                       PrecomputedDigests precomputedDigests) {
+        this.fileHashValidator = new FileHashValidator(precomputedDigests);
+        this.precomputedDigests = precomputedDigests;
         this.source = source;
         this.csarRootDirectory = csarRootDirectory;
         ArtifactSecurityFileValidatorFactory fileValidatorFactory =
@@ -139,11 +165,22 @@ public class CsarSourceSecurityValidator {
     private List<CSARArchive.CSARError> validateArtifactSignature(Path filePath, Path signaturePath, Path certificatePath)
         throws IOException {
         final List<CSARArchive.CSARError> errors = new ArrayList<>();
+        final Optional<byte[]> artifactDigest = precomputedDigests.find(filePath, ShaHashCodeGenerator.SHA_256);
+        if (artifactDigest.isPresent()
+            && digestStore.isSignatureVerified(artifactDigest.get(), signaturePath, certificatePath)) {
+            errors.addAll(validateArtifactCertificateChain(certificatePath, readEmbeddedCertificates(signaturePath)));
+            return errors;
+        }
         try {
             final CmsSignatureData signatureData =
                 fileSignatureValidator.createSignatureData(filePath, signaturePath, certificatePath);
             if (!fileSignatureValidator.isValid(signatureData)) {
                 errors.add(new Error.CSARErrorIncorrectArtifactSignature(source.getValue()));
+            } else {
+                if (artifactDigest.isPresent()) {
+                    digestStore.storeSignatureVerified(artifactDigest.get(), signaturePath, certificatePath);
+                }
+                errors.addAll(validateArtifactCertificateChain(certificatePath, signatureData.getEmbeddedCertificates()));
             }
         } catch (CmsSignatureLoadingException e) {
             errors.add(new Error.CSARErrorFailToLoadArtifactSignature(source.getValue(), source.getSignature()));
@@ -151,4 +188,35 @@ public class CsarSourceSecurityValidator {
         return errors;
     }
 
+    private List<X509Certificate> readEmbeddedCertificates(Path signaturePath) throws IOException {
+        if (!certificateChainValidator.isEnabled()) {
+            return Collections.emptyList();
+        }
+        try {
+            return fileSignatureValidator.readEmbeddedCertificates(signaturePath);
+        } catch (CmsSignatureLoadingException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    private List<CSARArchive.CSARError> validateArtifactCertificateChain(Path certificatePath,
+                                                                         List<X509Certificate> intermediates)
+        throws IOException {
+        final List<CSARArchive.CSARError> errors = new ArrayList<>();
+        if (!certificateChainValidator.isEnabled()) {
+            return errors;
+        }
+        try {
+            final X509Certificate certificate = X509CertificateCache.getInstance().get(certificatePath);
+            final CertificateChainValidator.Result result =
+                certificateChainValidator.validate(certificate, intermediates);
+            if (!result.isTrusted()) {
+                errors.add(new Error.CSARErrorUntrustedArtifactCertificate(source.getValue(), result.getReason()));
+            }
+        } catch (CertificateException e) {
+            errors.add(new Error.CSARErrorUntrustedArtifactCertificate(source.getValue(), e.getMessage()));
+        }
+        return errors;
+    }
+
 }
@@ -18,29 +18,62 @@ package org.onap.cvc.csar.cc.sol004.r130206;
 
 import org.onap.cvc.csar.CSARArchive;
 import org.onap.cvc.csar.parser.SourcesParser;
+import org.onap.cvc.csar.security.PrecomputedDigests;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Validates hashes and signatures of all sources listed in the manifest.
+ * Sources are independent of each other, so they are validated in parallel on a shared bounded pool,
+ * with at most {@link #MAX_CONCURRENT_LARGE_READS} sources larger than {@link #LARGE_SOURCE_SIZE}
+ * read at the same time. Errors are reported in manifest order.
+ */
 public class CsarSourcesSecurityValidator {
 
+    static final long LARGE_SOURCE_SIZE = 64L * 1024 * 1024;
+    static final int MAX_CONCURRENT_LARGE_READS = 2;
+
+    private static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(POOL_SIZE, new DaemonThreadFactory());
+    private static final Semaphore LARGE_READS = new Semaphore(MAX_CONCURRENT_LARGE_READS);
+
     private final Map<String, Map<String, List<String>>> nonMano;
     private final List<SourcesParser.Source> sources;
     private final Path csarRootDirectory;
+    private final PrecomputedDigests precomputedDigests;
 
 
     public CsarSourcesSecurityValidator(
         Map<String, Map<String, List<String>>> nonMano, List<SourcesParser.Source> sources, Path csarRootDirectory
+    ) {
+        this(nonMano, sources, csarRootDirectory, PrecomputedDigests.NONE);
+    }
+
+    public CsarSourcesSecurityValidator(
+        Map<String, Map<String, List<String>>> nonMano, List<SourcesParser.Source> sources, Path csarRootDirectory,
+        PrecomputedDigests precomputedDigests
     ) {
         this.nonMano = nonMano;
         this.sources = List.copyOf(sources);
         this.csarRootDirectory = csarRootDirectory;
+        this.precomputedDigests = precomputedDigests;
     }
 
     public List<CSARArchive.CSARError> validate() throws IOException, NoSuchAlgorithmException {
@@ -81,19 +114,104 @@ public class CsarSourcesSecurityValidator {
 
     private List<CSARArchive.CSARError> validateSources(List<SourcesParser.Source> sources)
         throws NoSuchAlgorithmException, IOException {
-        final List<CSARArchive.CSARError> errors = new ArrayList<>();
-        for (SourcesParser.Source source : sources) {
-            errors.addAll(new CsarSourceSecurityValidator(source, csarRootDirectory).validate());
-        }
-        return errors;
+        return validateSources(
+            sources, source -> new CsarSourceSecurityValidator(source, csarRootDirectory, precomputedDigests)
+        );
     }
 
     private List<CSARArchive.CSARError> validateSources(List<SourcesParser.Source> sources, Path commonCertificate)
         throws NoSuchAlgorithmException, IOException {
+        return validateSources(
+            sources,
+            source -> new CsarSourceSecurityValidator(source, csarRootDirectory, commonCertificate, precomputedDigests)
+        );
+    }
+
+    private List<CSARArchive.CSARError> validateSources(
+        List<SourcesParser.Source> sources,
+        Function<SourcesParser.Source, CsarSourceSecurityValidator> validatorFactory
+    ) throws NoSuchAlgorithmException, IOException {
         final List<CSARArchive.CSARError> errors = new ArrayList<>();
+        if (sources.size() < 2) {
+            for (SourcesParser.Source source : sources) {
+                errors.addAll(validateSource(source, validatorFactory));
+            }
+            return errors;
+        }
+
+        final List<Future<List<CSARArchive.CSARError>>> results = new ArrayList<>(sources.size());
         for (SourcesParser.Source source : sources) {
-            errors.addAll(new CsarSourceSecurityValidator(source, csarRootDirectory, commonCertificate).validate());
+            results.add(EXECUTOR.submit(() -> validateSource(source, validatorFactory)));
+        }
+        try {
+            for (Future<List<CSARArchive.CSARError>> result : results) {
+                errors.addAll(getResult(result));
+            }
+        } finally {
+            results.forEach(result -> result.cancel(true));
         }
         return errors;
     }
+
+    private List<CSARArchive.CSARError> validateSource(
+        SourcesParser.Source source,
+        Function<SourcesParser.Source, CsarSourceSecurityValidator> validatorFactory
+    ) throws NoSuchAlgorithmException, IOException {
+        final CsarSourceSecurityValidator validator = validatorFactory.apply(source);
+        if (!isLarge(csarRootDirectory.resolve(source.getValue()))) {
+            return validator.validate();
+        }
+        try {
+            LARGE_READS.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to validate " + source.getValue());
+        }
+        try {
+            return validator.validate();
+        } finally {
+            LARGE_READS.release();
+        }
+    }
+
+    private static boolean isLarge(Path sourcePath) {
+        try {
+            return Files.isRegularFile(sourcePath) && Files.size(sourcePath) > LARGE_SOURCE_SIZE;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static List<CSARArchive.CSARError> getResult(Future<List<CSARArchive.CSARError>> result)
+        throws NoSuchAlgorithmException, IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while validating sources");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof NoSuchAlgorithmException) {
+                throw (NoSuchAlgorithmException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof java.lang.Error) {
+                throw (java.lang.Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "csar-source-validator-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
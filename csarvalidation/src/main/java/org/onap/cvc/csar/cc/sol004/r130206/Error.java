@@ -217,6 +217,22 @@ public class Error {
         }
     }
 
+    public static class CSARErrorUntrustedCertificate extends CSARArchive.CSARError {
+
+        public CSARErrorUntrustedCertificate(String reason) {
+            super("0x4024");
+            this.message = String.format("Certificate used to sign the package is not trusted: %s", reason);
+        }
+    }
+
+    public static class CSARErrorUntrustedArtifactCertificate extends CSARArchive.CSARError {
+
+        public CSARErrorUntrustedArtifactCertificate(String path, String reason) {
+            super("0x4025");
+            this.message = String.format("Source '%s' is signed with certificate which is not trusted: %s", path, reason);
+        }
+    }
+
     public static class CSARWarningNoSecurity extends CSARArchive.CSARErrorWarning {
         public CSARWarningNoSecurity() {
             super(EMPTY_STRING, EMPTY_STRING, -1, EMPTY_STRING);
@@ -16,37 +16,71 @@
 
 package org.onap.cvc.csar.cc.sol004.r130206;
 
+import org.onap.cvc.csar.security.PrecomputedDigests;
 import org.onap.cvc.csar.security.ShaHashCodeGenerator;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
 
 public class FileHashValidator {
 
-    private static final String SHA_256 = "SHA-256";
-    private static final String SHA_512 = "SHA-512";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
 
     private final ShaHashCodeGenerator shaHashCodeGenerator = new ShaHashCodeGenerator();
+    private final PrecomputedDigests precomputedDigests;
+
+    public FileHashValidator() {
+        this(PrecomputedDigests.NONE);
+    }
+
+    /**
+     * Creates a validator which compares expected hashes with already calculated digests where available
+     * and reads the file only for the remaining ones.
+     */
+    public FileHashValidator(PrecomputedDigests precomputedDigests) {
+        this.precomputedDigests = precomputedDigests;
+    }
 
     public boolean isValid(String expectedHash, Path fileToCheck, String algorithm)
         throws NoSuchAlgorithmException, IOException {
-        String hashCode = generateHashCode(fileToCheck, algorithm);
-        return hashCode.equals(expectedHash);
+        byte[] hashCode = selectHashCode(fileToCheck, algorithm);
+        return matchesHex(hashCode, expectedHash);
     }
 
-    private String generateHashCode(Path fileToCheck,  String algorithm)
+    private byte[] selectHashCode(Path fileToCheck,  String algorithm)
         throws NoSuchAlgorithmException, IOException {
-        final byte[] sourceData = Files.readAllBytes(fileToCheck);
 
-        if (algorithm.equalsIgnoreCase(SHA_256)) {
-            return this.shaHashCodeGenerator.generateSha256(sourceData);
-        } else if (algorithm.equalsIgnoreCase(SHA_512)) {
-            return this.shaHashCodeGenerator.generateSha512(sourceData);
+        if (algorithm.equalsIgnoreCase(ShaHashCodeGenerator.SHA_256)) {
+            return generateHashCode(fileToCheck, ShaHashCodeGenerator.SHA_256);
+        } else if (algorithm.equalsIgnoreCase(ShaHashCodeGenerator.SHA_512)) {
+            return generateHashCode(fileToCheck, ShaHashCodeGenerator.SHA_512);
         }
 
         throw new UnsupportedOperationException(String.format("Algorithm '%s' is not supported!", algorithm));
     }
 
+    private byte[] generateHashCode(Path fileToCheck, String algorithm)
+        throws NoSuchAlgorithmException, IOException {
+        final Optional<byte[]> precomputed = this.precomputedDigests.find(fileToCheck, algorithm);
+        if (precomputed.isPresent()) {
+            return precomputed.get();
+        }
+        return this.shaHashCodeGenerator.digest(fileToCheck, algorithm);
+    }
+
+    private static boolean matchesHex(byte[] hashCode, String expectedHash) {
+        if (expectedHash == null || expectedHash.length() != hashCode.length * 2) {
+            return false;
+        }
+        for (int i = 0; i < hashCode.length; i++) {
+            if (expectedHash.charAt(2 * i) != HEX_DIGITS[(hashCode[i] >> 4) & 0x0f]
+                || expectedHash.charAt(2 * i + 1) != HEX_DIGITS[hashCode[i] & 0x0f]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
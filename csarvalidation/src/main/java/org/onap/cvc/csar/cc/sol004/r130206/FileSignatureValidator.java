@@ -31,6 +31,7 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.cert.X509Certificate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -59,6 +60,10 @@ public class FileSignatureValidator {
         return signatureData;
     }
 
+    public List<X509Certificate> readEmbeddedCertificates(Path cmsFilePath) throws CmsSignatureLoadingException, IOException {
+        return cmsSignatureDataFactory.readEmbeddedCertificates(Files.readAllBytes(cmsFilePath));
+    }
+
     public boolean isValid(CmsSignatureData signatureData) {
         try {
             return cmsSignatureValidator.verifySignedData(signatureData);
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.daemon;
+
+import org.onap.cli.fw.cmd.OnapCommand;
+import org.onap.cli.fw.error.OnapCommandException;
+import org.onap.cli.fw.input.OnapCommandParameter;
+import org.onap.cli.fw.registrar.OnapCommandRegistrar;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * Runs the {@code csar-validate} command for a job, so the daemon returns exactly the JSON
+ * the command produces when it is called from the command line.
+ * A new command is taken for every job, because commands keep their parameters and results.
+ */
+public class CsarValidation implements Validation {
+
+    static final String COMMAND_NAME = "csar-validate";
+    static final String PRODUCT = "onap-vtp";
+
+    private static final String RELEASE_PARAM_NAME = "release";
+    private static final String CSAR_PARAM_NAME = "csar";
+    private static final String PNF_PARAM_NAME = "pnf";
+    private static final String RULES_PARAM_NAME = "rules";
+
+    private final CommandSupplier commandSupplier;
+
+    public CsarValidation() {
+        this(() -> OnapCommandRegistrar.getRegistrar().get(COMMAND_NAME, PRODUCT));
+    }
+
+    public CsarValidation(CommandSupplier commandSupplier) {
+        this.commandSupplier = commandSupplier;
+    }
+
+    @Override
+    public String validate(ValidationRequest request) throws ValidationDaemonException {
+        if (request.getPath() == null || !Files.isRegularFile(Paths.get(request.getPath()))) {
+            throw ValidationDaemonException.badRequest(String.format("File '%s' does not exist!", request.getPath()));
+        }
+        try {
+            final OnapCommand command = commandSupplier.get();
+            final Map<String, OnapCommandParameter> parameters = command.getParametersMap();
+            parameters.get(RELEASE_PARAM_NAME).setValue(request.getRelease());
+            parameters.get(CSAR_PARAM_NAME).setValue(request.getPath());
+            parameters.get(PNF_PARAM_NAME).setValue(request.isPnf());
+            parameters.get(RULES_PARAM_NAME).setValue(request.getRules());
+            return String.valueOf(command.execute().getOutput());
+        } catch (OnapCommandException e) {
+            throw new ValidationDaemonException(ValidationDaemonException.UNPROCESSABLE_ENTITY, e.getMessage(), e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface CommandSupplier {
+        OnapCommand get() throws OnapCommandException;
+    }
+}
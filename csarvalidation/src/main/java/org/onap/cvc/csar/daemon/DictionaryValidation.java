@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.daemon;
+
+import com.google.gson.Gson;
+import org.onap.validation.cli.command.validate.ResponseModel;
+import org.onap.validation.cli.command.validate.ToJsonConverter;
+import org.onap.validation.cli.command.validate.ValidateDictionaryYamlCommand;
+import org.onap.validation.cli.core.CommandException;
+import org.onap.validation.yaml.util.Args;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+/**
+ * Runs the {@code dictionary-validate} command for a job and returns the same JSON it writes to its output file.
+ * The {@code file} of the JSON is the name of the file given by the client, not the path of an uploaded copy.
+ */
+public class DictionaryValidation implements Validation {
+
+    private static final Gson GSON = new Gson();
+
+    private final ToJsonConverter toJsonConverter = new ToJsonConverter();
+    private final ValidateDictionaryYamlCommand command = new ValidateDictionaryYamlCommand(toJsonConverter);
+
+    @Override
+    public String validate(ValidationRequest request) throws ValidationDaemonException {
+        if (request.getPath() == null || !Files.isRegularFile(Paths.get(request.getPath()))) {
+            throw ValidationDaemonException.badRequest(String.format("File '%s' does not exist!", request.getPath()));
+        }
+        try {
+            final String result = command.execute(new Args(Collections.singletonList(request.getPath()))).getResult();
+            return request.getName().equals(request.getPath()) ? result : renameFile(result, request.getName());
+        } catch (CommandException e) {
+            final String message = e.getCause() == null ? e.getMessage() : e.getMessage() + " " + e.getCause().getMessage();
+            throw new ValidationDaemonException(ValidationDaemonException.UNPROCESSABLE_ENTITY, message, e);
+        }
+    }
+
+    private String renameFile(String result, String name) {
+        final ResponseModel response = GSON.fromJson(result, ResponseModel.class);
+        return toJsonConverter.convert(
+            new ResponseModel(name, response.getStatus(), response.getErrors(), response.getMessage()));
+    }
+}
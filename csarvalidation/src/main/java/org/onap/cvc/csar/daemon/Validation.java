@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.daemon;
+
+/**
+ * Validation run by the {@link ValidationDaemon} for a job.
+ * Implementations are called concurrently from the workers of the daemon.
+ */
+@FunctionalInterface
+public interface Validation {
+
+    /**
+     * Validates the file given by the request and returns the JSON report of the validation.
+     */
+    String validate(ValidationRequest request) throws ValidationDaemonException;
+}
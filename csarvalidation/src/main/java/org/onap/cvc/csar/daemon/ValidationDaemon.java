@@ -0,0 +1,296 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.daemon;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.onap.cli.fw.error.OnapCommandException;
+import org.onap.cli.fw.registrar.OnapCommandRegistrar;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long-running validation process which keeps the validation engine warm between jobs:
+ * the command registrar, the loaded schemas, the caches and the JIT-compiled code survive from one job to the next.
+ * <p>
+ * Jobs are accepted over HTTP on the loopback interface only:
+ * <ul>
+ * <li>{@code POST /csar} validates a CSAR package and returns the JSON of the {@code csar-validate} command,</li>
+ * <li>{@code POST /dictionary} validates a dictionary YAML and returns the JSON of the {@code dictionary-validate} command,</li>
+ * <li>{@code GET /status} returns the state of the job queue.</li>
+ * </ul>
+ * A job is either a JSON {@link ValidationRequest} with the path of a local file,
+ * or the uploaded file itself with the remaining fields of the request given as query parameters.
+ * The {@code name} parameter of an upload gives the name of the uploaded file. Its extension decides how the file
+ * is read, e.g. a {@code .zip} upload is validated as a signed package, and a name with an extension the validation
+ * does not support is rejected. An upload without a name is taken as a {@code .csar} or a {@code .yaml} file.
+ * <p>
+ * Jobs are run by a fixed number of workers, {@link #THREADS_PROPERTY}, and wait in a queue of {@link #QUEUE_SIZE_PROPERTY} jobs.
+ * A job which does not fit into the queue is rejected with {@code 503 Service Unavailable} and a {@code Retry-After} header,
+ * so clients back off instead of piling up work the daemon is not able to run.
+ */
+public class ValidationDaemon implements AutoCloseable {
+
+    public static final String PORT_PROPERTY = "onap.validation.csar.daemon.port";
+    public static final String THREADS_PROPERTY = "onap.validation.csar.daemon.threads";
+    public static final String QUEUE_SIZE_PROPERTY = "onap.validation.csar.daemon.queueSize";
+    static final int DEFAULT_PORT = 8702;
+    static final int DEFAULT_QUEUE_SIZE = 16;
+
+    static final String CSAR_CONTEXT = "/csar";
+    static final String DICTIONARY_CONTEXT = "/dictionary";
+    static final String STATUS_CONTEXT = "/status";
+    static final List<String> CSAR_EXTENSIONS = List.of(".csar", ".zip");
+    static final List<String> DICTIONARY_EXTENSIONS = List.of(".yaml", ".yml");
+
+    static final int OK = 200;
+    static final int NOT_FOUND = 404;
+    static final int METHOD_NOT_ALLOWED = 405;
+    static final int INTERNAL_SERVER_ERROR = 500;
+    static final int SERVICE_UNAVAILABLE = 503;
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ValidationDaemon.class);
+    private static final Gson GSON = new Gson();
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final String POST = "POST";
+    private static final String GET = "GET";
+
+    private final HttpServer server;
+    private final ThreadPoolExecutor executor;
+    private final int queueSize;
+    private final AtomicLong rejectedJobs = new AtomicLong();
+
+    public ValidationDaemon(int port, int threads, int queueSize,
+                            Validation csarValidation, Validation dictionaryValidation) throws IOException {
+        this.queueSize = queueSize;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueSize), new WorkerThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.createContext(CSAR_CONTEXT,
+            exchange -> submit(exchange, CSAR_CONTEXT, csarValidation, CSAR_EXTENSIONS));
+        this.server.createContext(DICTIONARY_CONTEXT,
+            exchange -> submit(exchange, DICTIONARY_CONTEXT, dictionaryValidation, DICTIONARY_EXTENSIONS));
+        this.server.createContext(STATUS_CONTEXT, this::status);
+    }
+
+    public static ValidationDaemon create() throws IOException {
+        return new ValidationDaemon(
+            Integer.getInteger(PORT_PROPERTY, DEFAULT_PORT),
+            Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()),
+            Integer.getInteger(QUEUE_SIZE_PROPERTY, DEFAULT_QUEUE_SIZE),
+            new CsarValidation(),
+            new DictionaryValidation()
+        );
+    }
+
+    public static void main(String[] args) throws IOException, OnapCommandException {
+        OnapCommandRegistrar.getRegistrar();
+        final ValidationDaemon daemon = create().start();
+        Runtime.getRuntime().addShutdownHook(new Thread(daemon::close));
+        LOG.info("Validation daemon is listening on {}", daemon.getPort());
+    }
+
+    public ValidationDaemon start() {
+        server.start();
+        return this;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void submit(HttpExchange exchange, String context, Validation validation, List<String> uploadExtensions) {
+        if (!context.equals(exchange.getRequestURI().getPath())) {
+            respondAndClose(exchange, NOT_FOUND, message("Unknown path " + exchange.getRequestURI().getPath()));
+        } else if (!POST.equals(exchange.getRequestMethod())) {
+            respondAndClose(exchange, METHOD_NOT_ALLOWED, message("Validation jobs have to be sent with " + POST));
+        } else {
+            try {
+                executor.execute(() -> run(exchange, validation, uploadExtensions));
+            } catch (RejectedExecutionException e) {
+                rejectedJobs.incrementAndGet();
+                exchange.getResponseHeaders().set("Retry-After", RETRY_AFTER_SECONDS);
+                respondAndClose(exchange, SERVICE_UNAVAILABLE,
+                    message("Validation queue is full, " + queueSize + " jobs are waiting"));
+            }
+        }
+    }
+
+    private void run(HttpExchange exchange, Validation validation, List<String> uploadExtensions) {
+        Path upload = null;
+        try {
+            final ValidationRequest request;
+            if (isJson(exchange)) {
+                request = readRequest(exchange);
+            } else {
+                final ValidationRequest query = readQuery(exchange);
+                upload = Files.createTempFile("validation-daemon-", getUploadExtension(query.getName(), uploadExtensions));
+                try (InputStream body = exchange.getRequestBody()) {
+                    Files.copy(body, upload, StandardCopyOption.REPLACE_EXISTING);
+                }
+                request = query.withPath(upload.toString());
+            }
+            respondAndClose(exchange, OK, validation.validate(request));
+        } catch (ValidationDaemonException e) {
+            respondAndClose(exchange, e.getStatusCode(), message(e.getMessage()));
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Validation job failed", e);
+            respondAndClose(exchange, INTERNAL_SERVER_ERROR, message(e.getMessage()));
+        } finally {
+            deleteUpload(upload);
+        }
+    }
+
+    private void status(HttpExchange exchange) {
+        if (!GET.equals(exchange.getRequestMethod())) {
+            respondAndClose(exchange, METHOD_NOT_ALLOWED, message("Status has to be read with " + GET));
+            return;
+        }
+        final Map<String, Object> status = new LinkedHashMap<>();
+        status.put("threads", executor.getMaximumPoolSize());
+        status.put("activeJobs", executor.getActiveCount());
+        status.put("queuedJobs", executor.getQueue().size());
+        status.put("queueSize", queueSize);
+        status.put("completedJobs", executor.getCompletedTaskCount());
+        status.put("rejectedJobs", rejectedJobs.get());
+        respondAndClose(exchange, OK, GSON.toJson(status));
+    }
+
+    private static boolean isJson(HttpExchange exchange) {
+        final String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        return contentType != null && contentType.startsWith(JSON_CONTENT_TYPE);
+    }
+
+    private static ValidationRequest readRequest(HttpExchange exchange) throws IOException, ValidationDaemonException {
+        try (Reader body = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+            final ValidationRequest request = GSON.fromJson(body, ValidationRequest.class);
+            if (request == null) {
+                throw ValidationDaemonException.badRequest("Validation request is empty");
+            }
+            return request;
+        } catch (JsonParseException e) {
+            throw ValidationDaemonException.badRequest("Validation request is not a valid JSON: " + e.getMessage());
+        }
+    }
+
+    private static ValidationRequest readQuery(HttpExchange exchange) {
+        final String query = exchange.getRequestURI().getRawQuery();
+        if (query == null || query.isEmpty()) {
+            return new ValidationRequest();
+        }
+        final Map<String, String> parameters = new HashMap<>();
+        for (String parameter : query.split("&")) {
+            final int separator = parameter.indexOf('=');
+            if (separator > 0) {
+                parameters.put(decode(parameter.substring(0, separator)), decode(parameter.substring(separator + 1)));
+            }
+        }
+        return new ValidationRequest(null, parameters.get("release"),
+            Boolean.parseBoolean(parameters.get("pnf")), parameters.get("rules"), parameters.get("name"));
+    }
+
+    private static String getUploadExtension(String name, List<String> extensions) throws ValidationDaemonException {
+        if (name == null) {
+            return extensions.get(0);
+        }
+        final String lowerCaseName = name.toLowerCase(Locale.ROOT);
+        return extensions.stream()
+            .filter(lowerCaseName::endsWith)
+            .findFirst()
+            .orElseThrow(() -> ValidationDaemonException.badRequest(
+                String.format("File '%s' has to have one of the extensions %s", name, extensions)));
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String message(String message) {
+        return GSON.toJson(Collections.singletonMap("message", message));
+    }
+
+    private static void respondAndClose(HttpExchange exchange, int statusCode, String json) {
+        try (OutputStream body = exchange.getResponseBody()) {
+            final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE + "; charset=utf-8");
+            exchange.sendResponseHeaders(statusCode, bytes.length);
+            body.write(bytes);
+        } catch (IOException e) {
+            LOG.debug("Unable to send the response of a validation job", e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void deleteUpload(Path upload) {
+        if (upload != null) {
+            try {
+                Files.deleteIfExists(upload);
+            } catch (IOException e) {
+                LOG.warn("Unable to delete uploaded file {}", upload, e);
+            }
+        }
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "validation-daemon-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
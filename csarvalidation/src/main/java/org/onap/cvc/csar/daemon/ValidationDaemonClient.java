@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.daemon;
+
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Client of a {@link ValidationDaemon} running on the same machine.
+ */
+public class ValidationDaemonClient {
+
+    private static final Gson GSON = new Gson();
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final URI baseUri;
+
+    public ValidationDaemonClient(int port) {
+        this.baseUri = URI.create("http://127.0.0.1:" + port);
+    }
+
+    /**
+     * Validates a CSAR package the daemon is able to read from its own file system.
+     */
+    public Response validateCsar(ValidationRequest request) throws IOException, InterruptedException {
+        return post(ValidationDaemon.CSAR_CONTEXT, request);
+    }
+
+    /**
+     * Uploads a CSAR package to the daemon and validates it.
+     */
+    public Response uploadCsar(Path csar, String release, boolean pnf, String rules)
+        throws IOException, InterruptedException {
+        final String query = "?release=" + encode(release) + "&pnf=" + pnf + "&rules=" + encode(rules)
+            + "&name=" + encode(csar.getFileName().toString());
+        return upload(ValidationDaemon.CSAR_CONTEXT + query, csar);
+    }
+
+    /**
+     * Validates a dictionary YAML the daemon is able to read from its own file system.
+     */
+    public Response validateDictionary(String path) throws IOException, InterruptedException {
+        return post(ValidationDaemon.DICTIONARY_CONTEXT, new ValidationRequest(path, null, false, null));
+    }
+
+    /**
+     * Uploads a dictionary YAML to the daemon and validates it.
+     */
+    public Response uploadDictionary(Path dictionary) throws IOException, InterruptedException {
+        return upload(ValidationDaemon.DICTIONARY_CONTEXT + "?name=" + encode(dictionary.getFileName().toString()),
+            dictionary);
+    }
+
+    public Response status() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(baseUri.resolve(ValidationDaemon.STATUS_CONTEXT)).GET().build());
+    }
+
+    private Response post(String context, ValidationRequest request) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(baseUri.resolve(context))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(GSON.toJson(request)))
+            .build());
+    }
+
+    private Response upload(String context, Path file) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(baseUri.resolve(context))
+            .header("Content-Type", "application/octet-stream")
+            .POST(HttpRequest.BodyPublishers.ofFile(file))
+            .build());
+    }
+
+    private Response send(HttpRequest request) throws IOException, InterruptedException {
+        final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return new Response(response.statusCode(), response.body());
+    }
+
+    private static String encode(String value) {
+        return value == null ? "" : URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    public static class Response {
+
+        private final int statusCode;
+        private final String body;
+
+        Response(int statusCode, String body) {
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public String getBody() {
+            return body;
+        }
+    }
+}
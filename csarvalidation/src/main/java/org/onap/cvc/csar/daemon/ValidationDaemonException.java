@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.daemon;
+
+public class ValidationDaemonException extends Exception {
+
+    static final int BAD_REQUEST = 400;
+    static final int UNPROCESSABLE_ENTITY = 422;
+
+    private final int statusCode;
+
+    public ValidationDaemonException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public ValidationDaemonException(int statusCode, String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = statusCode;
+    }
+
+    public static ValidationDaemonException badRequest(String message) {
+        return new ValidationDaemonException(BAD_REQUEST, message);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
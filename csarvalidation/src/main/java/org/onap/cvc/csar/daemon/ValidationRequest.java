@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.daemon;
+
+/**
+ * Validation job accepted by the {@link ValidationDaemon}, either as a JSON body
+ * or as query parameters of an uploaded package, together with the {@code name} of the uploaded file.
+ * Fields which are not given fall back to the defaults of the {@code csar-validate} command.
+ */
+public class ValidationRequest {
+
+    static final String DEFAULT_RELEASE = "latest";
+
+    private String path;
+    private String release;
+    private boolean pnf;
+    private String rules;
+    private transient String name;
+
+    public ValidationRequest() {
+    }
+
+    public ValidationRequest(String path, String release, boolean pnf, String rules) {
+        this(path, release, pnf, rules, null);
+    }
+
+    ValidationRequest(String path, String release, boolean pnf, String rules, String name) {
+        this.path = path;
+        this.release = release;
+        this.pnf = pnf;
+        this.rules = rules;
+        this.name = name;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return name of the file given by the client, which differs from the path of an uploaded file;
+     * the path when no name is given
+     */
+    public String getName() {
+        return name == null || name.isEmpty() ? path : name;
+    }
+
+    public String getRelease() {
+        return release == null || release.isEmpty() ? DEFAULT_RELEASE : release;
+    }
+
+    public boolean isPnf() {
+        return pnf;
+    }
+
+    public String getRules() {
+        return rules == null ? "" : rules;
+    }
+
+    ValidationRequest withPath(String path) {
+        return new ValidationRequest(path, release, pnf, rules, name);
+    }
+}
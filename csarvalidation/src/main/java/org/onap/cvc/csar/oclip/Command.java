@@ -18,7 +18,10 @@ package org.onap.cvc.csar.oclip;
 import org.onap.cli.fw.cmd.OnapCommand;
 import org.onap.cli.fw.error.OnapCommandException;
 import org.onap.cvc.csar.CSARArchive;
+import org.onap.cvc.csar.cc.VTPValidateCSARBase;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 public class Command {
@@ -40,4 +43,23 @@ public class Command {
     public String getRelease(){
         return cmd.getInfo().getMetadata().getOrDefault("release","unknown");
     }
+
+    public Collection<String> getDigestAlgorithms() {
+        return cmd instanceof VTPValidateCSARBase
+                ? ((VTPValidateCSARBase) cmd).getDigestAlgorithms() : Collections.emptyList();
+    }
+
+    public Collection<String> getDefinitionYamlPaths() {
+        return cmd instanceof VTPValidateCSARBase
+                ? ((VTPValidateCSARBase) cmd).getDefinitionYamlPaths() : Collections.emptyList();
+    }
+
+    /**
+     * Makes the command validate an archive already unpacked and parsed for the other rules of the run.
+     */
+    public void setCsarArchive(CSARArchive csar) {
+        if (cmd instanceof VTPValidateCSARBase) {
+            ((VTPValidateCSARBase) cmd).setCsarArchive(csar);
+        }
+    }
 }
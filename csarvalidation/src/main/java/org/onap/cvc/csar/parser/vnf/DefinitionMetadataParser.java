@@ -30,6 +30,13 @@ import java.util.Map;
  */
 public class DefinitionMetadataParser {
 
+    /**
+     * Paths of the definition YAML read by this parser.
+     */
+    public static final List<String> DEFINITION_YAML_PATHS = Arrays.asList(
+            CSARArchive.ENTRY_DEFINITION_TOSCA_DEFINITIONS_VERSION,
+            CSARArchive.ENTRY_DEFINITION_METADATA);
+
     private static final String[] ENTRY_DEFINITION_TOSCA_DEFINITIONS_VERSIONS = {
             CSARArchive.ENTRY_DEFINITION_TOSCA_DEFINITIONS_VERSION_SIMPLE_1_0,
             CSARArchive.ENTRY_DEFINITION_TOSCA_DEFINITIONS_VERSION_SIMPLE_1_1,
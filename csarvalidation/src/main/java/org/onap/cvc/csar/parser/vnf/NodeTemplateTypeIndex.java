@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.parser.vnf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the node templates declared in a definition YAML, keyed by their TOSCA type.
+ * Type names are compared case-insensitively, the same way the SOL001 rules compare them.
+ * Node templates are indexed under every ancestor of their type known to the {@link ToscaTypeGraph}
+ * as well, which covers types declared in the definition itself and in its resolved imports.
+ */
+public class NodeTemplateTypeIndex {
+
+    public static final String TOPOLOGY_TEMPLATE = "topology_template";
+    public static final String NODE_TEMPLATES = "node_templates";
+    public static final String NODE_TYPES = "node_types";
+    public static final String TYPE = "type";
+    public static final String DERIVED_FROM = ToscaTypeGraph.DERIVED_FROM;
+
+    /**
+     * Paths of the definition YAML the index is built from.
+     */
+    public static final List<String> DEFINITION_YAML_PATHS = Collections.singletonList(
+            TOPOLOGY_TEMPLATE + "." + NODE_TEMPLATES + "." + YamlProjection.ANY + "." + TYPE);
+
+    private final Map<String, List<String>> nodeTemplatesByType;
+    private final Map<String, List<String>> nodeTemplatesByAncestorType;
+    private final ToscaTypeGraph typeGraph;
+
+    private NodeTemplateTypeIndex(Map<String, List<String>> nodeTemplatesByType,
+                                  Map<String, List<String>> nodeTemplatesByAncestorType,
+                                  ToscaTypeGraph typeGraph) {
+        this.nodeTemplatesByType = nodeTemplatesByType;
+        this.nodeTemplatesByAncestorType = nodeTemplatesByAncestorType;
+        this.typeGraph = typeGraph;
+    }
+
+    public static NodeTemplateTypeIndex empty() {
+        return new NodeTemplateTypeIndex(Collections.emptyMap(), Collections.emptyMap(), ToscaTypeGraph.empty());
+    }
+
+    public static NodeTemplateTypeIndex of(Map<String, ?> definitionYaml) {
+        return of(definitionYaml, ToscaTypeGraph.of(definitionYaml));
+    }
+
+    public static NodeTemplateTypeIndex of(Map<String, ?> definitionYaml, ToscaTypeGraph typeGraph) {
+        final Map<String, List<String>> byType = new HashMap<>();
+        final Map<String, List<String>> byAncestorType = new HashMap<>();
+
+        for (Map.Entry<?, ?> nodeTemplate : getSection(getSection(definitionYaml, TOPOLOGY_TEMPLATE), NODE_TEMPLATES).entrySet()) {
+            final String type = getType(nodeTemplate.getValue());
+            if (type != null) {
+                final String name = String.valueOf(nodeTemplate.getKey());
+                byType.computeIfAbsent(type, key -> new ArrayList<>()).add(name);
+                for (String ancestor : typeGraph.getAncestors(type)) {
+                    byAncestorType.computeIfAbsent(ancestor, key -> new ArrayList<>()).add(name);
+                }
+            }
+        }
+
+        return new NodeTemplateTypeIndex(byType, byAncestorType, typeGraph);
+    }
+
+    /**
+     * Checks whether any node template is declared with exactly the given type.
+     */
+    public boolean hasNodeOfType(String type) {
+        return nodeTemplatesByType.containsKey(normalize(type));
+    }
+
+    /**
+     * Checks whether any node template is declared with the given type or with a type derived from it.
+     */
+    public boolean hasNodeDerivedFrom(String type) {
+        final String normalizedType = normalize(type);
+        return nodeTemplatesByType.containsKey(normalizedType) || nodeTemplatesByAncestorType.containsKey(normalizedType);
+    }
+
+    public List<String> getNodeTemplatesOfType(String type) {
+        return Collections.unmodifiableList(
+                nodeTemplatesByType.getOrDefault(normalize(type), Collections.emptyList()));
+    }
+
+    public List<String> getNodeTemplatesDerivedFrom(String type) {
+        final String normalizedType = normalize(type);
+        final List<String> nodeTemplates = new ArrayList<>(
+                nodeTemplatesByType.getOrDefault(normalizedType, Collections.emptyList()));
+        nodeTemplates.addAll(nodeTemplatesByAncestorType.getOrDefault(normalizedType, Collections.emptyList()));
+        return Collections.unmodifiableList(nodeTemplates);
+    }
+
+    /**
+     * Returns the ancestors of a node type, nearest first.
+     */
+    public List<String> getAncestors(String type) {
+        return typeGraph.getAncestors(type);
+    }
+
+    private static String getType(Object nodeTemplate) {
+        if (nodeTemplate instanceof Map) {
+            final Object type = ((Map<?, ?>) nodeTemplate).get(TYPE);
+            if (type instanceof String) {
+                return normalize((String) type);
+            }
+        }
+        return null;
+    }
+
+    private static Map<?, ?> getSection(Map<?, ?> yaml, String name) {
+        final Object section = yaml.get(name);
+        if (section instanceof Map) {
+            return (Map<?, ?>) section;
+        }
+        return Collections.emptyMap();
+    }
+
+    private static String normalize(String type) {
+        return ToscaTypeGraph.normalize(type);
+    }
+}
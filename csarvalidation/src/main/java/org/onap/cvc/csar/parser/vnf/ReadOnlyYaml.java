@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.parser.vnf;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+/**
+ * Turns a tree loaded by SnakeYAML into a read-only tree which can be shared between rules.
+ * Nested maps and lists are wrapped in place, so no part of the loaded document is copied.
+ * Nodes shared through YAML aliases are wrapped once and keep being shared.
+ */
+public final class ReadOnlyYaml {
+
+    private ReadOnlyYaml() {
+    }
+
+    public static Map<String, ?> of(Object loadedYaml) {
+        if (loadedYaml instanceof Map) {
+            return (Map<String, ?>) wrap(loadedYaml, new IdentityHashMap<>());
+        }
+        return Collections.emptyMap();
+    }
+
+    private static Object wrap(Object node, Map<Object, Object> wrapped) {
+        if (!(node instanceof Map) && !(node instanceof List)) {
+            return node;
+        }
+        Object readOnlyNode = wrapped.get(node);
+        if (readOnlyNode != null) {
+            return readOnlyNode;
+        }
+        if (node instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) node;
+            readOnlyNode = Collections.unmodifiableMap(map);
+            wrapped.put(node, readOnlyNode);
+            for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                entry.setValue(wrap(entry.getValue(), wrapped));
+            }
+        } else {
+            List<Object> list = (List<Object>) node;
+            readOnlyNode = Collections.unmodifiableList(list);
+            wrapped.put(node, readOnlyNode);
+            ListIterator<Object> iterator = list.listIterator();
+            while (iterator.hasNext()) {
+                iterator.set(wrap(iterator.next(), wrapped));
+            }
+        }
+        return readOnlyNode;
+    }
+}
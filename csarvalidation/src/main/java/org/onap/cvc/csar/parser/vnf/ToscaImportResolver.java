@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.cvc.csar.parser.vnf;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the <i>imports</i> of a definition YAML into a single {@link ToscaTypeGraph}.
+ * <p>
+ * Imported files are looked up in the package first, relative to the importing file. When a file is not
+ * in the package, a bundled offline copy of the standard type library is used: either the one the import
+ * is known under, see {@link #BUNDLED_LIBRARY_ALIASES}, or the one with the same file name.
+ * Parsed libraries are kept for the lifetime of the JVM: bundled ones by name and package files by the
+ * digest of their content, so a standard library shipped in every package is parsed only once.
+ * The graph joined from the imported libraries is kept as well, keyed by the libraries it is made of,
+ * so only the types of the definition itself are resolved for every validation.
+ */
+public class ToscaImportResolver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ToscaImportResolver.class);
+
+    static final String BUNDLED_LIBRARIES_LOCATION = "tosca/";
+    static final int MAX_CACHED_PACKAGE_LIBRARIES = 64;
+    static final int MAX_CACHED_IMPORTED_GRAPHS = 64;
+
+    /**
+     * Import names and URLs of the standard type libraries, mapped to their bundled copies.
+     * File names are matched only for imports which are not URLs, so a URL of another version of
+     * a library is not resolved to the bundled one.
+     */
+    static final Map<String, String> BUNDLED_LIBRARY_ALIASES = Map.of(
+            "etsi_nfv_sol001_vnfd_types.yaml", "etsi_nfv_sol001_vnfd_2_5_1_types.yaml",
+            "etsi_nfv_sol001_pnfd_types.yaml", "etsi_nfv_sol001_pnfd_2_5_1_types.yaml",
+            "https://forge.etsi.org/rep/nfv/SOL001/raw/v2.5.1/etsi_nfv_sol001_vnfd_types.yaml",
+            "etsi_nfv_sol001_vnfd_2_5_1_types.yaml",
+            "https://forge.etsi.org/rep/nfv/SOL001/raw/v2.5.1/etsi_nfv_sol001_pnfd_types.yaml",
+            "etsi_nfv_sol001_pnfd_2_5_1_types.yaml",
+            "https://forge.etsi.org/rep/nfv/SOL001/raw/2.5.1/etsi_nfv_sol001_vnfd_types.yaml",
+            "etsi_nfv_sol001_vnfd_2_5_1_types.yaml",
+            "https://forge.etsi.org/rep/nfv/SOL001/raw/2.5.1/etsi_nfv_sol001_pnfd_types.yaml",
+            "etsi_nfv_sol001_pnfd_2_5_1_types.yaml");
+
+    private static final String FILE = "file";
+    private static final String URL_SEPARATOR = "://";
+    private static final YamlProjection LIBRARY_PROJECTION = YamlProjection.of(ToscaTypeGraph.DEFINITION_YAML_PATHS);
+
+    private static final Map<String, Optional<ToscaTypeLibrary>> BUNDLED_LIBRARIES = new ConcurrentHashMap<>();
+    private static final Map<String, ToscaTypeLibrary> PACKAGE_LIBRARIES = Collections.synchronizedMap(
+            new LinkedHashMap<String, ToscaTypeLibrary>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ToscaTypeLibrary> eldest) {
+                    return size() > MAX_CACHED_PACKAGE_LIBRARIES;
+                }
+            });
+
+    private static final Map<List<String>, ToscaTypeGraph> IMPORTED_GRAPHS = Collections.synchronizedMap(
+            new LinkedHashMap<List<String>, ToscaTypeGraph>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<String>, ToscaTypeGraph> eldest) {
+                    return size() > MAX_CACHED_IMPORTED_GRAPHS;
+                }
+            });
+
+    private final Path packageRoot;
+    private final List<String> unresolvedImports = new ArrayList<>();
+
+    public ToscaImportResolver(Path packageRoot) {
+        this.packageRoot = packageRoot.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Builds the type graph of the definition YAML and of everything it imports, directly or not.
+     * Types of the definition take precedence over imported ones.
+     */
+    public ToscaTypeGraph resolve(Map<String, ?> definitionYaml, Path definitionYamlFile) {
+        final List<ToscaTypeLibrary> libraries = new ArrayList<>();
+        resolveImports(getImports(definitionYaml), definitionYamlFile.toAbsolutePath().getParent(), libraries, new HashSet<>());
+        return ToscaTypeGraph.union(Arrays.asList(ToscaTypeGraph.of(definitionYaml), getImportedGraph(libraries)));
+    }
+
+    private static ToscaTypeGraph getImportedGraph(List<ToscaTypeLibrary> libraries) {
+        final List<String> keys = libraries.stream().map(library -> library.key).collect(Collectors.toList());
+        ToscaTypeGraph graph = IMPORTED_GRAPHS.get(keys);
+        if (graph == null) {
+            graph = ToscaTypeGraph.union(libraries.stream().map(library -> library.typeGraph).collect(Collectors.toList()));
+            IMPORTED_GRAPHS.put(keys, graph);
+        }
+        return graph;
+    }
+
+    /**
+     * Returns the imports which were found neither in the package nor among the bundled libraries.
+     */
+    public List<String> getUnresolvedImports() {
+        return Collections.unmodifiableList(unresolvedImports);
+    }
+
+    private void resolveImports(List<String> imports, Path baseDir, List<ToscaTypeLibrary> libraries, Set<String> visited) {
+        for (String importedFile : imports) {
+            final Optional<Path> packageFile = findInPackage(importedFile, baseDir);
+            final Optional<ToscaTypeLibrary> library = packageFile.isPresent()
+                    ? loadPackageLibrary(packageFile.get())
+                    : loadBundledLibrary(getBundledLibraryName(importedFile));
+
+            if (!library.isPresent()) {
+                unresolvedImports.add(importedFile);
+            } else if (visited.add(library.get().key)) {
+                libraries.add(library.get());
+                resolveImports(library.get().imports, packageFile.map(Path::getParent).orElse(null), libraries, visited);
+            }
+        }
+    }
+
+    private Optional<Path> findInPackage(String importedFile, Path baseDir) {
+        if (baseDir == null || importedFile.contains(URL_SEPARATOR)) {
+            return Optional.empty();
+        }
+        try {
+            final Path file = baseDir.resolve(importedFile).normalize();
+            if (file.startsWith(packageRoot) && Files.isRegularFile(file)) {
+                return Optional.of(file);
+            }
+        } catch (IllegalArgumentException e) {
+            // not a valid path, fall back to the bundled libraries
+        }
+        return Optional.empty();
+    }
+
+    private Optional<ToscaTypeLibrary> loadPackageLibrary(Path file) {
+        try {
+            final byte[] content = Files.readAllBytes(file);
+            final String key = DigestUtils.sha256Hex(content);
+            ToscaTypeLibrary library = PACKAGE_LIBRARIES.get(key);
+            if (library == null) {
+                library = ToscaTypeLibrary.load(key, new ByteArrayInputStream(content));
+                PACKAGE_LIBRARIES.put(key, library);
+            }
+            return Optional.of(library);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to load imported type definitions from {}", packageRoot.relativize(file), e);
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<ToscaTypeLibrary> loadBundledLibrary(String fileName) {
+        return BUNDLED_LIBRARIES.computeIfAbsent(fileName, name -> {
+            try (InputStream inputStream = ToscaImportResolver.class.getClassLoader()
+                    .getResourceAsStream(BUNDLED_LIBRARIES_LOCATION + name)) {
+                if (inputStream == null) {
+                    return Optional.empty();
+                }
+                return Optional.of(ToscaTypeLibrary.load(BUNDLED_LIBRARIES_LOCATION + name, inputStream));
+            } catch (IOException e) {
+                LOG.warn("Failed to load bundled type definitions {}", name, e);
+                return Optional.empty();
+            }
+        });
+    }
+
+    private static String getBundledLibraryName(String importedFile) {
+        final String fileName = getFileName(importedFile);
+        final String alias = BUNDLED_LIBRARY_ALIASES.get(importedFile);
+        if (alias != null) {
+            return alias;
+        }
+        return importedFile.contains(URL_SEPARATOR) ? fileName : BUNDLED_LIBRARY_ALIASES.getOrDefault(fileName, fileName);
+    }
+
+    private static String getFileName(String importedFile) {
+        final String fileName = importedFile.substring(importedFile.lastIndexOf('/') + 1);
+        return fileName.substring(fileName.lastIndexOf('\\') + 1);
+    }
+
+    static List<String> getImports(Map<?, ?> toscaYaml) {
+        final Object imports = toscaYaml.get(ToscaTypeGraph.IMPORTS);
+        final List<String> files = new ArrayList<>();
+        if (imports instanceof List) {
+            for (Object importDefinition : (List<?>) imports) {
+                getImportedFile(importDefinition).ifPresent(files::add);
+            }
+        }
+        return files;
+    }
+
+    private static Optional<String> getImportedFile(Object importDefinition) {
+        if (importDefinition instanceof String) {
+            return Optional.of((String) importDefinition);
+        }
+        if (importDefinition instanceof Map) {
+            final Map<?, ?> definition = (Map<?, ?>) importDefinition;
+            if (definition.containsKey(FILE)) {
+                return getImportedFile(definition.get(FILE));
+            }
+            if (definition.size() == 1) {
+                return getImportedFile(definition.values().iterator().next());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static final class ToscaTypeLibrary {
+        private final String key;
+        private final ToscaTypeGraph typeGraph;
+        private final List<String> imports;
+
+        private ToscaTypeLibrary(String key, ToscaTypeGraph typeGraph, List<String> imports) {
+            this.key = key;
+            this.typeGraph = typeGraph;
+            this.imports = Collections.unmodifiableList(imports);
+        }
+
+        private static ToscaTypeLibrary load(String key, InputStream inputStream) {
+            final Map<String, ?> yaml = ReadOnlyYaml.of(LIBRARY_PROJECTION.load(inputStream));
+            return new ToscaTypeLibrary(key, ToscaTypeGraph.of(yaml), getImports(yaml));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.cvc.csar.parser.vnf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable graph of TOSCA types built from the <i>derived_from</i> entries of the type sections.
+ * Type names are compared case-insensitively and all ancestors are resolved up front,
+ * so subtype checks are a single hash lookup.
+ */
+public final class ToscaTypeGraph {
+
+    public static final String IMPORTS = "imports";
+    public static final String DERIVED_FROM = "derived_from";
+    public static final List<String> TYPE_SECTIONS = Collections.unmodifiableList(Arrays.asList(
+            "artifact_types", "data_types", "capability_types", "interface_types",
+            "relationship_types", "node_types", "group_types", "policy_types"));
+
+    /**
+     * Paths of a TOSCA file the graph and its imports are built from.
+     */
+    public static final List<String> DEFINITION_YAML_PATHS = Collections.unmodifiableList(definitionYamlPaths());
+
+    private static final ToscaTypeGraph EMPTY =
+            new ToscaTypeGraph(Collections.emptySet(), Collections.emptyMap(), Collections.emptyMap());
+
+    private final Set<String> declaredTypes;
+    private final Map<String, String> parentTypes;
+    private final Map<String, Set<String>> ancestors;
+
+    private ToscaTypeGraph(Set<String> declaredTypes, Map<String, String> parentTypes, Map<String, Set<String>> ancestors) {
+        this.declaredTypes = Collections.unmodifiableSet(declaredTypes);
+        this.parentTypes = Collections.unmodifiableMap(parentTypes);
+        this.ancestors = ancestors;
+    }
+
+    public static ToscaTypeGraph empty() {
+        return EMPTY;
+    }
+
+    public static ToscaTypeGraph of(Map<String, ?> toscaYaml) {
+        final Set<String> declaredTypes = new HashSet<>();
+        final Map<String, String> parentTypes = new HashMap<>();
+        for (String section : TYPE_SECTIONS) {
+            final Object types = toscaYaml.get(section);
+            if (types instanceof Map) {
+                collectTypes((Map<?, ?>) types, declaredTypes, parentTypes);
+            }
+        }
+        final Map<String, Set<String>> ancestors = new HashMap<>();
+        for (String type : parentTypes.keySet()) {
+            ancestors.put(type, Collections.unmodifiableSet(resolveAncestors(type, parentTypes)));
+        }
+        return new ToscaTypeGraph(declaredTypes, parentTypes, ancestors);
+    }
+
+    /**
+     * Joins graphs into one. When a type is declared in several graphs, the first declaration wins.
+     * Ancestors already resolved by the joined graphs are reused, unless one of them is redeclared by an earlier graph.
+     */
+    public static ToscaTypeGraph union(List<ToscaTypeGraph> graphs) {
+        if (graphs.isEmpty()) {
+            return EMPTY;
+        }
+        ToscaTypeGraph union = graphs.get(graphs.size() - 1);
+        for (int i = graphs.size() - 2; i >= 0; i--) {
+            union = graphs.get(i).over(union);
+        }
+        return union;
+    }
+
+    private ToscaTypeGraph over(ToscaTypeGraph base) {
+        if (declaredTypes.isEmpty()) {
+            return base;
+        }
+        if (base.declaredTypes.isEmpty()) {
+            return this;
+        }
+        final Set<String> mergedDeclaredTypes = new HashSet<>(base.declaredTypes);
+        mergedDeclaredTypes.addAll(declaredTypes);
+        final Map<String, String> mergedParentTypes = new HashMap<>(base.parentTypes);
+        final Set<String> redeclaredTypes = new HashSet<>();
+        for (String type : declaredTypes) {
+            final String parent = parentTypes.get(type);
+            if (!Objects.equals(parent, base.parentTypes.get(type))) {
+                redeclaredTypes.add(type);
+            }
+            if (parent == null) {
+                mergedParentTypes.remove(type);
+            } else {
+                mergedParentTypes.put(type, parent);
+            }
+        }
+
+        final Map<String, Set<String>> mergedAncestors = new HashMap<>(base.ancestors);
+        if (!redeclaredTypes.isEmpty()) {
+            for (Map.Entry<String, Set<String>> entry : base.ancestors.entrySet()) {
+                if (redeclaredTypes.contains(entry.getKey()) || !Collections.disjoint(entry.getValue(), redeclaredTypes)) {
+                    mergedAncestors.put(entry.getKey(),
+                            Collections.unmodifiableSet(resolveAncestors(entry.getKey(), mergedParentTypes)));
+                }
+            }
+        }
+        for (String type : declaredTypes) {
+            if (mergedParentTypes.containsKey(type)) {
+                mergedAncestors.put(type, Collections.unmodifiableSet(resolveAncestors(type, mergedParentTypes)));
+            } else {
+                mergedAncestors.remove(type);
+            }
+        }
+        return new ToscaTypeGraph(mergedDeclaredTypes, mergedParentTypes, mergedAncestors);
+    }
+
+    /**
+     * Checks whether the type is declared in the graph, with or without a parent type.
+     */
+    public boolean contains(String type) {
+        return declaredTypes.contains(normalize(type));
+    }
+
+    /**
+     * Checks whether the type is the given ancestor type or is derived from it.
+     */
+    public boolean isDerivedFrom(String type, String ancestor) {
+        final String normalizedType = normalize(type);
+        final String normalizedAncestor = normalize(ancestor);
+        return normalizedType.equals(normalizedAncestor)
+                || ancestors.getOrDefault(normalizedType, Collections.emptySet()).contains(normalizedAncestor);
+    }
+
+    /**
+     * Returns the ancestors of the type, nearest first.
+     */
+    public List<String> getAncestors(String type) {
+        return Collections.unmodifiableList(
+                new ArrayList<>(ancestors.getOrDefault(normalize(type), Collections.emptySet())));
+    }
+
+    public int size() {
+        return declaredTypes.size();
+    }
+
+    private static void collectTypes(Map<?, ?> types, Set<String> declaredTypes, Map<String, String> parentTypes) {
+        for (Map.Entry<?, ?> type : types.entrySet()) {
+            final String name = normalize(String.valueOf(type.getKey()));
+            if (!declaredTypes.add(name)) {
+                continue;
+            }
+            if (type.getValue() instanceof Map) {
+                final Object parent = ((Map<?, ?>) type.getValue()).get(DERIVED_FROM);
+                if (parent instanceof String) {
+                    parentTypes.put(name, normalize((String) parent));
+                }
+            }
+        }
+    }
+
+    private static Set<String> resolveAncestors(String type, Map<String, String> parentTypes) {
+        final Set<String> ancestors = new LinkedHashSet<>();
+        String parent = parentTypes.get(type);
+        while (parent != null && !parent.equals(type) && ancestors.add(parent)) {
+            parent = parentTypes.get(parent);
+        }
+        return ancestors;
+    }
+
+    private static List<String> definitionYamlPaths() {
+        final List<String> paths = TYPE_SECTIONS.stream()
+                .map(section -> section + "." + YamlProjection.ANY + "." + DERIVED_FROM)
+                .collect(Collectors.toList());
+        paths.add(IMPORTS);
+        return paths;
+    }
+
+    static String normalize(String type) {
+        return type.toLowerCase(Locale.ROOT);
+    }
+}
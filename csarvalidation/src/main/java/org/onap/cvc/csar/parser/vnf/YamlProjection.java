@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.cvc.csar.parser.vnf;
+
+import org.onap.validation.yaml.parser.YamlEventStream;
+import org.onap.validation.yaml.parser.YamlParser;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads only selected paths of a YAML document.
+ * <p>
+ * A path is a dot separated list of mapping keys, where <i>*</i> matches any key or sequence item,
+ * e.g. <i>topology_template.node_templates.*.type</i>. The node at the end of a path is loaded with its
+ * whole subtree, while everything outside the paths is skipped on the SnakeYAML event stream without
+ * being materialised. The loaded values are the ones {@link YamlParser#load(InputStream)} would return.
+ * Anchored nodes are always loaded, so aliases inside the selected paths resolve.
+ */
+public final class YamlProjection {
+
+    public static final String ANY = "*";
+
+    private static final Object SKIPPED = new Object();
+
+    private final Set<String> paths;
+    private final PathNode root;
+
+    private YamlProjection(Set<String> paths) {
+        this.paths = Collections.unmodifiableSet(paths);
+        this.root = new PathNode();
+        for (String path : paths) {
+            PathNode node = root;
+            for (String key : path.split("\\.")) {
+                node = node.children.computeIfAbsent(key, k -> new PathNode());
+            }
+            node.selected = true;
+        }
+    }
+
+    public static YamlProjection of(String... paths) {
+        return of(Arrays.asList(paths));
+    }
+
+    public static YamlProjection of(Collection<String> paths) {
+        return new YamlProjection(new LinkedHashSet<>(paths));
+    }
+
+    public YamlProjection with(Collection<String> additionalPaths) {
+        final Set<String> allPaths = new LinkedHashSet<>(paths);
+        allPaths.addAll(additionalPaths);
+        return new YamlProjection(allPaths);
+    }
+
+    public Set<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Loads the selected paths of the first document in the stream.
+     *
+     * @return projected root mapping, the root value when it is not a mapping, or null for an empty stream
+     */
+    public Object load(InputStream inputStream) {
+        try (YamlEventStream events = YamlParser.getInstance().parseEvents(inputStream)) {
+            return new Reader(events).readDocument();
+        }
+    }
+
+    private static final class PathNode {
+        private final Map<String, PathNode> children = new HashMap<>();
+        private boolean selected;
+
+        private PathNode child(Object key) {
+            final PathNode child = key instanceof String ? children.get(key) : null;
+            return child != null ? child : children.get(ANY);
+        }
+    }
+
+    private static final class ScalarConstructor extends SafeConstructor {
+        private Object construct(ScalarNode node) {
+            return constructObject(node);
+        }
+    }
+
+    private final class Reader {
+        private final Iterator<Event> events;
+        private final Resolver resolver = new Resolver();
+        private final ScalarConstructor constructor = new ScalarConstructor();
+        private final Map<String, Object> anchors = new HashMap<>();
+
+        private Reader(Iterator<Event> events) {
+            this.events = events;
+        }
+
+        private Object readDocument() {
+            while (events.hasNext()) {
+                final Event event = events.next();
+                if (event.is(Event.ID.DocumentStart)) {
+                    final Object document = read(events.next(), root, root.selected);
+                    return document == SKIPPED ? null : document;
+                }
+            }
+            return null;
+        }
+
+        private Object read(Event event, PathNode path, boolean selected) {
+            if (!selected && path == null) {
+                return skip(event);
+            }
+            if (event.is(Event.ID.Alias)) {
+                return anchors.get(((AliasEvent) event).getAnchor());
+            }
+            final Object value;
+            if (event.is(Event.ID.Scalar)) {
+                value = constructor.construct(toNode((ScalarEvent) event));
+            } else if (event.is(Event.ID.MappingStart)) {
+                value = readMapping(path, selected);
+            } else {
+                value = readSequence(path, selected);
+            }
+            remember(event, value);
+            return value;
+        }
+
+        private Map<Object, Object> readMapping(PathNode path, boolean selected) {
+            final Map<Object, Object> mapping = new LinkedHashMap<>();
+            final List<Object> merged = new ArrayList<>();
+            Event keyEvent = events.next();
+            while (!keyEvent.is(Event.ID.MappingEnd)) {
+                if (isMergeKey(keyEvent)) {
+                    merged.add(read(events.next(), path, selected));
+                } else {
+                    readEntry(mapping, keyEvent, path, selected);
+                }
+                keyEvent = events.next();
+            }
+            for (Object mergedValue : merged) {
+                merge(mapping, mergedValue, selected ? null : path);
+            }
+            return mapping;
+        }
+
+        private void readEntry(Map<Object, Object> mapping, Event keyEvent, PathNode path, boolean selected) {
+            final Object key = readKey(keyEvent, selected);
+            final Event valueEvent = events.next();
+            if (key == SKIPPED) {
+                skip(valueEvent);
+                return;
+            }
+            final PathNode child = selected ? null : path.child(key);
+            final Object value = read(valueEvent, child, selected || child != null && child.selected);
+            if (value != SKIPPED) {
+                mapping.put(key, value);
+            }
+        }
+
+        private List<Object> readSequence(PathNode path, boolean selected) {
+            final List<Object> sequence = new ArrayList<>();
+            final PathNode child = selected ? null : path.child(ANY);
+            Event itemEvent = events.next();
+            while (!itemEvent.is(Event.ID.SequenceEnd)) {
+                final Object item = read(itemEvent, child, selected || child != null && child.selected);
+                if (item != SKIPPED) {
+                    sequence.add(item);
+                }
+                itemEvent = events.next();
+            }
+            return sequence;
+        }
+
+        private Object readKey(Event event, boolean selected) {
+            if (selected || event.is(Event.ID.Scalar) || event.is(Event.ID.Alias)) {
+                return read(event, null, true);
+            }
+            return skip(event);
+        }
+
+        private Object skip(Event event) {
+            if (event instanceof NodeEvent && ((NodeEvent) event).getAnchor() != null) {
+                read(event, null, true);
+            } else if (event.is(Event.ID.MappingStart)) {
+                skipUntil(Event.ID.MappingEnd);
+            } else if (event.is(Event.ID.SequenceStart)) {
+                skipUntil(Event.ID.SequenceEnd);
+            }
+            return SKIPPED;
+        }
+
+        private void skipUntil(Event.ID end) {
+            Event event = events.next();
+            while (!event.is(end)) {
+                skip(event);
+                event = events.next();
+            }
+        }
+
+        private void merge(Map<Object, Object> mapping, Object mergedValue, PathNode path) {
+            if (mergedValue instanceof Map) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) mergedValue).entrySet()) {
+                    if (!mapping.containsKey(entry.getKey()) && (path == null || path.child(entry.getKey()) != null)) {
+                        mapping.put(entry.getKey(), entry.getValue());
+                    }
+                }
+            } else if (mergedValue instanceof List) {
+                for (Object item : (List<?>) mergedValue) {
+                    merge(mapping, item, path);
+                }
+            }
+        }
+
+        private boolean isMergeKey(Event keyEvent) {
+            return keyEvent.is(Event.ID.Scalar) && Tag.MERGE.equals(toNode((ScalarEvent) keyEvent).getTag());
+        }
+
+        private void remember(Event event, Object value) {
+            final String anchor = ((NodeEvent) event).getAnchor();
+            if (anchor != null) {
+                anchors.put(anchor, value);
+            }
+        }
+
+        private ScalarNode toNode(ScalarEvent event) {
+            final String tag = event.getTag();
+            final Tag nodeTag = tag == null || "!".equals(tag)
+                    ? resolver.resolve(NodeId.scalar, event.getValue(), event.getImplicit().canOmitTagInPlainScalar())
+                    : new Tag(tag);
+            return new ScalarNode(nodeTag, event.getValue(), event.getStartMark(), event.getEndMark(), event.getScalarStyle());
+        }
+    }
+}
@@ -0,0 +1,392 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.security;
+
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Optional persistent store of artifact digests, shared by all validations which use the same directory,
+ * so artifacts reused unchanged between package versions are not hashed again.
+ * <p>
+ * Digests are keyed by the CRC-32, uncompressed size and compressed size of the archive entry,
+ * and a stored digest is only used when a fingerprint sampled from the extracted file matches as well.
+ * Positive outcomes of artifact signature verifications are stored too, keyed by the digests of the artifact,
+ * the signature and the certificate.
+ * <p>
+ * CRC-32 and sampling do not protect against a package crafted to collide with a stored artifact,
+ * so the store is disabled unless {@link #DIRECTORY_PROPERTY} is set, and {@link #STRICT_PROPERTY}
+ * makes every validation recompute digests and signatures while still recording them.
+ * The number of stored records is bounded by {@link #MAX_ENTRIES_PROPERTY}; the least recently used
+ * records are evicted first.
+ */
+public class ArtifactDigestStore {
+
+    public static final String DIRECTORY_PROPERTY = "onap.validation.csar.digestStore.directory";
+    public static final String MAX_ENTRIES_PROPERTY = "onap.validation.csar.digestStore.maxEntries";
+    public static final String STRICT_PROPERTY = "onap.validation.csar.digestStore.strict";
+    static final int DEFAULT_MAX_ENTRIES = 10_000;
+    static final int SAMPLE_SIZE = 4096;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ArtifactDigestStore.class);
+
+    private static final String ENTRY_SUFFIX = ".entry";
+    private static final String SIGNATURE_SUFFIX = ".signature";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String DIGEST_PREFIX = "digest.";
+
+    private static final ArtifactDigestStore DISABLED = new ArtifactDigestStore(null, 0, true);
+    private static final ArtifactDigestStore INSTANCE = create();
+
+    private final Path directory;
+    private final int maxEntries;
+    private final boolean strict;
+    private final AtomicInteger entries = new AtomicInteger(-1);
+
+    public ArtifactDigestStore(Path directory, int maxEntries, boolean strict) {
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+        this.strict = strict;
+    }
+
+    public static ArtifactDigestStore getInstance() {
+        return INSTANCE;
+    }
+
+    public static ArtifactDigestStore disabled() {
+        return DISABLED;
+    }
+
+    private static ArtifactDigestStore create() {
+        final String directory = System.getProperty(DIRECTORY_PROPERTY);
+        if (directory == null || directory.isEmpty()) {
+            return DISABLED;
+        }
+        try {
+            final Path path = Files.createDirectories(Paths.get(directory));
+            return new ArtifactDigestStore(
+                path,
+                Integer.getInteger(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES),
+                Boolean.getBoolean(STRICT_PROPERTY)
+            );
+        } catch (IOException e) {
+            LOG.warn("Unable to use artifact digest store in {}", directory, e);
+            return DISABLED;
+        }
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    public boolean isStrict() {
+        return strict;
+    }
+
+    /**
+     * Returns digests stored for an archive entry. In strict mode nothing is returned.
+     */
+    public Optional<StoredDigests> find(ArtifactKey key) {
+        if (!isEnabled() || strict || !key.isComplete()) {
+            return Optional.empty();
+        }
+        final Path record = directory.resolve(key.getName() + ENTRY_SUFFIX);
+        final Optional<StoredDigests> storedDigests = read(record);
+        storedDigests.ifPresent(stored -> touch(record));
+        return storedDigests;
+    }
+
+    /**
+     * Stores digests of an archive entry. Digests of other algorithms already stored for a file with the same
+     * fingerprint are kept, so packages declaring different algorithms for the same artifact all reuse them.
+     */
+    public void store(ArtifactKey key, byte[] fingerprint, Map<String, byte[]> digests) {
+        if (!isEnabled() || !key.isComplete()) {
+            return;
+        }
+        final String name = key.getName() + ENTRY_SUFFIX;
+        final Properties properties = new Properties();
+        read(directory.resolve(name))
+            .filter(stored -> Arrays.equals(stored.fingerprint, fingerprint))
+            .ifPresent(stored -> stored.digests.forEach(
+                (algorithm, digest) -> properties.setProperty(DIGEST_PREFIX + algorithm, Hex.encodeHexString(digest))));
+        properties.setProperty(FINGERPRINT, Hex.encodeHexString(fingerprint));
+        digests.forEach((algorithm, digest) -> properties.setProperty(DIGEST_PREFIX + algorithm, Hex.encodeHexString(digest)));
+        write(name, properties);
+    }
+
+    private static Optional<StoredDigests> read(Path record) {
+        try (InputStream inputStream = Files.newInputStream(record)) {
+            final Properties properties = new Properties();
+            properties.load(inputStream);
+            return Optional.of(StoredDigests.of(properties));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.warn("Ignoring unreadable artifact digest record {}", record, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Checks whether a signature made with the given certificate was already verified for an artifact
+     * with the given SHA-256. In strict mode signatures are always reported as not verified.
+     */
+    public boolean isSignatureVerified(byte[] artifactSha256, Path signature, Path certificate) throws IOException {
+        if (!isEnabled() || strict) {
+            return false;
+        }
+        final Path record = directory.resolve(getSignatureRecordName(artifactSha256, signature, certificate));
+        if (Files.exists(record)) {
+            touch(record);
+            return true;
+        }
+        return false;
+    }
+
+    public void storeSignatureVerified(byte[] artifactSha256, Path signature, Path certificate) throws IOException {
+        if (isEnabled()) {
+            write(getSignatureRecordName(artifactSha256, signature, certificate), new Properties());
+        }
+    }
+
+    /**
+     * Calculates a SHA-256 over the size of a file and up to three samples of it, taken from its beginning,
+     * middle and end.
+     */
+    public static byte[] fingerprint(Path file) throws IOException {
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            digest.update(ByteBuffer.allocate(Long.BYTES).putLong(0, size));
+            final ByteBuffer sample = ByteBuffer.allocate(SAMPLE_SIZE);
+            for (long position : samplePositions(size)) {
+                sample.clear();
+                read(channel, sample, position);
+                sample.flip();
+                digest.update(sample);
+            }
+        }
+        return digest.digest();
+    }
+
+    private static void read(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                return;
+            }
+        }
+    }
+
+    private static long[] samplePositions(long size) {
+        if (size <= 3L * SAMPLE_SIZE) {
+            return new long[]{0};
+        }
+        return new long[]{0, size / 2 - SAMPLE_SIZE / 2, size - SAMPLE_SIZE};
+    }
+
+    private String getSignatureRecordName(byte[] artifactSha256, Path signature, Path certificate)
+        throws IOException {
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        digest.update(artifactSha256);
+        digest.update(DigestUtils.sha256(Files.readAllBytes(signature)));
+        digest.update(DigestUtils.sha256(Files.readAllBytes(certificate)));
+        return Hex.encodeHexString(digest.digest()) + SIGNATURE_SUFFIX;
+    }
+
+    private void write(String name, Properties properties) {
+        final Path record = directory.resolve(name);
+        try {
+            final Path temp = Files.createTempFile(directory, name, TEMP_SUFFIX);
+            try (OutputStream outputStream = Files.newOutputStream(temp)) {
+                properties.store(outputStream, null);
+            }
+            if (entries.get() < 0) {
+                entries.compareAndSet(-1, countRecords());
+            }
+            final boolean added = !Files.exists(record);
+            move(temp, record);
+            if (added && entries.incrementAndGet() > maxEntries) {
+                evict();
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to store artifact digest record {}", record, e);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void touch(Path record) {
+        try {
+            Files.setLastModifiedTime(record, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            LOG.debug("Unable to update access time of {}", record, e);
+        }
+    }
+
+    private int countRecords() throws IOException {
+        try (Stream<Path> records = listRecords()) {
+            return (int) records.count();
+        }
+    }
+
+    private synchronized void evict() throws IOException {
+        final List<Path> records;
+        try (Stream<Path> stream = listRecords()) {
+            records = stream
+                .sorted(Comparator.comparing(ArtifactDigestStore::getLastModifiedTime))
+                .collect(Collectors.toList());
+        }
+        final int retained = maxEntries - maxEntries / 10;
+        for (int i = 0; i < records.size() - retained; i++) {
+            Files.deleteIfExists(records.get(i));
+        }
+        entries.set(Math.min(records.size(), retained));
+    }
+
+    private Stream<Path> listRecords() throws IOException {
+        return Files.list(directory).filter(path -> {
+            final String name = path.getFileName().toString();
+            return name.endsWith(ENTRY_SUFFIX) || name.endsWith(SIGNATURE_SUFFIX);
+        });
+    }
+
+    private static FileTime getLastModifiedTime(Path record) {
+        try {
+            return Files.getLastModifiedTime(record);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    /**
+     * Identifies an archive entry by the values stored in the ZIP headers.
+     */
+    public static final class ArtifactKey {
+        private final long crc;
+        private final long size;
+        private final long compressedSize;
+
+        private ArtifactKey(long crc, long size, long compressedSize) {
+            this.crc = crc;
+            this.size = size;
+            this.compressedSize = compressedSize;
+        }
+
+        public static ArtifactKey of(long crc, long size, long compressedSize) {
+            return new ArtifactKey(crc, size, compressedSize);
+        }
+
+        boolean isComplete() {
+            return crc >= 0 && size >= 0 && compressedSize >= 0;
+        }
+
+        String getName() {
+            return String.format("%08x-%x-%x", crc, size, compressedSize);
+        }
+    }
+
+    /**
+     * Digests stored for an archive entry together with the fingerprint of the file they were calculated for.
+     */
+    public static final class StoredDigests {
+        private final byte[] fingerprint;
+        private final Map<String, byte[]> digests;
+
+        private StoredDigests(byte[] fingerprint, Map<String, byte[]> digests) {
+            this.fingerprint = fingerprint;
+            this.digests = digests;
+        }
+
+        private static StoredDigests of(Properties properties) {
+            final String fingerprint = properties.getProperty(FINGERPRINT);
+            if (fingerprint == null) {
+                throw new IllegalArgumentException("Missing fingerprint");
+            }
+            final Map<String, byte[]> digests = new HashMap<>();
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith(DIGEST_PREFIX)) {
+                    digests.put(name.substring(DIGEST_PREFIX.length()), decode(properties.getProperty(name)));
+                }
+            }
+            return new StoredDigests(decode(fingerprint), Collections.unmodifiableMap(digests));
+        }
+
+        /**
+         * Returns the stored digests if they were calculated for a file with the given fingerprint
+         * and cover all requested algorithms.
+         */
+        public Optional<Map<String, byte[]>> getDigests(byte[] fileFingerprint, Collection<String> algorithms) {
+            if (!Arrays.equals(fingerprint, fileFingerprint) || !digests.keySet().containsAll(algorithms)) {
+                return Optional.empty();
+            }
+            final Map<String, byte[]> requested = new HashMap<>();
+            algorithms.forEach(algorithm -> requested.put(algorithm, digests.get(algorithm).clone()));
+            return Optional.of(requested);
+        }
+
+        public boolean containsAll(Collection<String> algorithms) {
+            return digests.keySet().containsAll(algorithms);
+        }
+
+        private static byte[] decode(String hex) {
+            try {
+                return Hex.decodeHex(hex);
+            } catch (DecoderException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.security;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.cert.CRL;
+import java.security.cert.CertPathBuilder;
+import java.security.cert.CertStore;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.CollectionCertStoreParameters;
+import java.security.cert.PKIXBuilderParameters;
+import java.security.cert.PKIXRevocationChecker;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509CertSelector;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Validates certification paths of signing certificates against a local trust store directory.
+ * <p>
+ * The directory holds certificates in PEM or DER files ({@code .pem}, {@code .crt}, {@code .cer},
+ * {@code .cert}, {@code .der}) and optionally CRLs in {@code .crl} files. Self-signed certificates are trust anchors,
+ * other certificates are intermediates which may be used to build a path to them. Intermediates embedded in
+ * a CMS signature can be given as well. Nothing is fetched from the network: revocation is checked only against
+ * the CRLs from the directory, and only when there are any.
+ * <p>
+ * Results are cached per certificate, given intermediates and trust store version, which is the digest of
+ * the directory content, so a vendor certificate shared by many artifacts and packages is validated once.
+ * Positive results are kept until the certificate expires, negative ones for {@link #UNTRUSTED_RESULT_TIME_TO_LIVE}
+ * at most and not beyond the moment the certificate becomes valid. The directory is reloaded when its listing
+ * changes. Validation is disabled unless {@link #TRUST_STORE_DIRECTORY_PROPERTY} is set.
+ */
+public class CertificateChainValidator {
+
+    public static final String TRUST_STORE_DIRECTORY_PROPERTY = "onap.validation.csar.trustStore.directory";
+    static final int MAX_CACHED_RESULTS = 256;
+    static final Duration UNTRUSTED_RESULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private static final Logger LOG = LoggerFactory.getLogger(CertificateChainValidator.class);
+
+    private static final String X509 = "X.509";
+    private static final String PKIX = "PKIX";
+    private static final String CRL_EXTENSION = ".crl";
+    private static final List<String> CERTIFICATE_EXTENSIONS = List.of(".pem", ".crt", ".cer", ".cert", ".der");
+
+    private static final CertificateChainValidator DISABLED = new CertificateChainValidator(null);
+    private static final CertificateChainValidator INSTANCE = create();
+
+    private final Path trustStoreDirectory;
+    private final Clock clock;
+    private final Map<String, CachedResult> results = Collections.synchronizedMap(
+        new LinkedHashMap<String, CachedResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > MAX_CACHED_RESULTS;
+            }
+        });
+    private volatile TrustStore trustStore;
+
+    public CertificateChainValidator(Path trustStoreDirectory) {
+        this(trustStoreDirectory, Clock.systemUTC());
+    }
+
+    CertificateChainValidator(Path trustStoreDirectory, Clock clock) {
+        this.trustStoreDirectory = trustStoreDirectory;
+        this.clock = clock;
+    }
+
+    public static CertificateChainValidator getInstance() {
+        return INSTANCE;
+    }
+
+    private static CertificateChainValidator create() {
+        final String directory = System.getProperty(TRUST_STORE_DIRECTORY_PROPERTY);
+        if (directory == null || directory.isEmpty()) {
+            return DISABLED;
+        }
+        return new CertificateChainValidator(Paths.get(directory));
+    }
+
+    public boolean isEnabled() {
+        return trustStoreDirectory != null;
+    }
+
+    /**
+     * Validates the certification path from the given certificate to one of the trust anchors.
+     * A disabled validator accepts every certificate.
+     */
+    public Result validate(X509Certificate certificate) {
+        return validate(certificate, Collections.emptyList());
+    }
+
+    /**
+     * Validates the certification path from the given certificate to one of the trust anchors,
+     * using the given intermediates, e.g. the certificates embedded in a CMS signature, besides the ones
+     * from the trust store. A disabled validator accepts every certificate.
+     */
+    public Result validate(X509Certificate certificate, Collection<X509Certificate> intermediates) {
+        if (!isEnabled()) {
+            return Result.TRUSTED;
+        }
+        final TrustStore store;
+        final String key;
+        try {
+            store = getTrustStore();
+            key = createKey(certificate, intermediates) + ':' + store.version;
+        } catch (IOException | GeneralSecurityException e) {
+            LOG.error("Unable to load trust store from {}", trustStoreDirectory, e);
+            return Result.untrusted("Unable to load trust store: " + e.getMessage());
+        }
+        final Date now = Date.from(clock.instant());
+        final CachedResult cached = results.get(key);
+        if (cached != null && cached.isValidOn(now)) {
+            return cached.result;
+        }
+        final Result result = buildPath(certificate, intermediates, store, now);
+        results.put(key, new CachedResult(result, getExpiration(result, certificate, now)));
+        return result;
+    }
+
+    private static String createKey(X509Certificate certificate, Collection<X509Certificate> intermediates)
+        throws CertificateEncodingException {
+        final MessageDigest key = DigestUtils.getSha256Digest();
+        key.update(certificate.getEncoded());
+        for (X509Certificate intermediate : intermediates) {
+            key.update(intermediate.getEncoded());
+        }
+        return Hex.encodeHexString(key.digest());
+    }
+
+    private static Date getExpiration(Result result, X509Certificate certificate, Date now) {
+        if (result.isTrusted()) {
+            return certificate.getNotAfter();
+        }
+        final Date expiration = new Date(now.getTime() + UNTRUSTED_RESULT_TIME_TO_LIVE.toMillis());
+        return certificate.getNotBefore().after(now) && certificate.getNotBefore().before(expiration)
+            ? certificate.getNotBefore()
+            : expiration;
+    }
+
+    private static Result buildPath(X509Certificate certificate, Collection<X509Certificate> intermediates,
+                                    TrustStore store, Date now) {
+        if (store.anchorCertificates.contains(certificate)) {
+            return certificate.getNotAfter().before(now)
+                ? Result.untrusted("Certificate has expired")
+                : Result.TRUSTED;
+        }
+        try {
+            final X509CertSelector selector = new X509CertSelector();
+            selector.setCertificate(certificate);
+            final PKIXBuilderParameters parameters = new PKIXBuilderParameters(store.anchors, selector);
+            parameters.setDate(now);
+            final List<Object> certStoreContent = new ArrayList<>(store.crls);
+            certStoreContent.addAll(store.intermediates);
+            certStoreContent.addAll(intermediates);
+            certStoreContent.add(certificate);
+            parameters.addCertStore(CertStore.getInstance("Collection",
+                new CollectionCertStoreParameters(certStoreContent)));
+
+            final CertPathBuilder builder = CertPathBuilder.getInstance(PKIX);
+            if (store.crls.isEmpty()) {
+                parameters.setRevocationEnabled(false);
+            } else {
+                final PKIXRevocationChecker revocationChecker = (PKIXRevocationChecker) builder.getRevocationChecker();
+                revocationChecker.setOptions(EnumSet.of(
+                    PKIXRevocationChecker.Option.PREFER_CRLS,
+                    PKIXRevocationChecker.Option.NO_FALLBACK,
+                    PKIXRevocationChecker.Option.SOFT_FAIL));
+                parameters.addCertPathChecker(revocationChecker);
+            }
+            builder.build(parameters);
+            return Result.TRUSTED;
+        } catch (GeneralSecurityException e) {
+            return Result.untrusted(e.getMessage());
+        }
+    }
+
+    private TrustStore getTrustStore() throws IOException, GeneralSecurityException {
+        final List<Path> files = listTrustStoreFiles();
+        final String stamp = createStamp(files);
+        TrustStore current = trustStore;
+        if (current == null || !current.stamp.equals(stamp)) {
+            synchronized (this) {
+                current = trustStore;
+                if (current == null || !current.stamp.equals(stamp)) {
+                    current = TrustStore.load(files, stamp);
+                    trustStore = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private List<Path> listTrustStoreFiles() throws IOException {
+        try (Stream<Path> files = Files.list(trustStoreDirectory)) {
+            return files
+                .filter(Files::isRegularFile)
+                .filter(file -> isCertificateFile(file) || isCrlFile(file))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    private static String createStamp(List<Path> files) throws IOException {
+        final StringBuilder stamp = new StringBuilder();
+        for (Path file : files) {
+            stamp.append(file.getFileName()).append('/')
+                .append(Files.size(file)).append('/')
+                .append(Files.getLastModifiedTime(file).toMillis()).append(';');
+        }
+        return stamp.toString();
+    }
+
+    private static boolean isCertificateFile(Path file) {
+        final String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return CERTIFICATE_EXTENSIONS.stream().anyMatch(name::endsWith);
+    }
+
+    private static boolean isCrlFile(Path file) {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(CRL_EXTENSION);
+    }
+
+    public static final class Result {
+        static final Result TRUSTED = new Result(true, "");
+
+        private final boolean trusted;
+        private final String reason;
+
+        private Result(boolean trusted, String reason) {
+            this.trusted = trusted;
+            this.reason = reason;
+        }
+
+        static Result untrusted(String reason) {
+            return new Result(false, reason);
+        }
+
+        public boolean isTrusted() {
+            return trusted;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+
+    private static final class CachedResult {
+        private final Result result;
+        private final Date expiration;
+
+        private CachedResult(Result result, Date expiration) {
+            this.result = result;
+            this.expiration = expiration;
+        }
+
+        private boolean isValidOn(Date date) {
+            return date.before(expiration);
+        }
+    }
+
+    private static final class TrustStore {
+        private final String stamp;
+        private final String version;
+        private final Set<TrustAnchor> anchors;
+        private final Set<X509Certificate> anchorCertificates;
+        private final List<X509Certificate> intermediates;
+        private final List<CRL> crls;
+
+        private TrustStore(String stamp, String version, Set<X509Certificate> anchorCertificates,
+                           List<X509Certificate> intermediates, List<CRL> crls) {
+            this.stamp = stamp;
+            this.version = version;
+            this.anchorCertificates = anchorCertificates;
+            this.intermediates = intermediates;
+            this.anchors = anchorCertificates.stream()
+                .map(certificate -> new TrustAnchor(certificate, null))
+                .collect(Collectors.toSet());
+            this.crls = crls;
+        }
+
+        private static TrustStore load(List<Path> files, String stamp) throws IOException, GeneralSecurityException {
+            final CertificateFactory factory = CertificateFactory.getInstance(X509);
+            final MessageDigest version = DigestUtils.getSha256Digest();
+            final Set<X509Certificate> anchorCertificates = new HashSet<>();
+            final List<X509Certificate> intermediates = new ArrayList<>();
+            final List<CRL> crls = new ArrayList<>();
+            for (Path file : files) {
+                final byte[] content = Files.readAllBytes(file);
+                version.update(file.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+                version.update(content);
+                try (InputStream inputStream = new ByteArrayInputStream(content)) {
+                    if (isCrlFile(file)) {
+                        crls.addAll(factory.generateCRLs(inputStream));
+                    } else {
+                        for (Certificate certificate : factory.generateCertificates(inputStream)) {
+                            final X509Certificate x509Certificate = (X509Certificate) certificate;
+                            if (isSelfSigned(x509Certificate)) {
+                                anchorCertificates.add(x509Certificate);
+                            } else {
+                                intermediates.add(x509Certificate);
+                            }
+                        }
+                    }
+                }
+            }
+            return new TrustStore(stamp, Hex.encodeHexString(version.digest()),
+                anchorCertificates, intermediates, crls);
+        }
+
+        private static boolean isSelfSigned(X509Certificate certificate) {
+            if (!certificate.getSubjectX500Principal().equals(certificate.getIssuerX500Principal())) {
+                return false;
+            }
+            try {
+                certificate.verify(certificate.getPublicKey());
+                return true;
+            } catch (GeneralSecurityException e) {
+                return false;
+            }
+        }
+    }
+}
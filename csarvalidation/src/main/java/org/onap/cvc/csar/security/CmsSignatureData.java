@@ -19,19 +19,18 @@ package org.onap.cvc.csar.security;
 
 import org.bouncycastle.cms.SignerInformation;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.cert.CertificateException;
-import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 public class CmsSignatureData {
 
     private X509Certificate certificate;
+    private List<X509Certificate> embeddedCertificates = Collections.emptyList();
     private final SignerInformation signerInformation;
 
     public CmsSignatureData(X509Certificate certificate, SignerInformation signerInformation) {
@@ -47,14 +46,25 @@ public class CmsSignatureData {
         return Optional.ofNullable(certificate);
     }
 
+    /**
+     * Certificates embedded in the signature, which may hold the intermediates of the signing certificate.
+     */
+    public List<X509Certificate> getEmbeddedCertificates() {
+        return embeddedCertificates;
+    }
+
+    void setEmbeddedCertificates(List<X509Certificate> embeddedCertificates) {
+        this.embeddedCertificates = embeddedCertificates;
+    }
+
     public SignerInformation getSignerInformation() {
         return signerInformation;
     }
 
     public void loadCertificate(Path pathToCertificate) throws CertificateLoadingException {
         try {
-            loadCertificate(Files.readAllBytes(pathToCertificate));
-        } catch (IOException e) {
+            this.certificate = X509CertificateCache.getInstance().get(pathToCertificate);
+        } catch (IOException | CertificateException e) {
             final String errorMessage = String.format(
                 "Error during loading Certificate from given path: %s !"
                 ,pathToCertificate
@@ -64,10 +74,9 @@ public class CmsSignatureData {
     }
 
     public void loadCertificate(final byte[] certificate) throws CertificateLoadingException {
-        try (InputStream in = new ByteArrayInputStream(certificate)) {
-            CertificateFactory factory = CertificateFactory.getInstance("X.509");
-            this.certificate =  (X509Certificate) factory.generateCertificate(in);
-        } catch (IOException | CertificateException e) {
+        try {
+            this.certificate = X509CertificateCache.getInstance().get(certificate);
+        } catch (CertificateException e) {
             throw new CertificateLoadingException("Error during loading Certificate from bytes!", e);
         }
     }
@@ -22,36 +22,102 @@ import org.bouncycastle.cert.X509CertificateHolder;
 import org.bouncycastle.cms.CMSException;
 import org.bouncycastle.cms.CMSProcessableByteArray;
 import org.bouncycastle.cms.CMSSignedData;
+import org.bouncycastle.cms.CMSSignedDataParser;
 import org.bouncycastle.cms.CMSTypedData;
+import org.bouncycastle.cms.CMSTypedStream;
 import org.bouncycastle.cms.SignerInformation;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
 import org.bouncycastle.util.Store;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public class CmsSignatureDataFactory {
 
-    private final SignatureFactory signatureFactory = new SignatureFactory();
+    private static final SignatureFactory SIGNATURE_FACTORY = new SignatureFactory();
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     public CmsSignatureData createForFirstSigner(final byte[] cmsSignature, final byte[] fileContent)
         throws CmsSignatureLoadingException {
 
         try {
             CMSSignedData signedData = getCMSSignedData(fileContent, cmsSignature);
-            Collection<SignerInformation> signers = signedData.getSignerInfos().getSigners();
-            Store<X509CertificateHolder> certificates = signedData.getCertificates();
-            SignerInformation firstSigner = getFirstSigner(signers);
-            CmsSignatureData signatureData = new CmsSignatureData(firstSigner);
-            getFirstSignerCertificate(certificates, firstSigner).ifPresent(
-                signatureData::loadCertificate
-            );
-            return signatureData;
+            return createForFirstSigner(signedData.getSignerInfos().getSigners(), signedData.getCertificates());
         } catch (CertificateLoadingException | IOException | CMSException e) {
             throw new CmsSignatureLoadingException("Unexpected error occurred during signature validation!", e);
         }
     }
 
+    /**
+     * Creates signature data for a detached signature of a file, streaming the file through the digests
+     * of the signature instead of loading it, so memory use does not depend on the size of the file.
+     */
+    public CmsSignatureData createForFirstSigner(final byte[] cmsSignature, final Path signedFile)
+        throws CmsSignatureLoadingException {
+
+        try (InputStream content = new BufferedInputStream(Files.newInputStream(signedFile), BUFFER_SIZE)) {
+            CMSSignedDataParser signedDataParser = new CMSSignedDataParser(
+                new JcaDigestCalculatorProviderBuilder().build(),
+                new CMSTypedStream(content),
+                SIGNATURE_FACTORY.createSignature(cmsSignature).getEncoded()
+            );
+            signedDataParser.getSignedContent().drain();
+            return createForFirstSigner(signedDataParser.getSignerInfos().getSigners(), signedDataParser.getCertificates());
+        } catch (CertificateLoadingException | IOException | CMSException | OperatorCreationException e) {
+            throw new CmsSignatureLoadingException("Unexpected error occurred during signature validation!", e);
+        }
+    }
+
+    /**
+     * Reads the certificates embedded in a signature without verifying it.
+     */
+    public List<X509Certificate> readEmbeddedCertificates(final byte[] cmsSignature)
+        throws CmsSignatureLoadingException {
+
+        try {
+            CMSSignedData signedData = new CMSSignedData(SIGNATURE_FACTORY.createSignature(cmsSignature));
+            return toX509Certificates(signedData.getCertificates());
+        } catch (IOException | CMSException | RuntimeException e) {
+            throw new CmsSignatureLoadingException("Unable to read certificates from signature!", e);
+        }
+    }
+
+    private CmsSignatureData createForFirstSigner(
+        Collection<SignerInformation> signers,
+        Store<X509CertificateHolder> certificates)
+        throws IOException {
+        SignerInformation firstSigner = getFirstSigner(signers);
+        CmsSignatureData signatureData = new CmsSignatureData(firstSigner);
+        getFirstSignerCertificate(certificates, firstSigner).ifPresent(
+            signatureData::loadCertificate
+        );
+        signatureData.setEmbeddedCertificates(toX509Certificates(certificates));
+        return signatureData;
+    }
+
+    private static List<X509Certificate> toX509Certificates(Store<X509CertificateHolder> certificates)
+        throws IOException {
+        final List<X509Certificate> x509Certificates = new ArrayList<>();
+        for (X509CertificateHolder certificate : certificates.getMatches(null)) {
+            try {
+                x509Certificates.add(X509CertificateCache.getInstance().get(certificate.getEncoded()));
+            } catch (CertificateException e) {
+                throw new CertificateLoadingException("Error during loading embedded certificate!", e);
+            }
+        }
+        return x509Certificates;
+    }
+
     private SignerInformation getFirstSigner(Collection<SignerInformation> signers) {
         return signers.iterator().next();
     }
@@ -72,7 +138,7 @@ public class CmsSignatureDataFactory {
     }
 
     private CMSSignedData getCMSSignedData(byte[] innerPackageFileCSAR, byte[] signatureStream) throws IOException, CmsSignatureLoadingException, CMSException {
-        ContentInfo signature = signatureFactory.createSignature(signatureStream);
+        ContentInfo signature = SIGNATURE_FACTORY.createSignature(signatureStream);
         CMSTypedData signedContent = new CMSProcessableByteArray(innerPackageFileCSAR);
         return new CMSSignedData(signedContent, signature);
     }
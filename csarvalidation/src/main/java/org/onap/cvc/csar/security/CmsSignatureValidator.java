@@ -19,11 +19,11 @@ package org.onap.cvc.csar.security;
 
 import org.bouncycastle.cms.CMSException;
 import org.bouncycastle.cms.CMSSignerDigestMismatchException;
-import org.bouncycastle.cms.jcajce.JcaSimpleSignerInfoVerifierBuilder;
 import org.bouncycastle.operator.OperatorCreationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
 import java.security.cert.X509Certificate;
 import java.util.Optional;
 
@@ -31,26 +31,69 @@ public class CmsSignatureValidator {
 
     private static final Logger LOG = LoggerFactory.getLogger(CmsSignatureValidator.class);
 
+    private final CmsSignatureDataFactory cmsSignatureDataFactory = new CmsSignatureDataFactory();
+    private final SignerInfoVerifierCache verifiers = SignerInfoVerifierCache.getInstance();
+
     public boolean verifySignedData(
             final byte[] cmsSignature,
             final Optional<byte[]> certificate,
             final byte[] fileContent) throws CmsSignatureValidatorException {
 
         try {
-            CmsSignatureData signatureData = new CmsSignatureDataFactory().createForFirstSigner(cmsSignature, fileContent);
-            if( signatureData.getCertificate().isEmpty() ) {
-                signatureData.loadCertificate(certificate.orElseThrow(() -> new CmsSignatureValidatorException("No certificate found in cms signature and ETSI-Entry-Certificate doesn't exist")));
-            }
-            return verifySignedData(signatureData);
+            CmsSignatureData signatureData = cmsSignatureDataFactory.createForFirstSigner(cmsSignature, fileContent);
+            return verifySignedData(signatureData, certificate);
         } catch ( CmsSignatureLoadingException e) {
             throw new CmsSignatureValidatorException("Unexpected error occurred during signature validation!", e);
         }
     }
 
+    /**
+     * Verifies a detached signature of a file without loading the file into memory.
+     */
+    public boolean verifySignedData(
+            final byte[] cmsSignature,
+            final Optional<byte[]> certificate,
+            final Path signedFile) throws CmsSignatureValidatorException {
+
+        return verifySignedData(createSignatureData(cmsSignature, certificate, signedFile));
+    }
+
+    /**
+     * Loads a detached signature of a file, using the given certificate when the signature does not contain one.
+     */
+    public CmsSignatureData createSignatureData(
+            final byte[] cmsSignature,
+            final Optional<byte[]> certificate,
+            final Path signedFile) throws CmsSignatureValidatorException {
+
+        try {
+            CmsSignatureData signatureData = cmsSignatureDataFactory.createForFirstSigner(cmsSignature, signedFile);
+            loadCertificateIfMissing(signatureData, certificate);
+            return signatureData;
+        } catch ( CmsSignatureLoadingException e) {
+            throw new CmsSignatureValidatorException("Unexpected error occurred during signature validation!", e);
+        }
+    }
+
+    private boolean verifySignedData(
+            final CmsSignatureData signatureData,
+            final Optional<byte[]> certificate) throws CmsSignatureValidatorException {
+        loadCertificateIfMissing(signatureData, certificate);
+        return verifySignedData(signatureData);
+    }
+
+    private static void loadCertificateIfMissing(
+            final CmsSignatureData signatureData,
+            final Optional<byte[]> certificate) throws CmsSignatureValidatorException {
+        if( signatureData.getCertificate().isEmpty() ) {
+            signatureData.loadCertificate(certificate.orElseThrow(() -> new CmsSignatureValidatorException("No certificate found in cms signature and ETSI-Entry-Certificate doesn't exist")));
+        }
+    }
+
     public boolean verifySignedData(final CmsSignatureData signatureData) throws CmsSignatureValidatorException {
         try {
             X509Certificate certificate = signatureData.getCertificate().orElseThrow(() -> new CMSException("No certificate found in signature data!"));
-            return signatureData.getSignerInformation().verify(new JcaSimpleSignerInfoVerifierBuilder().build(certificate));
+            return signatureData.getSignerInformation().verify(verifiers.get(certificate));
         } catch (CMSSignerDigestMismatchException e){
             //message-digest attribute value does not match calculated value
             LOG.warn("CMS signer digest mismatch.", e);
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.security;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Source of file digests calculated before validation, for example while the CSAR was unpacked.
+ */
+@FunctionalInterface
+public interface PrecomputedDigests {
+
+    PrecomputedDigests NONE = (file, algorithm) -> Optional.empty();
+
+    /**
+     * Returns the digest of a file calculated with one of the {@link ShaHashCodeGenerator} algorithms, if known.
+     */
+    Optional<byte[]> find(Path file, String algorithm);
+}
@@ -20,24 +20,67 @@ package org.onap.cvc.csar.security;
 import org.bouncycastle.util.encoders.Hex;
 
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
 
 public class ShaHashCodeGenerator {
 
+    public static final String SHA_256 = "SHA-256";
+    public static final String SHA_512 = "SHA-512";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<Map<String, MessageDigest>> DIGESTS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
     public String generateSha256(byte[] source) throws NoSuchAlgorithmException {
-        final String algorithm = "SHA-256";
-        return generateHashCode(source, algorithm);
+        return generateHashCode(source, SHA_256);
     }
 
     public String generateSha512(byte[] source) throws NoSuchAlgorithmException {
-        final String algorithm = "SHA-512";
-        return generateHashCode(source, algorithm);
+        return generateHashCode(source, SHA_512);
+    }
+
+    /**
+     * Calculates the digest of a file, reading it through a fixed-size buffer,
+     * so memory use does not depend on the size of the file.
+     */
+    public byte[] digest(Path file, String algorithm) throws NoSuchAlgorithmException, IOException {
+        final MessageDigest digest = getDigest(algorithm);
+        final byte[] buffer = BUFFERS.get();
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return digest.digest();
+        } finally {
+            digest.reset();
+        }
     }
 
     private String generateHashCode(byte[] source, String algorithm) throws NoSuchAlgorithmException {
-        MessageDigest digest = MessageDigest.getInstance(algorithm);
-        byte[] hash = digest.digest(source);
-        return new String(Hex.encode(hash));
+        final MessageDigest digest = getDigest(algorithm);
+        try {
+            return new String(Hex.encode(digest.digest(source)));
+        } finally {
+            digest.reset();
+        }
+    }
+
+    private static MessageDigest getDigest(String algorithm) throws NoSuchAlgorithmException {
+        final Map<String, MessageDigest> digests = DIGESTS.get();
+        MessageDigest digest = digests.get(algorithm);
+        if (digest == null) {
+            digest = MessageDigest.getInstance(algorithm);
+            digests.put(algorithm, digest);
+        }
+        return digest;
     }
 }
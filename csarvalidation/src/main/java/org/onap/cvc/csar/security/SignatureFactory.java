@@ -22,7 +22,6 @@ import org.bouncycastle.asn1.cms.ContentInfo;
 import org.bouncycastle.openssl.PEMParser;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 
@@ -32,8 +31,10 @@ public class SignatureFactory {
     public static final String PEM_SIGNATURE_END_TAG = "-----END CMS-----";
 
     public ContentInfo createSignature(byte[] signatureStream) throws IOException, CmsSignatureLoadingException {
-        byte[] pemSignatureStream = convertSignatureToPemIfInDerFormat(signatureStream);
-        try(ByteArrayInputStream signatureInput = new ByteArrayInputStream(pemSignatureStream)) {
+        if (!Base64.isBase64(signatureStream)) {
+            return createSignatureFromDer(signatureStream);
+        }
+        try(ByteArrayInputStream signatureInput = new ByteArrayInputStream(signatureStream)) {
             Object parsedObject = new PEMParser(new InputStreamReader(signatureInput)).readPemObject().getContent();
             return ContentInfo.getInstance(parsedObject);
         } catch (Exception e) {
@@ -41,20 +42,14 @@ public class SignatureFactory {
         }
     }
 
-    private byte[] convertSignatureToPemIfInDerFormat(byte[] signatureStream) throws IOException {
-        byte[] encodedSignatureStream = signatureStream.clone();
-        if (!Base64.isBase64(signatureStream)) {
-            encodedSignatureStream = Base64.encodeBase64(encodedSignatureStream);
-            encodedSignatureStream = wrapWithPemTags(encodedSignatureStream);
+    /**
+     * DER signatures are parsed directly, instead of being encoded to PEM only to be decoded again.
+     */
+    private ContentInfo createSignatureFromDer(byte[] signatureStream) throws CmsSignatureLoadingException {
+        try {
+            return ContentInfo.getInstance(signatureStream);
+        } catch (Exception e) {
+            throw new CmsSignatureLoadingException("Signature is not recognized!", e);
         }
-        return encodedSignatureStream;
-    }
-
-    private byte[] wrapWithPemTags(byte[] encodedSignatureStream) throws IOException {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream( );
-        outputStream.write( (PEM_SIGNATURE_BEGIN_TAG + "\n").getBytes() );
-        outputStream.write( encodedSignatureStream );
-        outputStream.write( ("\n" + PEM_SIGNATURE_END_TAG).getBytes() );
-        return outputStream.toByteArray();
     }
 }
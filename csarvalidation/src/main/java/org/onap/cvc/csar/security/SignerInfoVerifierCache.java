@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.security;
+
+import org.bouncycastle.cms.SignerInformationVerifier;
+import org.bouncycastle.cms.jcajce.JcaSimpleSignerInfoVerifierBuilder;
+import org.bouncycastle.operator.OperatorCreationException;
+
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide cache of signer verifiers, one per signing certificate.
+ * Building a verifier converts the certificate and sets up its content verifier and digest providers,
+ * which is the same for every signature created with that certificate.
+ * Verifiers create new signature and digest instances for every verification, so they can be shared
+ * between threads. The least recently used verifiers are evicted first.
+ */
+public final class SignerInfoVerifierCache {
+
+    static final int MAX_SIZE = 256;
+
+    private static final SignerInfoVerifierCache INSTANCE = new SignerInfoVerifierCache(MAX_SIZE);
+
+    private final Map<X509Certificate, SignerInformationVerifier> verifiers;
+
+    SignerInfoVerifierCache(int maxSize) {
+        this.verifiers = Collections.synchronizedMap(
+            new LinkedHashMap<X509Certificate, SignerInformationVerifier>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<X509Certificate, SignerInformationVerifier> eldest) {
+                    return size() > maxSize;
+                }
+            });
+    }
+
+    public static SignerInfoVerifierCache getInstance() {
+        return INSTANCE;
+    }
+
+    public SignerInformationVerifier get(X509Certificate certificate) throws OperatorCreationException {
+        SignerInformationVerifier verifier = verifiers.get(certificate);
+        if (verifier == null) {
+            verifier = new JcaSimpleSignerInfoVerifierBuilder().build(certificate);
+            verifiers.put(certificate, verifier);
+        }
+        return verifier;
+    }
+
+    public int size() {
+        return verifiers.size();
+    }
+}
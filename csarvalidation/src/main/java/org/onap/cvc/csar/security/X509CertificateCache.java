@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.security;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Process-wide cache of parsed X.509 certificates, so a certificate shared by many artifacts,
+ * rules or validated packages is parsed only once.
+ * Certificates are keyed by the SHA-256 of their encoding. Certificate files are additionally keyed
+ * by their path, size and modification time, so a file already seen is not even read again.
+ * Both maps are bounded and evict the least recently used certificates first.
+ */
+public final class X509CertificateCache {
+
+    static final String MAX_SIZE_PROPERTY = "onap.validation.csar.certificateCacheSize";
+    static final int DEFAULT_MAX_SIZE = 256;
+
+    private static final String X509 = "X.509";
+    private static final X509CertificateCache INSTANCE =
+        new X509CertificateCache(Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE));
+    private static final ThreadLocal<CertificateFactory> FACTORIES = new ThreadLocal<>();
+
+    private final Map<String, X509Certificate> certificatesByContent;
+    private final Map<FileKey, X509Certificate> certificatesByFile;
+
+    X509CertificateCache(int maxSize) {
+        this.certificatesByContent = createLruMap(maxSize);
+        this.certificatesByFile = createLruMap(maxSize);
+    }
+
+    public static X509CertificateCache getInstance() {
+        return INSTANCE;
+    }
+
+    public X509Certificate get(Path pathToCertificate) throws IOException, CertificateException {
+        final Path file = pathToCertificate.toAbsolutePath().normalize();
+        final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        final FileKey key = new FileKey(file, attributes.size(), attributes.lastModifiedTime().toMillis());
+        X509Certificate certificate = certificatesByFile.get(key);
+        if (certificate == null) {
+            certificate = get(Files.readAllBytes(file));
+            certificatesByFile.put(key, certificate);
+        }
+        return certificate;
+    }
+
+    public X509Certificate get(byte[] encodedCertificate) throws CertificateException {
+        final String key = DigestUtils.sha256Hex(encodedCertificate);
+        X509Certificate certificate = certificatesByContent.get(key);
+        if (certificate == null) {
+            certificate = parse(encodedCertificate);
+            final X509Certificate cached = certificatesByContent.putIfAbsent(key, certificate);
+            if (cached != null) {
+                certificate = cached;
+            }
+        }
+        return certificate;
+    }
+
+    boolean contains(byte[] encodedCertificate) {
+        return certificatesByContent.containsKey(DigestUtils.sha256Hex(encodedCertificate));
+    }
+
+    public int size() {
+        return certificatesByContent.size();
+    }
+
+    public void clear() {
+        certificatesByFile.clear();
+        certificatesByContent.clear();
+    }
+
+    private static X509Certificate parse(byte[] encodedCertificate) throws CertificateException {
+        CertificateFactory factory = FACTORIES.get();
+        if (factory == null) {
+            factory = CertificateFactory.getInstance(X509);
+            FACTORIES.set(factory);
+        }
+        return (X509Certificate) factory.generateCertificate(new ByteArrayInputStream(encodedCertificate));
+    }
+
+    private static <K> Map<K, X509Certificate> createLruMap(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<K, X509Certificate>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, X509Certificate> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    private static final class FileKey {
+        private final Path file;
+        private final long size;
+        private final long lastModified;
+
+        private FileKey(Path file, long size, long lastModified) {
+            this.file = file;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FileKey fileKey = (FileKey) o;
+            return size == fileKey.size && lastModified == fileKey.lastModified && file.equals(fileKey.file);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(file, size, lastModified);
+        }
+    }
+}
@@ -22,12 +22,16 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.FileOutputStream;
 
-import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Enumeration;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.Map;
@@ -39,11 +43,6 @@ public final class CsarUtil {
    private CsarUtil(){
       //It is made private in order to resolve: Utility classes should not have public constructors
    }
-   public static String getUnzipDir(String dirName) {
-      File tmpDir = new File(File.separator + dirName);
-      return tmpDir.getAbsolutePath().replace(".csar", "");
-   }
-
    /**
    * unzip zip file.
    *
@@ -58,40 +57,44 @@ public final class CsarUtil {
    */
    public static Map<String, String> unzip(String zipFileName, String extPlace) throws IOException {
       HashMap<String, String> unzipFileNames = new HashMap<>();
-      InputStream input = null;
+      Path destination = Paths.get(extPlace).toAbsolutePath().normalize();
+      Set<Path> createdDirectories = new HashSet<>();
       try(ZipFile zipFile = new ZipFile(zipFileName)) {
 
-         Enumeration<?> fileEn = zipFile.entries();
+         Enumeration<? extends ZipEntry> fileEn = zipFile.entries();
          byte[] buffer = new byte[CommonConstants.BUFFER_SIZE];
 
          while (fileEn.hasMoreElements()) {
-            ZipEntry entry = (ZipEntry) fileEn.nextElement();
+            ZipEntry entry = fileEn.nextElement();
             if (entry.isDirectory()) {
                continue;
             }
 
-            input = zipFile.getInputStream(entry);
-            File file = new File(extPlace, entry.getName());
+            Path file = destination.resolve(entry.getName()).normalize();
+            if (!file.startsWith(destination)) {
+               throw new IOException("Entry is outside of the target directory: " + entry.getName());
+            }
 
             //Currently it does not support xml based VNF descriptors.
             //So skip and proceed to YAML defined files validation only.
-            if (file.getAbsolutePath().contains("xml"+System.getProperty("file.separator"))) {
+            if (file.toString().contains("xml"+System.getProperty("file.separator"))) {
                continue;
             }
 
-            updateUnzipFileNames(input, buffer, unzipFileNames, file);
+            Path parent = file.getParent();
+            if (createdDirectories.add(parent)) {
+               Files.createDirectories(parent);
+            }
+            try (InputStream input = zipFile.getInputStream(entry)) {
+               updateUnzipFileNames(input, buffer, unzipFileNames, file.toFile());
+            }
          }
-      } finally {
-         closeInputStream(input);
       }
       return unzipFileNames;
    }
 
    private static void updateUnzipFileNames(InputStream input, byte[] buffer, HashMap<String, String> unzipFileNames, File file) throws IOException {
-      if (!file.getParentFile().exists()) {
-         FileUtil.createDirectory(file.getParentFile().getAbsolutePath());
-      }
-      try (BufferedOutputStream bos = new BufferedOutputStream(new FileOutputStream(file))){// NOSONAR
+      try (OutputStream bos = new FileOutputStream(file)){// NOSONAR
          while (true) {
             int length = input.read(buffer);
             if (length == -1) {
@@ -142,15 +145,15 @@ public final class CsarUtil {
       }
    }
    /**
+   * Extracts the CSAR to a workspace of its own, which has to be closed once the validation is done.
    *
    * @param filePath
-   * @return HashMap<String, String>
+   * @return workspace with the extracted files
    */
-   public static Map<String, String> csarExtract(String filePath) {
+   public static CsarWorkspace csarExtract(String filePath) {
 
       try {
-         String tempfolder = CsarUtil.getUnzipDir(filePath);
-         return CsarUtil.unzip(filePath, tempfolder);
+         return CsarWorkspace.extract(filePath);
 
       } catch (IOException e1) {
          String errCodeMessage = ErrorCodes.FILE_IO+" "+ e1.getMessage();
@@ -27,9 +27,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -37,26 +38,33 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.onap.validation.yaml.parser.YamlParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.yaml.snakeyaml.Yaml;
 
-public class CsarValidator {
+/**
+ * Validates a single CSAR against the Casablanca rules.
+ * Every instance holds the extracted files and the schema of its own package, so packages can be validated
+ * concurrently by separate instances. An instance itself is meant to be used by one thread at a time.
+ */
+public class CsarValidator implements AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(CsarValidator.class);
 
+    private final String packageId;
+
     // Schema files
-    private static ValidatorSchemaLoader vsl;
+    private final ValidatorSchemaLoader vsl;
 
-    // Map of CSAR file and un-zipped file indices
-    private static Map<String, String> csarFiles;
+    // Directory the CSAR is extracted to
+    private final CsarWorkspace workspace;
 
-    // Map of packageId and CSAR files
-    private static Map<String, Map<String, String>> csar = new HashMap<>();
+    // Map of CSAR file and un-zipped file indices
+    private Map<String, String> csarFiles;
 
-    private static String mainServiceTemplate = CommonConstants.MAINSERV_TEMPLATE;
+    private String mainServiceTemplate = CommonConstants.MAINSERV_TEMPLATE;
 
-    private static String mainServiceManifest;
+    private String mainServiceManifest;
 
     /**
      * @param packageId
@@ -71,10 +79,11 @@ public class CsarValidator {
                     "RESOURCE MISSING" + csarWithPath + ":CSAR  is not found!");
         }
 
+        this.packageId = packageId;
         try {
-            csarFiles = CsarUtil.csarExtract(csarWithPath);
+            workspace = CsarUtil.csarExtract(csarWithPath);
+            csarFiles = workspace.getFiles();
             if(!csarFiles.isEmpty()) {
-                csar.put(packageId, getCsarFiles());
                 LOG.debug("CSAR extracted sucessfully.");
             }
         } catch(Exception e1) {
@@ -87,6 +96,7 @@ public class CsarValidator {
         try {
             vsl = new ValidatorSchemaLoader();
         } catch(Exception e) {
+            workspace.close();
             LOG.error("SCHEMA_LOAD_ERROR:CSAR schema is not loaded correctly! {} {}", ErrorCodes.SCHEMA_LOAD_ERROR, e);
             throw new ValidationException(ErrorCodes.SCHEMA_LOAD_ERROR,
                     "SCHEMA_LOAD_ERROR" + ":" + "CSAR schema is not loaded correctly! ");
@@ -94,16 +104,22 @@ public class CsarValidator {
     }
 
     static class CsarValidatorSeam {
+        private final CsarValidator csarValidator;
+
+        CsarValidatorSeam(CsarValidator csarValidator) {
+            this.csarValidator = csarValidator;
+        }
+
         public String validateCsarMeta() {
-            return CsarValidator.validateCsarMeta();
+            return csarValidator.validateCsarMeta();
         }
 
         public String validateAndScanToscaMeta(){
-            return CsarValidator.validateAndScanToscaMeta();
+            return csarValidator.validateAndScanToscaMeta();
         }
 
         public String validateMainService() {
-            return  CsarValidator.validateMainService();
+            return  csarValidator.validateMainService();
         }
 
     }
@@ -111,8 +127,8 @@ public class CsarValidator {
     /**
      * @return true if all validations are successful
      */
-    public static String validateCsar() {
-        return CsarValidator.validateCsarContent(new CsarValidatorSeam());
+    public String validateCsar() {
+        return CsarValidator.validateCsarContent(new CsarValidatorSeam(this));
     }
 
     static String validateCsarContent(CsarValidatorSeam csarValidatorSeam) {
@@ -140,8 +156,7 @@ public class CsarValidator {
      */
     public static boolean validateCsarIntegrity(String csarWithPath) {
 
-        try {
-            RandomAccessFile raf = new RandomAccessFile(csarWithPath, "r");
+        try (RandomAccessFile raf = new RandomAccessFile(csarWithPath, "r")) {
             return checkCsarIntegrity(raf);
         } catch(IOException e1) {
             LOG.error("CSAR %s is not a valid CSAR/ZIP file! ", e1);
@@ -175,7 +190,7 @@ public class CsarValidator {
     /**
      * @return true if csar meta data validation is successful
      */
-    public static String validateCsarMeta() {
+    public String validateCsarMeta() {
 
         String cfile = csarFiles.get(CommonConstants.CSAR_META);
         if(null == cfile) {
@@ -223,7 +238,7 @@ public class CsarValidator {
     /**
      * @return true csar tosca meta validation is successful
      */
-    public static String validateAndScanToscaMeta() {
+    public String validateAndScanToscaMeta() {
 
         String cfile = csarFiles.get(CommonConstants.TOSCA_META);
 
@@ -252,7 +267,7 @@ public class CsarValidator {
         }
     }
 
-    private static String checkAndGetMRF(String mrfFile, String attribute) {
+    private String checkAndGetMRF(String mrfFile, String attribute) {
         try {
             String value = checkEntryFor(mrfFile, attribute);
             String mrfCsarEntry = null;
@@ -282,7 +297,7 @@ public class CsarValidator {
     /**
      * @return true csar validation is successful
      */
-    public static String validateMainService() {
+    public String validateMainService() {
 
         String key = "metadata";
 
@@ -320,7 +335,7 @@ public class CsarValidator {
      * @Param: [filePath]
      * @return: boolean
      **/
-    public static String r02454() {
+    public String r02454() {
         String mainservTemplate = mainServiceTemplate;
         mainservTemplate = csarFiles.get(FilenameUtils.getName(mainservTemplate));
 
@@ -359,7 +374,7 @@ public class CsarValidator {
     }
 
     @SuppressWarnings("unchecked")
-    private static boolean checkEntryFor(String cFile, List<String> attributes, String key) {
+    private boolean checkEntryFor(String cFile, List<String> attributes, String key) {
 
         if(!Paths.get(cFile).isAbsolute()) {
             cFile = csarFiles.get(FilenameUtils.getName(cFile));
@@ -369,11 +384,10 @@ public class CsarValidator {
             return false;
         }
 
-        Yaml yaml = new Yaml();
         Map<String, ?> values;
         String exceptionMessage;
         try (InputStream input = new FileInputStream(new File(cFile))) {
-            values = (Map<String, ?>)yaml.load(input);
+            values = (Map<String, ?>) YamlParser.getInstance().load(input);
         } catch(FileNotFoundException e) {
             exceptionMessage = e.getMessage();
             LOG.error("FILE_NOT_FOUND:Exception caught while trying to find the file ! {} {}", exceptionMessage, e);
@@ -412,18 +426,16 @@ public class CsarValidator {
     /**
      * @return true if csar meta data validation is successful
      */
-    @SuppressWarnings({"unchecked", "static-access"})
-    private static boolean validateToscaMeta(String cfile) {
+    @SuppressWarnings("unchecked")
+    private boolean validateToscaMeta(String cfile) {
 
         if(StringUtils.isEmpty(cfile)) {
             return false;
         } else {
 
-            Yaml yaml = new Yaml();
-
             Map<String, ?> toscaMeta = null;
             try (InputStream input = new FileInputStream(new File(cfile))) {
-                toscaMeta = (Map<String, ?>)yaml.load(input);
+                toscaMeta = (Map<String, ?>) YamlParser.getInstance().load(input);
             } catch(FileNotFoundException e) {
                 LOG.error("CSAR_TOSCA_LOAD:TOSCA metadata is not loaded by Yaml! {} {}", ErrorCodes.FILE_IO, e);
             } catch(IOException e1) {
@@ -436,20 +448,28 @@ public class CsarValidator {
         }
     }
 
-    public static Map<String, Map<String, String>> getCsar() {
-        return csar;
+    public String getPackageId() {
+        return packageId;
     }
 
-    public static void setCsar(Map<String, Map<String, String>> csar) {
-        CsarValidator.csar = csar;
+    public Map<String, String> getCsarFiles() {
+        return csarFiles;
     }
 
-    public static Map<String, String> getCsarFiles() {
-        return csarFiles;
+    public Path getWorkspaceDirectory() {
+        return workspace.getDirectory();
     }
 
-    public static void setCsarFiles(Map<String, String> csarFiles) {
-        CsarValidator.csarFiles = csarFiles;
+    /**
+     * Deletes the extracted CSAR and releases the file index and the entries resolved from TOSCA.meta.
+     * A closed validator reports every validated file as missing.
+     */
+    @Override
+    public void close() {
+        workspace.close();
+        csarFiles = Collections.emptyMap();
+        mainServiceTemplate = CommonConstants.MAINSERV_TEMPLATE;
+        mainServiceManifest = null;
     }
 
     public static boolean isCsarExist(String csarWithPath){
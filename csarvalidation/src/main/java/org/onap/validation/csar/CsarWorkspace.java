@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.validation.csar;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Directory a single CSAR is extracted to for the time of its validation.
+ * Every workspace gets its own directory, so validating the same package twice or concurrently
+ * does not overwrite files of another validation. The directory is deleted when the workspace is closed.
+ */
+public final class CsarWorkspace implements AutoCloseable {
+
+    static final String DIRECTORY_PREFIX = "csar-";
+
+    private final Path directory;
+    private final Map<String, String> files;
+
+    private CsarWorkspace(Path directory, Map<String, String> files) {
+        this.directory = directory;
+        this.files = Collections.unmodifiableMap(files);
+    }
+
+    /**
+     * Extracts the CSAR to a new directory created under the default temporary-file directory.
+     */
+    static CsarWorkspace extract(String csarWithPath) throws IOException {
+        final Path directory = Files.createTempDirectory(DIRECTORY_PREFIX);
+        try {
+            return new CsarWorkspace(directory, CsarUtil.unzip(csarWithPath, directory.toString()));
+        } catch (IOException | RuntimeException e) {
+            FileUtil.deleteDirectory(directory.toFile());
+            throw e;
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return absolute paths of the extracted files keyed by their file names
+     */
+    public Map<String, String> getFiles() {
+        return files;
+    }
+
+    @Override
+    public void close() {
+        FileUtil.deleteDirectory(new File(directory.toString()));
+    }
+}
@@ -45,8 +45,7 @@ public class VTPValidateCSAR extends OnapCommand {
    }
 
    public String test(String csar) throws OnapCommandException {
-       try {
-           CsarValidator cv = new CsarValidator(csar, csar);
+       try (CsarValidator cv = new CsarValidator(csar, csar)) {
            return cv.validateCsar();
        } catch(IOException e) {
            throw new OnapCommandExecutionFailed(e.getMessage());
@@ -16,11 +16,11 @@
 
 package org.onap.validation.csar;
 
+import org.onap.validation.yaml.parser.YamlParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import org.yaml.snakeyaml.Yaml;
 
 public class ValidatorSchemaLoader {
 
@@ -51,8 +51,7 @@ public class ValidatorSchemaLoader {
     }
 
     private Map<String, Object> readYaml(String fileName) {
-        Yaml yaml = new Yaml();
-           return (Map<String, Object>)yaml.load(this.getClass().getResourceAsStream(fileName));
+        return (Map<String, Object>) YamlParser.getInstance().load(this.getClass().getResourceAsStream(fileName));
     }
 
     @SuppressWarnings("unchecked")
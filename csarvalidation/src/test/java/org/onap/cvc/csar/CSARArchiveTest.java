@@ -17,11 +17,16 @@
 package org.onap.cvc.csar;
 
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.util.Arrays;
+import java.util.Map;
 
 import org.junit.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.onap.cvc.csar.cc.sol004.IntegrationTestUtils.absoluteFilePath;
 
 public class CSARArchiveTest {
 
@@ -55,4 +60,38 @@ public class CSARArchiveTest {
 
     }
 
+    @Test
+    public void shouldExposeParsedDefinitionYamlAsReadOnlyTree() throws IOException, URISyntaxException {
+        // given
+        CSARArchive csar = new CSARArchive();
+        csar.init(absoluteFilePath("pnf/validFile.csar"));
+
+        // when
+        csar.parse();
+        csar.cleanup();
+
+        // then
+        final Map<String, ?> definitionYaml = csar.getDefinitionYaml();
+        assertThat(definitionYaml.get(CSARArchive.ENTRY_DEFINITION_TOSCA_DEFINITIONS_VERSION)).isEqualTo("tosca_simple_yaml_1_2");
+        final Map<String, ?> topologyTemplate = (Map<String, ?>) definitionYaml.get("topology_template");
+        final Map<String, ?> nodeTemplates = (Map<String, ?>) topologyTemplate.get("node_templates");
+        assertThat(nodeTemplates).containsOnlyKeys("myPnf", "pnfExtCp_1");
+        assertThatThrownBy(() -> nodeTemplates.remove("myPnf")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void shouldResolveImportedTypeLibraries() throws IOException, URISyntaxException {
+        // given
+        CSARArchive csar = new CSARArchive();
+        csar.init(absoluteFilePath("pnf/validFile.csar"));
+
+        // when
+        csar.parse();
+        csar.cleanup();
+
+        // then
+        assertThat(csar.getToscaTypeGraph().isDerivedFrom("tosca.nodes.nfv.PnfExtCp", "tosca.nodes.Root")).isTrue();
+        assertThat(csar.getNodeTemplateTypeIndex().hasNodeDerivedFrom("tosca.nodes.nfv.Cp")).isTrue();
+    }
+
 }
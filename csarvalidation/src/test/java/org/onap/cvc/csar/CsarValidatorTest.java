@@ -201,6 +201,37 @@ public class CsarValidatorTest {
         verify(cmdHonolulu).run();
     }
 
+    @Test
+    public void shouldPrepareOneArchiveForAllRulesAndPassItToThem() throws OnapCommandException {
+        // given
+        Command cmdAmsterdam = givenCmdFor(AMSTERDAM_RULE, AMSTERDAM_RELEASE);
+        Command cmdCasablanca = givenCmdFor(CASABLANCA_RULE, CASABLANCA_RELEASE);
+        Command cmdDublin = givenCmdFor(DUBLIN_RULE, DUBLIN_RELEASE);
+        Command cmdFrankfurt = givenCmdFor(FRANKFURT_RULE, FRANKFURT_RELEASE);
+        givenCmdFor(GUILIN_RULE, GUILIN_RELEASE);
+        givenCmdFor(HONOLULU_RULE, HONOLULU_RELEASE);
+        Mockito.when(cmdAmsterdam.getDigestAlgorithms()).thenReturn(List.of("SHA-256"));
+        Mockito.when(cmdCasablanca.getDigestAlgorithms()).thenReturn(List.of("SHA-512", "SHA-256"));
+        Mockito.when(cmdDublin.getDefinitionYamlPaths()).thenReturn(List.of("topology_template.inputs"));
+        CSARArchive csar = new CSARArchive();
+
+        // when
+        CsarValidator.PreparedValidation rules = csarValidator.prepare(
+                new CsarValidator.ValidationContext(PATH_TO_CSAR_FILE, PRODUCT, DUBLIN_RELEASE, IS_PNF));
+        final Pair<Boolean, List<VTPValidateCSAR.CSARValidation.Result>> validationResult = rules.validate(csar);
+
+        // then
+        assertThat(rules.getDigestAlgorithms()).containsExactly("SHA-256", "SHA-512");
+        assertThat(rules.getDefinitionYamlPaths()).containsExactly("topology_template.inputs");
+        assertThat(validationResult.getLeft()).isTrue();
+        assertThat(validationResult.getRight()).hasSize(3);
+        verify(cmdAmsterdam).setCsarArchive(csar);
+        verify(cmdCasablanca).setCsarArchive(csar);
+        verify(cmdDublin).setCsarArchive(csar);
+        verify(cmdFrankfurt, never()).setCsarArchive(csar);
+        verify(cmdFrankfurt, never()).run();
+    }
+
     private Command givenCmdFor(String rule, String release) throws OnapCommandException {
         Command cmd = Mockito.mock(Command.class);
         Mockito.when(commandFactory.createForPnf(rule, PATH_TO_CSAR_FILE, PRODUCT)).thenReturn(cmd);
@@ -17,20 +17,41 @@
 
 package org.onap.cvc.csar;
 
+import org.apache.commons.codec.binary.Hex;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.onap.cvc.csar.security.ArtifactDigestStore;
+import org.onap.cvc.csar.security.ShaHashCodeGenerator;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.onap.cvc.csar.cc.sol004.IntegrationTestUtils.absoluteFilePath;
 
 public class FileArchiveTest {
 
+    private static final String CSAR_WITH_DECLARED_DIGESTS = "pnf/r130206/csar-cert-in-tosca-valid.csar";
+    private static final String DECLARED_SOURCE = "Definitions/pnf_main_descriptor.yaml";
+
     @Rule
     public TemporaryFolder folder= new TemporaryFolder();
 
@@ -98,5 +119,175 @@ public class FileArchiveTest {
         assertFalse(workspace.getPathToCmsFile().isPresent());
     }
 
+    @Test
+    public void shouldCalculateDigestsOfManifestSourcesWithDeclaredAlgorithmWhileUnpacking()
+        throws URISyntaxException, IOException, NoSuchAlgorithmException {
+        // given
+        String absolutePath = folder.getRoot().getAbsolutePath();
+        ShaHashCodeGenerator generator = new ShaHashCodeGenerator();
+
+        // when
+        FileArchive.Workspace workspace = new FileArchive(
+            absolutePath, Arrays.asList(ShaHashCodeGenerator.SHA_256, ShaHashCodeGenerator.SHA_512)
+        ).unpack(absoluteFilePath(CSAR_WITH_DECLARED_DIGESTS));
+
+        // then
+        Path csarFolder = workspace.getPathToCsarFolder().get();
+        Path definition = csarFolder.resolve(DECLARED_SOURCE);
+        assertArrayEquals(
+            generator.digest(definition, ShaHashCodeGenerator.SHA_256),
+            workspace.getDigest(csarFolder.resolve("Definitions/../" + DECLARED_SOURCE),
+                ShaHashCodeGenerator.SHA_256).get());
+        assertThat(workspace.getDigest(definition, ShaHashCodeGenerator.SHA_512)).isEmpty();
+        assertThat(workspace.getDigest(csarFolder.resolve("pnf_main_descriptor.mf"), ShaHashCodeGenerator.SHA_256))
+            .isEmpty();
+        assertThat(workspace.getDigest(csarFolder.resolve("pnf_main_descriptor.cert"), ShaHashCodeGenerator.SHA_256))
+            .isEmpty();
+    }
+
+    @Test
+    public void shouldFindManifestDeclaringDigestsTheSameWayAsCsarArchive() throws URISyntaxException, IOException {
+        // given
+        String absolutePath = folder.getRoot().getAbsolutePath();
+        List<String> algorithms = Collections.singletonList(ShaHashCodeGenerator.SHA_256);
+        String csar = absoluteFilePath(CSAR_WITH_DECLARED_DIGESTS);
+        String vnfEntryManifest = rewrite(csar, "vnf-entry-manifest.csar", CSARArchive.TOSCA_METADATA_TOSCA_META,
+            meta -> "# comment: not an entry\n"
+                + meta.replace("ETSI-Entry-Manifest", CSARArchive.TOSCA_METADATA_TOSCA_META_ENTRY_MANIFEST));
+        String noEntryManifest = rewrite(csar, "no-entry-manifest.csar", CSARArchive.TOSCA_METADATA_TOSCA_META,
+            meta -> meta.replace("ETSI-Entry-Manifest", "Other-Entry"));
+
+        // when
+        FileArchive.Workspace withVnfEntryManifest = new FileArchive(absolutePath, algorithms).unpack(vnfEntryManifest);
+        FileArchive.Workspace withoutEntryManifest = new FileArchive(absolutePath, algorithms).unpack(noEntryManifest);
+
+        // then
+        assertThat(withVnfEntryManifest.getDigest(sourceOf(withVnfEntryManifest), ShaHashCodeGenerator.SHA_256))
+            .isPresent();
+        assertThat(withoutEntryManifest.getDigest(sourceOf(withoutEntryManifest), ShaHashCodeGenerator.SHA_256))
+            .isEmpty();
+    }
+
+    @Test
+    public void shouldNotCalculateDigestsOfOuterContainerOfZipPackage() throws URISyntaxException, IOException {
+        // given
+        String absolutePath = folder.getRoot().getAbsolutePath();
+
+        // when
+        FileArchive.Workspace workspace = new FileArchive(
+            absolutePath, Arrays.asList(ShaHashCodeGenerator.SHA_256, ShaHashCodeGenerator.SHA_512)
+        ).unpack(absoluteFilePath("pnf/signed-package-valid-signature.zip"));
+
+        // then
+        assertThat(workspace.getDigest(workspace.getPathToCertFile().get(), ShaHashCodeGenerator.SHA_256)).isEmpty();
+        assertThat(workspace.getDigest(workspace.getPathToCsarFile().get(), ShaHashCodeGenerator.SHA_256)).isEmpty();
+    }
+
+    @Test
+    public void shouldNotCalculateDigestsWhenNoAlgorithmIsRequested() throws URISyntaxException, IOException {
+        // given
+        String absolutePath = folder.getRoot().getAbsolutePath();
 
+        // when
+        FileArchive.Workspace workspace = new FileArchive(absolutePath, Collections.emptyList())
+            .unpack(absoluteFilePath("pnf/r57019/allMandatoryEntriesDefinedInMetadataManifest.csar"));
+
+        // then
+        Path manifest = workspace.getPathToCsarFolder().get().resolve("TOSCA-Metadata/TOSCA.meta");
+        assertThat(workspace.getDigest(manifest, ShaHashCodeGenerator.SHA_256)).isEmpty();
+    }
+
+    @Test
+    public void shouldReuseDigestsOfEntriesFoundInDigestStoreUnlessStrict()
+        throws URISyntaxException, IOException, NoSuchAlgorithmException {
+        // given
+        String absolutePath = folder.getRoot().getAbsolutePath();
+        Path storeDirectory = folder.newFolder("digests").toPath();
+        List<String> algorithms = Collections.singletonList(ShaHashCodeGenerator.SHA_256);
+        String csar = absoluteFilePath(CSAR_WITH_DECLARED_DIGESTS);
+        FileArchive.Workspace stored = new FileArchive(absolutePath, algorithms, createDigestStore(storeDirectory, false))
+            .unpack(csar);
+        byte[] sha256 = new ShaHashCodeGenerator().digest(sourceOf(stored), ShaHashCodeGenerator.SHA_256);
+        byte[] fakeSha256 = new byte[sha256.length];
+        replaceStoredDigests(storeDirectory, Hex.encodeHexString(fakeSha256));
+
+        // when
+        FileArchive.Workspace reused = new FileArchive(absolutePath, algorithms, createDigestStore(storeDirectory, false))
+            .unpack(csar);
+        FileArchive.Workspace strict = new FileArchive(absolutePath, algorithms, createDigestStore(storeDirectory, true))
+            .unpack(csar);
+
+        // then
+        assertArrayEquals(sha256, stored.getDigest(sourceOf(stored), ShaHashCodeGenerator.SHA_256).get());
+        assertArrayEquals(fakeSha256, reused.getDigest(sourceOf(reused), ShaHashCodeGenerator.SHA_256).get());
+        assertArrayEquals(sha256, strict.getDigest(sourceOf(strict), ShaHashCodeGenerator.SHA_256).get());
+    }
+
+    @Test
+    public void shouldReuseDigestsOfEntriesWhenPackagesAlternateDeclaredAlgorithms()
+        throws URISyntaxException, IOException {
+        // given
+        String absolutePath = folder.getRoot().getAbsolutePath();
+        Path storeDirectory = folder.newFolder("digests").toPath();
+        List<String> algorithms = Arrays.asList(ShaHashCodeGenerator.SHA_256, ShaHashCodeGenerator.SHA_512);
+        String sha256Csar = withDeclaredAlgorithm(absoluteFilePath(CSAR_WITH_DECLARED_DIGESTS), ShaHashCodeGenerator.SHA_256);
+        String sha512Csar = withDeclaredAlgorithm(absoluteFilePath(CSAR_WITH_DECLARED_DIGESTS), ShaHashCodeGenerator.SHA_512);
+        new FileArchive(absolutePath, algorithms, createDigestStore(storeDirectory, false)).unpack(sha256Csar);
+        new FileArchive(absolutePath, algorithms, createDigestStore(storeDirectory, false)).unpack(sha512Csar);
+        byte[] fakeDigest = new byte[64];
+        replaceStoredDigests(storeDirectory, Hex.encodeHexString(fakeDigest));
+
+        // when
+        FileArchive.Workspace sha256 = new FileArchive(absolutePath, algorithms, createDigestStore(storeDirectory, false))
+            .unpack(sha256Csar);
+        FileArchive.Workspace sha512 = new FileArchive(absolutePath, algorithms, createDigestStore(storeDirectory, false))
+            .unpack(sha512Csar);
+
+        // then
+        assertArrayEquals(fakeDigest, sha256.getDigest(sourceOf(sha256), ShaHashCodeGenerator.SHA_256).get());
+        assertArrayEquals(fakeDigest, sha512.getDigest(sourceOf(sha512), ShaHashCodeGenerator.SHA_512).get());
+    }
+
+    private static Path sourceOf(FileArchive.Workspace workspace) {
+        return workspace.getPathToCsarFolder().get().resolve(DECLARED_SOURCE);
+    }
+
+    private String withDeclaredAlgorithm(String csar, String algorithm) throws IOException {
+        return rewrite(csar, algorithm + ".csar", ".mf",
+            content -> content.replace("Algorithm: " + ShaHashCodeGenerator.SHA_256, "Algorithm: " + algorithm));
+    }
+
+    private String rewrite(String csar, String copyName, String entrySuffix, UnaryOperator<String> change)
+        throws IOException {
+        Path copy = folder.getRoot().toPath().resolve(copyName);
+        try (ZipInputStream source = new ZipInputStream(Files.newInputStream(Path.of(csar)));
+             ZipOutputStream target = new ZipOutputStream(Files.newOutputStream(copy))) {
+            ZipEntry entry;
+            while ((entry = source.getNextEntry()) != null) {
+                byte[] content = source.readAllBytes();
+                if (entry.getName().endsWith(entrySuffix)) {
+                    content = change.apply(new String(content, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+                }
+                target.putNextEntry(new ZipEntry(entry.getName()));
+                target.write(content);
+                target.closeEntry();
+            }
+        }
+        return copy.toString();
+    }
+
+    private static void replaceStoredDigests(Path storeDirectory, String digest) throws IOException {
+        try (Stream<Path> records = Files.list(storeDirectory)) {
+            for (Path record : records.collect(Collectors.toList())) {
+                List<String> lines = Files.readAllLines(record).stream()
+                    .map(line -> line.startsWith("digest.") ? line.substring(0, line.indexOf('=') + 1) + digest : line)
+                    .collect(Collectors.toList());
+                Files.write(record, lines);
+            }
+        }
+    }
+
+    private static ArtifactDigestStore createDigestStore(Path directory, boolean strict) {
+        return new ArtifactDigestStore(directory, 100, strict);
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar;
+
+import org.junit.Test;
+import org.onap.cvc.csar.parser.vnf.NodeTemplateTypeIndex;
+import org.yaml.snakeyaml.Yaml;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NodeTemplateTypeIndexTest {
+
+    private static final String DEFINITION_YAML = String.join("\n",
+            "tosca_definitions_version: tosca_simple_yaml_1_2",
+            "node_types:",
+            "  my.nodes.Compute:",
+            "    derived_from: tosca.nodes.nfv.VDU.Compute",
+            "  my.nodes.SpecialCompute:",
+            "    derived_from: my.nodes.Compute",
+            "topology_template:",
+            "  node_templates:",
+            "    vdu_1:",
+            "      type: tosca.nodes.nfv.VDU.Compute",
+            "    vdu_2:",
+            "      type: my.nodes.SpecialCompute",
+            "    storage:",
+            "      type: tosca.nodes.nfv.Vdu.VirtualStorage",
+            "    untyped:",
+            "      properties: {}");
+
+    @Test
+    public void shouldFindNodeTemplatesByTypeIgnoringCase() {
+        // given
+        NodeTemplateTypeIndex index = NodeTemplateTypeIndex.of(load(DEFINITION_YAML));
+
+        // then
+        assertThat(index.hasNodeOfType("tosca.nodes.nfv.VDU.VirtualStorage")).isTrue();
+        assertThat(index.getNodeTemplatesOfType("TOSCA.NODES.NFV.VDU.COMPUTE")).containsExactly("vdu_1");
+        assertThat(index.hasNodeOfType("tosca.nodes.nfv.VnfExtCp")).isFalse();
+    }
+
+    @Test
+    public void shouldFindNodeTemplatesOfLocallyDerivedTypes() {
+        // given
+        NodeTemplateTypeIndex index = NodeTemplateTypeIndex.of(load(DEFINITION_YAML));
+
+        // then
+        assertThat(index.hasNodeOfType("my.nodes.Compute")).isFalse();
+        assertThat(index.hasNodeDerivedFrom("my.nodes.Compute")).isTrue();
+        assertThat(index.getNodeTemplatesDerivedFrom("tosca.nodes.nfv.VDU.Compute")).containsExactly("vdu_1", "vdu_2");
+        assertThat(index.getAncestors("my.nodes.SpecialCompute"))
+                .containsExactly("my.nodes.compute", "tosca.nodes.nfv.vdu.compute");
+    }
+
+    @Test
+    public void shouldBuildEmptyIndexWhenTopologyTemplateIsMissing() {
+        // given
+        NodeTemplateTypeIndex index = NodeTemplateTypeIndex.of(load("tosca_definitions_version: tosca_simple_yaml_1_2"));
+
+        // then
+        assertThat(index.hasNodeDerivedFrom("tosca.nodes.nfv.VDU.Compute")).isFalse();
+        assertThat(index.getNodeTemplatesOfType("tosca.nodes.nfv.VDU.Compute")).isEmpty();
+    }
+
+    private Map<String, ?> load(String yaml) {
+        return new Yaml().load(yaml);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.cvc.csar;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.onap.cvc.csar.parser.vnf.ToscaImportResolver;
+import org.onap.cvc.csar.parser.vnf.ToscaTypeGraph;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ToscaImportResolverTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldResolveImportsFromPackageAndBundledLibraries() throws IOException {
+        // given
+        Path packageRoot = folder.getRoot().toPath();
+        Path definition = write(packageRoot.resolve("Definitions/MainServiceTemplate.yaml"),
+                "imports:",
+                "  - types/vendor_types.yaml",
+                "node_types:",
+                "  my.nodes.SpecialVdu:",
+                "    derived_from: vendor.nodes.Vdu");
+        write(packageRoot.resolve("Definitions/types/vendor_types.yaml"),
+                "imports:",
+                "  - file: http://example.com/etsi_nfv_sol001_vnfd_2_5_1_types.yaml",
+                "node_types:",
+                "  vendor.nodes.Vdu:",
+                "    derived_from: tosca.nodes.nfv.Vdu.Compute");
+        ToscaImportResolver resolver = new ToscaImportResolver(packageRoot);
+
+        // when
+        ToscaTypeGraph graph = resolver.resolve(load(definition), definition);
+
+        // then
+        assertThat(graph.getAncestors("my.nodes.SpecialVdu"))
+                .containsExactly("vendor.nodes.vdu", "tosca.nodes.nfv.vdu.compute", "tosca.nodes.root");
+        assertThat(graph.isDerivedFrom("tosca.nodes.nfv.VduCp", "tosca.nodes.nfv.Cp")).isTrue();
+        assertThat(resolver.getUnresolvedImports()).isEmpty();
+    }
+
+    @Test
+    public void shouldNotResolveImportsOutsideOfThePackage() throws IOException {
+        // given
+        Path packageRoot = folder.newFolder("package").toPath();
+        write(folder.getRoot().toPath().resolve("outside_types.yaml"),
+                "node_types:",
+                "  outside.nodes.Node:",
+                "    derived_from: tosca.nodes.Root");
+        Path definition = write(packageRoot.resolve("MainServiceTemplate.yaml"),
+                "imports:",
+                "  - ../outside_types.yaml",
+                "  - missing_types.yaml");
+        ToscaImportResolver resolver = new ToscaImportResolver(packageRoot);
+
+        // when
+        ToscaTypeGraph graph = resolver.resolve(load(definition), definition);
+
+        // then
+        assertThat(graph.contains("outside.nodes.Node")).isFalse();
+        assertThat(resolver.getUnresolvedImports()).containsExactly("../outside_types.yaml", "missing_types.yaml");
+    }
+
+    @Test
+    public void shouldContainRootTypesAndLetDefinitionRedeclareImportedTypes() throws IOException {
+        // given
+        Path packageRoot = folder.getRoot().toPath();
+        Path definition = write(packageRoot.resolve("MainServiceTemplate.yaml"),
+                "imports:",
+                "  - etsi_nfv_sol001_vnfd_2_5_1_types.yaml",
+                "node_types:",
+                "  vendor.nodes.Base:",
+                "    description: root type without derived_from",
+                "  tosca.nodes.nfv.Vdu.Compute:",
+                "    derived_from: vendor.nodes.Base",
+                "  my.nodes.Vdu:",
+                "    derived_from: tosca.nodes.nfv.Vdu.Compute");
+        ToscaImportResolver resolver = new ToscaImportResolver(packageRoot);
+
+        // when
+        ToscaTypeGraph redeclared = resolver.resolve(load(definition), definition);
+        ToscaTypeGraph bundled = new ToscaImportResolver(packageRoot).resolve(
+                new Yaml().load("imports: [etsi_nfv_sol001_vnfd_2_5_1_types.yaml]"), definition);
+
+        // then
+        assertThat(redeclared.contains("vendor.nodes.Base")).isTrue();
+        assertThat(redeclared.getAncestors("my.nodes.Vdu"))
+                .containsExactly("tosca.nodes.nfv.vdu.compute", "vendor.nodes.base");
+        assertThat(redeclared.isDerivedFrom("tosca.nodes.nfv.VduCp", "tosca.nodes.nfv.Cp")).isTrue();
+        assertThat(bundled.getAncestors("tosca.nodes.nfv.Vdu.Compute")).containsExactly("tosca.nodes.root");
+    }
+
+    @Test
+    public void shouldResolveKnownImportNamesAndUrlsToBundledLibraries() throws IOException {
+        // given
+        Path packageRoot = folder.getRoot().toPath();
+        Path definition = write(packageRoot.resolve("Definitions/MainServiceTemplate.yaml"),
+                "imports:",
+                "  - etsi_nfv_sol001_vnfd_types.yaml",
+                "  - https://forge.etsi.org/rep/nfv/SOL001/raw/v2.5.1/etsi_nfv_sol001_pnfd_types.yaml",
+                "  - https://forge.etsi.org/rep/nfv/SOL001/raw/v9.9.9/etsi_nfv_sol001_vnfd_types.yaml");
+        ToscaImportResolver resolver = new ToscaImportResolver(packageRoot);
+
+        // when
+        ToscaTypeGraph graph = resolver.resolve(load(definition), definition);
+
+        // then
+        assertThat(graph.isDerivedFrom("tosca.nodes.nfv.VduCp", "tosca.nodes.nfv.Cp")).isTrue();
+        assertThat(graph.isDerivedFrom("tosca.nodes.nfv.PnfExtCp", "tosca.nodes.nfv.Cp")).isTrue();
+        assertThat(resolver.getUnresolvedImports())
+                .containsExactly("https://forge.etsi.org/rep/nfv/SOL001/raw/v9.9.9/etsi_nfv_sol001_vnfd_types.yaml");
+    }
+
+    private Path write(Path file, String... lines) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.write(file, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Map<String, ?> load(Path file) throws IOException {
+        return new Yaml().load(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+}
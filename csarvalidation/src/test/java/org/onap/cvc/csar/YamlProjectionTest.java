@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.cvc.csar;
+
+import org.junit.Test;
+import org.onap.cvc.csar.parser.vnf.YamlProjection;
+import org.onap.validation.yaml.parser.YamlParserLimits;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class YamlProjectionTest {
+
+    private static final String DEFINITION_YAML = String.join("\n",
+            "tosca_definitions_version: tosca_simple_yaml_1_2",
+            "metadata:",
+            "  template_version: 1.0",
+            "  template_name: vnf",
+            "defaults: &defaults",
+            "  type: tosca.nodes.nfv.VduCp",
+            "  properties: {layer_protocols: [ipv4]}",
+            "topology_template:",
+            "  inputs:",
+            "    blob: {data: [1, 2, 3]}",
+            "  node_templates:",
+            "    vdu:",
+            "      type: tosca.nodes.nfv.VDU.Compute",
+            "      properties:",
+            "        sw_image_data: {name: image, size: 1 GB}",
+            "    cp: *defaults",
+            "    merged:",
+            "      <<: *defaults",
+            "      properties: {}",
+            "  policies:",
+            "    - scaling: {type: tosca.policies.nfv.ScalingAspects}");
+
+    @Test
+    public void shouldLoadOnlyProjectedPaths() {
+        // when
+        Map<String, ?> yaml = (Map<String, ?>) YamlProjection
+                .of("tosca_definitions_version", "topology_template.node_templates.*.type")
+                .load(toStream(DEFINITION_YAML));
+
+        // then
+        assertThat(yaml).containsOnlyKeys("tosca_definitions_version", "topology_template");
+        Map<String, ?> topologyTemplate = (Map<String, ?>) yaml.get("topology_template");
+        assertThat(topologyTemplate).containsOnlyKeys("node_templates");
+        Map<String, Map<String, ?>> nodeTemplates = (Map<String, Map<String, ?>>) topologyTemplate.get("node_templates");
+        assertThat(nodeTemplates.get("vdu")).containsOnlyKeys("type");
+        assertThat(nodeTemplates.get("cp").get("type")).isEqualTo("tosca.nodes.nfv.VduCp");
+        assertThat(nodeTemplates.get("merged")).containsOnlyKeys("type");
+        assertThat(nodeTemplates.get("merged").get("type")).isEqualTo("tosca.nodes.nfv.VduCp");
+    }
+
+    @Test
+    public void shouldLoadProjectedSubtreeTheSameWayAsFullLoad() {
+        // given
+        Map<String, ?> fullYaml = new Yaml().load(DEFINITION_YAML);
+
+        // when
+        Map<String, ?> yaml = (Map<String, ?>) YamlProjection.of("metadata", "topology_template.policies")
+                .load(toStream(DEFINITION_YAML));
+
+        // then
+        assertThat(yaml.get("metadata")).isEqualTo(fullYaml.get("metadata"));
+        assertThat(((Map<String, ?>) yaml.get("topology_template")).get("policies"))
+                .isEqualTo(((Map<String, ?>) fullYaml.get("topology_template")).get("policies"));
+    }
+
+    @Test
+    public void shouldReturnNullForEmptyDocument() {
+        assertThat(YamlProjection.of("metadata").load(toStream(""))).isNull();
+    }
+
+    @Test
+    public void shouldLoadDefinitionWithManyAliasesToScalars() {
+        // given
+        int nodeTemplates = YamlParserLimits.DEFAULT_MAX_ALIASES + 10;
+        String definition = Stream.concat(
+                Stream.of("defaults:", "  cpu: &default_cpu 2", "topology_template:", "  node_templates:"),
+                IntStream.range(0, nodeTemplates).mapToObj(i -> String.format(
+                        "    vdu_%d: {type: tosca.nodes.nfv.VDU.Compute, properties: {num_cpu: *default_cpu}}", i)))
+                .collect(Collectors.joining("\n"));
+
+        // when
+        Map<String, ?> yaml = (Map<String, ?>) YamlProjection
+                .of("topology_template.node_templates.*.properties")
+                .load(toStream(definition));
+
+        // then
+        Map<String, Map<String, ?>> loaded = (Map<String, Map<String, ?>>)
+                ((Map<?, ?>) yaml.get("topology_template")).get("node_templates");
+        assertThat(loaded).hasSize(nodeTemplates);
+        assertThat(loaded.get("vdu_0").get("properties")).isEqualTo(Map.of("num_cpu", 2));
+    }
+
+    @Test
+    public void shouldLoadDefinitionLargerThanSixteenMegabytes() {
+        // given
+        String nodeTemplate = String.join("\n",
+                "    vdu_%d:",
+                "      type: tosca.nodes.nfv.VDU.Compute",
+                "      properties: {description: '" + String.join("", Collections.nCopies(200, "x")) + "'}",
+                "");
+        int nodeTemplates = 17 * 1024 * 1024 / nodeTemplate.length() + 1;
+        Iterator<InputStream> parts = Stream.concat(
+                Stream.of("topology_template:\n  node_templates:\n"),
+                IntStream.range(0, nodeTemplates).mapToObj(i -> String.format(nodeTemplate, i)))
+                .map(part -> (InputStream) toStream(part))
+                .iterator();
+        InputStream definition = new SequenceInputStream(new Enumeration<InputStream>() {
+            @Override
+            public boolean hasMoreElements() {
+                return parts.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                return parts.next();
+            }
+        });
+
+        // when
+        Map<String, ?> yaml = (Map<String, ?>) YamlProjection
+                .of("topology_template.node_templates.*.type")
+                .load(definition);
+
+        // then
+        assertThat((Map<?, ?>) ((Map<?, ?>) yaml.get("topology_template")).get("node_templates")).hasSize(nodeTemplates);
+    }
+
+    private ByteArrayInputStream toStream(String yaml) {
+        return new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.cvc.csar.cc.sol001;
+
+import org.junit.Test;
+import org.onap.cvc.csar.CSARArchive.CSARError;
+import org.onap.cvc.csar.CSARArchive.CSARErrorEntryMissing;
+import org.onap.cvc.csar.parser.vnf.NodeTemplateTypeIndex;
+import org.yaml.snakeyaml.Yaml;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypePresenceRuleEngineTest {
+
+    private static final String DEFINITION_YAML = "MainServiceTemplate.yaml";
+
+    private final NodeTemplateTypeIndex nodeTypes = NodeTemplateTypeIndex.of(new Yaml().load(String.join("\n",
+            "topology_template:",
+            "  node_templates:",
+            "    vdu:",
+            "      type: tosca.nodes.nfv.VDU.Compute",
+            "    link:",
+            "      type: TOSCA.NODES.NFV.VNFVIRTUALLINK")));
+
+    @Test
+    public void shouldReportOnlyUnsatisfiedRequirementsInDeclarationOrder() {
+        // given
+        TypePresenceRuleEngine engine = TypePresenceRuleEngine.compile(Arrays.asList(
+                TypePresenceRequirement.of("R1", "tosca.nodes.nfv.VduCp", "first", EntryMissing::new),
+                TypePresenceRequirement.of("R1", "tosca.nodes.nfv.VDU.Compute", "second", EntryMissing::new),
+                TypePresenceRequirement.of("R2", "tosca.nodes.nfv.VnfExtCp", "third", EntryMissing::new),
+                TypePresenceRequirement.of("R1", "tosca.nodes.nfv.VnfExtCp", "fourth", EntryMissing::new)));
+
+        // when
+        List<CSARError> r1 = engine.evaluate("R1", nodeTypes, DEFINITION_YAML);
+        List<CSARError> r2 = engine.evaluate("R2", nodeTypes, DEFINITION_YAML);
+
+        // then
+        assertThat(messagesOf(r1)).containsExactly("Missing. Entry [first]", "Missing. Entry [fourth]");
+        assertThat(r2).hasSize(1);
+        assertThat(r2.get(0).getFile()).isEqualTo(DEFINITION_YAML);
+    }
+
+    @Test
+    public void shouldEvaluateDeclaredSol001RequirementsPerRule() {
+        // when
+        List<CSARError> r09467 = TypePresenceRequirements.ENGINE.evaluate("R09467", nodeTypes, DEFINITION_YAML);
+        List<CSARError> r35851 = TypePresenceRequirements.ENGINE.evaluate("R35851", nodeTypes, DEFINITION_YAML);
+        List<CSARError> unknown = TypePresenceRequirements.ENGINE.evaluate("R00000", nodeTypes, DEFINITION_YAML);
+
+        // then
+        assertThat(r09467).hasSize(1);
+        assertThat(r09467.get(0)).isInstanceOf(VTPValidateCSARR09467.CSARErrorEntryMissingVDUVirtualStorage.class);
+        assertThat(r09467.get(0).getCode()).isEqualTo("0x1001");
+        assertThat(messagesOf(r35851)).containsExactly(
+                "Missing. Entry [nodes VduCp]", "Missing. Entry [nodes VnfExtCp]");
+        assertThat(unknown).isEmpty();
+    }
+
+    @Test
+    public void shouldEvaluateOnlyRequirementsOfRequestedRule() {
+        // given
+        TypePresenceRuleEngine engine = TypePresenceRuleEngine.compile(Arrays.asList(
+                TypePresenceRequirement.of("R1", "tosca.nodes.nfv.VduCp", "first", EntryMissing::new),
+                TypePresenceRequirement.of("R2", "tosca.nodes.nfv.VnfExtCp", "second", (definitionYaml, entry) -> {
+                    throw new AssertionError("Requirement of another rule was evaluated");
+                })));
+
+        // when
+        List<CSARError> errors = engine.evaluate("R1", nodeTypes, DEFINITION_YAML);
+
+        // then
+        assertThat(messagesOf(errors)).containsExactly("Missing. Entry [first]");
+    }
+
+    @Test
+    public void shouldSatisfyRequirementWithNodeOfDerivedType() {
+        // given
+        NodeTemplateTypeIndex derivedNodeTypes = NodeTemplateTypeIndex.of(new Yaml().load(String.join("\n",
+                "node_types:",
+                "  vendor.nodes.VduCp:",
+                "    derived_from: tosca.nodes.nfv.VduCp",
+                "topology_template:",
+                "  node_templates:",
+                "    cp:",
+                "      type: vendor.nodes.VduCp")));
+
+        // when
+        List<CSARError> r35851 = TypePresenceRequirements.ENGINE.evaluate("R35851", derivedNodeTypes, DEFINITION_YAML);
+
+        // then
+        assertThat(messagesOf(r35851)).containsExactly(
+                "Missing. Entry [nodes VnfVirtualLink]", "Missing. Entry [nodes VnfExtCp]");
+    }
+
+    private List<String> messagesOf(List<CSARError> errors) {
+        return errors.stream().map(CSARError::getMessage).collect(Collectors.toList());
+    }
+
+    private static class EntryMissing extends CSARErrorEntryMissing {
+        EntryMissing(String definitionYaml, String entry) {
+            super(entry, definitionYaml);
+        }
+    }
+}
@@ -20,10 +20,12 @@ package org.onap.cvc.csar.cc.sol004;
 import org.junit.Before;
 import org.junit.Test;
 import org.onap.cvc.csar.CSARArchive.CSARError;
+import org.onap.cvc.csar.PnfCSARArchive;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.onap.cvc.csar.cc.sol004.IntegrationTestUtils.absoluteFilePath;
 import static org.onap.cvc.csar.cc.sol004.IntegrationTestUtils.configureTestCase;
 import static org.onap.cvc.csar.cc.sol004.IntegrationTestUtils.convertToMessagesList;
 
@@ -57,6 +59,27 @@ public class VTPValidateCSARR146092IntegrationTest {
         assertThat(errors.size()).isZero();
     }
 
+    @Test
+    public void shouldValidateSharedArchiveWithoutChangingItsErrors() throws Exception {
+        // given
+        configureTestCase(testCase, "pnf/r146092/missingFieldsInNonManoArtifactManifest.csar",
+                "vtp-validate-csar-r146092.yaml", IS_PNF);
+        try (PnfCSARArchive csar = new PnfCSARArchive()) {
+            csar.init(absoluteFilePath("pnf/r146092/missingFieldsInNonManoArtifactManifest.csar"));
+            csar.parse();
+            testCase.setCsarArchive(csar);
+
+            // when
+            testCase.execute();
+
+            // then
+            final List<CSARError> errors = testCase.getErrors();
+            assertThat(errors).hasSize(1);
+            assertThat(errors.get(0).getVnfreqNo()).isEqualTo("R146092");
+            assertThat(csar.getErrors()).allMatch(error -> error.getVnfreqNo() == null);
+        }
+    }
+
     @Test
     public void shouldNotReportErrorWhenNonManoArtifactIsNotAvailable() throws Exception {
         // given
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.cvc.csar.cc.sol004.r130206;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.onap.cvc.csar.CSARArchive;
+import org.onap.cvc.csar.parser.SourcesParser;
+import org.onap.cvc.csar.security.ShaHashCodeGenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CsarSourcesSecurityValidatorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReportErrorsOfAllSourcesInManifestOrder() throws Exception {
+        // given
+        final Path root = folder.getRoot().toPath();
+        final List<SourcesParser.Source> sources = new ArrayList<>();
+        final List<String> expectedMessages = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final String name = "Artifacts/file" + i + ".txt";
+            if (i % 3 == 0) {
+                expectedMessages.add(new Error.CSARErrorUnableToFindSource(name).getMessage());
+                sources.add(new SourcesParser.Source(name, "SHA-256", "abc"));
+            } else {
+                final byte[] content = ("content " + i).getBytes(StandardCharsets.UTF_8);
+                Files.createDirectories(root.resolve("Artifacts"));
+                Files.write(root.resolve(name), content);
+                final String hash = i % 3 == 1
+                    ? new ShaHashCodeGenerator().generateSha256(content)
+                    : "0000";
+                if (i % 3 == 2) {
+                    expectedMessages.add(new Error.CSARErrorWrongHashCode(name).getMessage());
+                }
+                sources.add(new SourcesParser.Source(name, "SHA-256", hash));
+            }
+        }
+
+        // when
+        final List<CSARArchive.CSARError> errors =
+            new CsarSourcesSecurityValidator(Collections.emptyMap(), sources, root).validate();
+
+        // then
+        assertThat(errors.stream().map(CSARArchive.CSARError::getMessage).collect(Collectors.toList()))
+            .containsExactlyElementsOf(expectedMessages);
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.daemon;
+
+import com.google.common.collect.Lists;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.onap.cli.fw.cmd.OnapCommand;
+import org.onap.cli.fw.error.OnapCommandException;
+import org.onap.cli.fw.output.OnapCommandResult;
+import org.onap.cli.fw.output.OnapCommandResultAttribute;
+import org.onap.cvc.csar.VTPValidateCSAR;
+import org.onap.validation.cli.command.validate.ToJsonConverter;
+import org.onap.validation.cli.command.validate.ValidateDictionaryYamlCommand;
+import org.onap.validation.yaml.util.Args;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.onap.cvc.csar.cc.sol004.IntegrationTestUtils.absoluteFilePath;
+
+public class ValidationDaemonTest {
+
+    private static final Gson GSON = new Gson();
+    private static final String VALID_PNF_CSAR = "pnf/r972082/validFile.csar";
+    private static final String SIGNED_PNF_ZIP = "pnf/signed-package-valid-signature.zip";
+    private static final String NOT_ENABLED_RULE = "r000000";
+    private static final String DICTIONARY = String.join("\n",
+        "---",
+        "pmMetaData: { presence: required, structure: {",
+        "  pmHeader: { presence: required, structure: { nfType: { presence: required } } } } }",
+        "---",
+        "pmMetaData:",
+        "  pmHeader:",
+        "    vendor: Nokia",
+        "");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ValidationDaemon daemon;
+
+    @After
+    public void tearDown() {
+        if (daemon != null) {
+            daemon.close();
+        }
+    }
+
+    @Test
+    public void shouldReturnTheSameJsonAsCsarValidateCommandForPathAndUpload() throws Exception {
+        // given
+        ValidationDaemonClient client = startDaemon(2, 2, new CsarValidation(ValidationDaemonTest::createCsarValidateCommand));
+        String pathToCsar = absoluteFilePath(VALID_PNF_CSAR);
+        OnapCommand command = createCsarValidateCommand();
+        command.getParametersMap().get("csar").setValue(pathToCsar);
+        command.getParametersMap().get("pnf").setValue(true);
+        command.getParametersMap().get("rules").setValue(NOT_ENABLED_RULE);
+        JsonObject expected = withoutDate(String.valueOf(command.execute().getOutput()));
+
+        // when
+        ValidationDaemonClient.Response pathResponse =
+            client.validateCsar(new ValidationRequest(pathToCsar, null, true, NOT_ENABLED_RULE));
+        ValidationDaemonClient.Response uploadResponse =
+            client.uploadCsar(Path.of(pathToCsar), "latest", true, NOT_ENABLED_RULE);
+
+        // then
+        assertThat(pathResponse.getStatusCode()).isEqualTo(ValidationDaemon.OK);
+        assertThat(withoutDate(pathResponse.getBody())).isEqualTo(expected);
+        assertThat(uploadResponse.getStatusCode()).isEqualTo(ValidationDaemon.OK);
+        assertThat(withoutDate(uploadResponse.getBody())).isEqualTo(expected);
+        assertThat(expected.get("criteria").getAsString()).isEqualTo("PASS");
+    }
+
+    @Test
+    public void shouldReturnTheSameJsonAsDictionaryValidateCommand() throws Exception {
+        // given
+        ValidationDaemonClient client = startDaemon(2, 2, request -> "{}");
+        Path dictionary = temporaryFolder.newFile("dictionary.yaml").toPath();
+        Files.write(dictionary, DICTIONARY.getBytes(StandardCharsets.UTF_8));
+        String expected = new ValidateDictionaryYamlCommand(new ToJsonConverter())
+            .execute(new Args(Collections.singletonList(dictionary.toString()))).getResult();
+
+        // when
+        ValidationDaemonClient.Response pathResponse = client.validateDictionary(dictionary.toString());
+        ValidationDaemonClient.Response uploadResponse = client.uploadDictionary(dictionary);
+
+        // then
+        assertThat(pathResponse.getStatusCode()).isEqualTo(ValidationDaemon.OK);
+        assertThat(pathResponse.getBody()).isEqualTo(expected);
+        assertThat(uploadResponse.getStatusCode()).isEqualTo(ValidationDaemon.OK);
+        JsonObject expectedUpload = GSON.fromJson(expected, JsonObject.class);
+        expectedUpload.addProperty("file", "dictionary.yaml");
+        assertThat(GSON.fromJson(uploadResponse.getBody(), JsonObject.class)).isEqualTo(expectedUpload);
+        assertThat(expectedUpload.get("status").getAsString()).isEqualTo("FAILED");
+    }
+
+    @Test
+    public void shouldReturnTheSameResultsForConcurrentJobsAsForSequentialOnes() throws Exception {
+        // given
+        CsarValidation csarValidation = new CsarValidation();
+        ValidationDaemonClient client = startDaemon(4, 8, csarValidation);
+        List<Path> packages = List.of(Path.of(absoluteFilePath(VALID_PNF_CSAR)), Path.of(absoluteFilePath(SIGNED_PNF_ZIP)));
+        Map<Path, JsonObject> expected = new HashMap<>();
+        for (Path csar : packages) {
+            expected.put(csar, withoutDate(csarValidation.validate(new ValidationRequest(csar.toString(), null, true, null))));
+        }
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            // when
+            Map<Future<ValidationDaemonClient.Response>, Path> responses = new HashMap<>();
+            for (int job = 0; job < 8; job++) {
+                Path csar = packages.get(job % packages.size());
+                responses.put(clients.submit(() -> client.uploadCsar(csar, null, true, null)), csar);
+            }
+
+            // then
+            for (Map.Entry<Future<ValidationDaemonClient.Response>, Path> response : responses.entrySet()) {
+                ValidationDaemonClient.Response result = response.getKey().get(60, TimeUnit.SECONDS);
+                assertThat(result.getStatusCode()).isEqualTo(ValidationDaemon.OK);
+                assertThat(withoutDate(result.getBody())).isEqualTo(expected.get(response.getValue()));
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldRejectUploadWithUnsupportedExtension() throws Exception {
+        // given
+        ValidationDaemonClient client = startDaemon(1, 1, request -> "{}");
+        Path archive = temporaryFolder.newFile("package.tar").toPath();
+
+        // when
+        ValidationDaemonClient.Response response = client.uploadCsar(archive, null, true, null);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(ValidationDaemonException.BAD_REQUEST);
+        assertThat(GSON.fromJson(response.getBody(), JsonObject.class).get("message").getAsString())
+            .isEqualTo("File 'package.tar' has to have one of the extensions [.csar, .zip]");
+    }
+
+    @Test
+    public void shouldRejectJobsWhichDoNotFitIntoTheQueue() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        ValidationDaemonClient client = startDaemon(1, 1, request -> {
+            awaitQuietly(release);
+            return "{}";
+        });
+        ValidationRequest request = new ValidationRequest(absoluteFilePath(VALID_PNF_CSAR), null, true, null);
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+        try {
+            Future<ValidationDaemonClient.Response> running = clients.submit(() -> client.validateCsar(request));
+            awaitStatus(client, "activeJobs", 1);
+            Future<ValidationDaemonClient.Response> queued = clients.submit(() -> client.validateCsar(request));
+            awaitStatus(client, "queuedJobs", 1);
+
+            // when
+            ValidationDaemonClient.Response rejected = client.validateCsar(request);
+            release.countDown();
+
+            // then
+            assertThat(rejected.getStatusCode()).isEqualTo(ValidationDaemon.SERVICE_UNAVAILABLE);
+            assertThat(rejected.getBody()).contains("Validation queue is full");
+            assertThat(running.get(10, TimeUnit.SECONDS).getStatusCode()).isEqualTo(ValidationDaemon.OK);
+            assertThat(queued.get(10, TimeUnit.SECONDS).getStatusCode()).isEqualTo(ValidationDaemon.OK);
+            assertThat(status(client).get("rejectedJobs").getAsInt()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldReportMissingFileAsBadRequest() throws Exception {
+        // given
+        ValidationDaemonClient client = startDaemon(1, 1, new CsarValidation(ValidationDaemonTest::createCsarValidateCommand));
+
+        // when
+        ValidationDaemonClient.Response csarResponse =
+            client.validateCsar(new ValidationRequest("/path/to/nonExisting.csar", null, false, null));
+        ValidationDaemonClient.Response dictionaryResponse = client.validateDictionary("/path/to/nonExisting.yaml");
+
+        // then
+        assertThat(csarResponse.getStatusCode()).isEqualTo(ValidationDaemonException.BAD_REQUEST);
+        assertThat(GSON.fromJson(csarResponse.getBody(), JsonObject.class).get("message").getAsString())
+            .isEqualTo("File '/path/to/nonExisting.csar' does not exist!");
+        assertThat(dictionaryResponse.getStatusCode()).isEqualTo(ValidationDaemonException.BAD_REQUEST);
+    }
+
+    private ValidationDaemonClient startDaemon(int threads, int queueSize, Validation csarValidation) throws IOException {
+        daemon = new ValidationDaemon(0, threads, queueSize, csarValidation, new DictionaryValidation()).start();
+        return new ValidationDaemonClient(daemon.getPort());
+    }
+
+    private static OnapCommand createCsarValidateCommand() throws OnapCommandException {
+        VTPValidateCSAR command = new VTPValidateCSAR();
+        command.initializeSchema("vtp-validate-csar.yaml");
+        command.setResult(resultOf("vnf", "date", "criteria", "results"));
+        return command;
+    }
+
+    private static OnapCommandResult resultOf(String... names) {
+        List<OnapCommandResultAttribute> records = Lists.newArrayList();
+        for (String name : names) {
+            OnapCommandResultAttribute attribute = new OnapCommandResultAttribute();
+            attribute.setName(name);
+            records.add(attribute);
+        }
+        OnapCommandResult result = new OnapCommandResult();
+        result.setRecords(records);
+        return result;
+    }
+
+    private static JsonObject withoutDate(String json) {
+        JsonObject validation = GSON.fromJson(json, JsonObject.class);
+        validation.remove("date");
+        return validation;
+    }
+
+    private static JsonObject status(ValidationDaemonClient client) throws IOException, InterruptedException {
+        return GSON.fromJson(client.status().getBody(), JsonObject.class);
+    }
+
+    private static void awaitStatus(ValidationDaemonClient client, String name, int value) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (status(client).get(name).getAsInt() != value) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.security;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArtifactDigestStoreTest {
+
+    private static final byte[] DIGEST = {1, 2, 3, 4};
+    private static final List<String> SHA_256 = Collections.singletonList(ShaHashCodeGenerator.SHA_256);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReturnStoredDigestsForFileWithSameFingerprint() throws IOException {
+        // given
+        ArtifactDigestStore store = new ArtifactDigestStore(folder.newFolder().toPath(), 10, false);
+        ArtifactDigestStore.ArtifactKey key = ArtifactDigestStore.ArtifactKey.of(0x1234, 10, 8);
+        byte[] fingerprint = ArtifactDigestStore.fingerprint(createFile("artifact", "content"));
+
+        // when
+        store.store(key, fingerprint, Collections.singletonMap(ShaHashCodeGenerator.SHA_256, DIGEST));
+
+        // then
+        Map<String, byte[]> digests = store.find(key).get().getDigests(fingerprint, SHA_256).get();
+        assertThat(digests.get(ShaHashCodeGenerator.SHA_256)).isEqualTo(DIGEST);
+        assertThat(store.find(ArtifactDigestStore.ArtifactKey.of(0x1234, 10, 9))).isEmpty();
+    }
+
+    @Test
+    public void shouldNotReturnStoredDigestsForFileWithDifferentFingerprint() throws IOException {
+        // given
+        ArtifactDigestStore store = new ArtifactDigestStore(folder.newFolder().toPath(), 10, false);
+        ArtifactDigestStore.ArtifactKey key = ArtifactDigestStore.ArtifactKey.of(0x1234, 10, 8);
+        store.store(key, ArtifactDigestStore.fingerprint(createFile("artifact", "content")),
+            Collections.singletonMap(ShaHashCodeGenerator.SHA_256, DIGEST));
+
+        // when
+        byte[] otherFingerprint = ArtifactDigestStore.fingerprint(createFile("other", "CONTENT"));
+
+        // then
+        assertThat(store.find(key).get().getDigests(otherFingerprint, SHA_256)).isEmpty();
+    }
+
+    @Test
+    public void shouldKeepDigestsOfOtherAlgorithmsStoredForFileWithSameFingerprint() throws IOException {
+        // given
+        ArtifactDigestStore store = new ArtifactDigestStore(folder.newFolder().toPath(), 10, false);
+        ArtifactDigestStore.ArtifactKey key = ArtifactDigestStore.ArtifactKey.of(0x1234, 10, 8);
+        byte[] fingerprint = ArtifactDigestStore.fingerprint(createFile("artifact", "content"));
+        byte[] otherFingerprint = ArtifactDigestStore.fingerprint(createFile("other", "CONTENT"));
+        byte[] sha512 = {5, 6, 7, 8};
+        store.store(key, otherFingerprint, Collections.singletonMap("SHA-384", DIGEST));
+        store.store(key, fingerprint, Collections.singletonMap(ShaHashCodeGenerator.SHA_256, DIGEST));
+
+        // when
+        store.store(key, fingerprint, Collections.singletonMap(ShaHashCodeGenerator.SHA_512, sha512));
+
+        // then
+        ArtifactDigestStore.StoredDigests stored = store.find(key).get();
+        Map<String, byte[]> digests = stored.getDigests(
+            fingerprint, Arrays.asList(ShaHashCodeGenerator.SHA_256, ShaHashCodeGenerator.SHA_512)).get();
+        assertThat(digests.get(ShaHashCodeGenerator.SHA_256)).isEqualTo(DIGEST);
+        assertThat(digests.get(ShaHashCodeGenerator.SHA_512)).isEqualTo(sha512);
+        assertThat(stored.containsAll(Collections.singletonList("SHA-384"))).isFalse();
+    }
+
+    @Test
+    public void shouldAlwaysRecomputeInStrictMode() throws IOException {
+        // given
+        Path directory = folder.newFolder().toPath();
+        ArtifactDigestStore store = new ArtifactDigestStore(directory, 10, true);
+        ArtifactDigestStore.ArtifactKey key = ArtifactDigestStore.ArtifactKey.of(0x1234, 10, 8);
+        Path signature = createFile("artifact.sig.cms", "signature");
+        Path certificate = createFile("artifact.cert", "certificate");
+
+        // when
+        store.store(key, DIGEST, Collections.singletonMap(ShaHashCodeGenerator.SHA_256, DIGEST));
+        store.storeSignatureVerified(DIGEST, signature, certificate);
+
+        // then
+        assertThat(store.find(key)).isEmpty();
+        assertThat(store.isSignatureVerified(DIGEST, signature, certificate)).isFalse();
+        assertThat(new ArtifactDigestStore(directory, 10, false).isSignatureVerified(DIGEST, signature, certificate))
+            .isTrue();
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedRecords() throws IOException {
+        // given
+        Path directory = folder.newFolder().toPath();
+        ArtifactDigestStore store = new ArtifactDigestStore(directory, 10, false);
+        for (int i = 0; i < 10; i++) {
+            store.store(ArtifactDigestStore.ArtifactKey.of(i, 10, 8), DIGEST, Collections.emptyMap());
+            Files.setLastModifiedTime(directory.resolve(String.format("%08x-a-8.entry", i)),
+                FileTime.fromMillis(1000L * (i + 1)));
+        }
+
+        // when
+        store.store(ArtifactDigestStore.ArtifactKey.of(10, 10, 8), DIGEST, Collections.emptyMap());
+
+        // then
+        assertThat(listRecords(directory)).hasSize(9)
+            .doesNotContain("00000000-a-8.entry", "00000001-a-8.entry")
+            .contains("0000000a-a-8.entry");
+    }
+
+    @Test
+    public void shouldFingerprintSizeAndSamplesOfLargeFiles() throws IOException {
+        // given
+        byte[] content = new byte[10 * ArtifactDigestStore.SAMPLE_SIZE];
+        Path file = Files.write(folder.newFile().toPath(), content);
+        byte[] fingerprint = ArtifactDigestStore.fingerprint(file);
+
+        // when
+        content[content.length / 2] = 1;
+        Path changedInTheMiddle = Files.write(folder.newFile().toPath(), content);
+        content[content.length / 2] = 0;
+        content[2 * ArtifactDigestStore.SAMPLE_SIZE] = 1;
+        Path changedBetweenSamples = Files.write(folder.newFile().toPath(), content);
+
+        // then
+        assertThat(ArtifactDigestStore.fingerprint(changedInTheMiddle)).isNotEqualTo(fingerprint);
+        assertThat(ArtifactDigestStore.fingerprint(changedBetweenSamples)).isEqualTo(fingerprint);
+    }
+
+    private Path createFile(String name, String content) throws IOException {
+        return Files.write(folder.getRoot().toPath().resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> listRecords(Path directory) throws IOException {
+        try (Stream<Path> records = Files.list(directory)) {
+            return records.map(path -> path.getFileName().toString()).collect(Collectors.toList());
+        }
+    }
+}
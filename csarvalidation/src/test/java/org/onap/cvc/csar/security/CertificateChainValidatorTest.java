@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.security;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CertificateChainValidatorTest {
+
+    private static final long DAY = 24L * 60 * 60 * 1000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path trustStore;
+    private KeyPair caKeys;
+    private X509CertificateHolder ca;
+    private X509Certificate vendorCertificate;
+
+    @Before
+    public void setUp() throws Exception {
+        trustStore = folder.newFolder("trust-store").toPath();
+        caKeys = generateKeyPair();
+        ca = createCertificate("CN=ca", caKeys, "CN=ca", caKeys, BigInteger.ONE, true);
+        vendorCertificate = toX509(createCertificate("CN=vendor", generateKeyPair(), "CN=ca", caKeys, BigInteger.TEN, false));
+    }
+
+    @Test
+    public void shouldTrustCertificateIssuedByTrustAnchor() throws Exception {
+        // given
+        Files.write(trustStore.resolve("ca.cert"), ca.getEncoded());
+        CertificateChainValidator validator = new CertificateChainValidator(trustStore);
+
+        // when
+        CertificateChainValidator.Result result = validator.validate(vendorCertificate);
+
+        // then
+        assertThat(result.isTrusted()).isTrue();
+        assertThat(validator.validate(vendorCertificate)).isSameAs(result);
+    }
+
+    @Test
+    public void shouldNotTrustCertificateWithoutPathToTrustAnchor() throws Exception {
+        // given
+        KeyPair otherKeys = generateKeyPair();
+        Files.write(trustStore.resolve("other.cert"),
+            createCertificate("CN=other", otherKeys, "CN=other", otherKeys, BigInteger.ONE, true).getEncoded());
+        CertificateChainValidator validator = new CertificateChainValidator(trustStore);
+
+        // when
+        CertificateChainValidator.Result result = validator.validate(vendorCertificate);
+
+        // then
+        assertThat(result.isTrusted()).isFalse();
+        assertThat(result.getReason()).isNotEmpty();
+    }
+
+    @Test
+    public void shouldRevalidateWhenTrustStoreChangesAndUseCrlsFromIt() throws Exception {
+        // given
+        Files.write(trustStore.resolve("ca.cert"), ca.getEncoded());
+        CertificateChainValidator validator = new CertificateChainValidator(trustStore);
+        assertThat(validator.validate(vendorCertificate).isTrusted()).isTrue();
+
+        // when
+        Date now = new Date();
+        X509v2CRLBuilder crlBuilder = new X509v2CRLBuilder(ca.getSubject(), now);
+        crlBuilder.setNextUpdate(new Date(now.getTime() + DAY));
+        crlBuilder.addCRLEntry(vendorCertificate.getSerialNumber(), now, CRLReason.keyCompromise);
+        Files.write(trustStore.resolve("ca.crl"), crlBuilder.build(signer(caKeys)).getEncoded());
+
+        // then
+        assertThat(validator.validate(vendorCertificate).isTrusted()).isFalse();
+    }
+
+    @Test
+    public void shouldTrustCertificateIssuedByIntermediateEmbeddedInSignature() throws Exception {
+        // given
+        Files.write(trustStore.resolve("ca.cert"), ca.getEncoded());
+        KeyPair intermediateKeys = generateKeyPair();
+        X509Certificate intermediate = toX509(
+            createCertificate("CN=intermediate", intermediateKeys, "CN=ca", caKeys, BigInteger.valueOf(2), true));
+        X509Certificate leaf = toX509(
+            createCertificate("CN=leaf", generateKeyPair(), "CN=intermediate", intermediateKeys, BigInteger.valueOf(3), false));
+        CertificateChainValidator validator = new CertificateChainValidator(trustStore);
+
+        // when
+        CertificateChainValidator.Result withoutIntermediate = validator.validate(leaf);
+        CertificateChainValidator.Result withIntermediate = validator.validate(leaf, Collections.singletonList(intermediate));
+
+        // then
+        assertThat(withoutIntermediate.isTrusted()).isFalse();
+        assertThat(withIntermediate.isTrusted()).isTrue();
+    }
+
+    @Test
+    public void shouldUseCertificatesFromTrustStoreWhichAreNotSelfSignedAsIntermediates() throws Exception {
+        // given
+        KeyPair intermediateKeys = generateKeyPair();
+        X509CertificateHolder intermediate =
+            createCertificate("CN=intermediate", intermediateKeys, "CN=ca", caKeys, BigInteger.valueOf(2), true);
+        X509Certificate leaf = toX509(
+            createCertificate("CN=leaf", generateKeyPair(), "CN=intermediate", intermediateKeys, BigInteger.valueOf(3), false));
+        Files.write(trustStore.resolve("ca.cert"), ca.getEncoded());
+        Files.write(trustStore.resolve("intermediate.cert"), intermediate.getEncoded());
+        CertificateChainValidator validator = new CertificateChainValidator(trustStore);
+
+        // when
+        CertificateChainValidator.Result result = validator.validate(leaf);
+
+        // then
+        assertThat(result.isTrusted()).isTrue();
+    }
+
+    @Test
+    public void shouldRevalidateUntrustedCertificateOnceItBecomesValid() throws Exception {
+        // given
+        Files.write(trustStore.resolve("ca.cert"), ca.getEncoded());
+        Date notBefore = new Date(System.currentTimeMillis() + DAY / 2);
+        X509Certificate notYetValid = toX509(createCertificate(
+            "CN=vendor", generateKeyPair(), "CN=ca", caKeys, BigInteger.valueOf(4), false, notBefore));
+        MutableClock clock = new MutableClock(Instant.now());
+        CertificateChainValidator validator = new CertificateChainValidator(trustStore, clock);
+        assertThat(validator.validate(notYetValid).isTrusted()).isFalse();
+
+        // when
+        clock.instant = notBefore.toInstant().plusSeconds(1);
+
+        // then
+        assertThat(validator.validate(notYetValid).isTrusted()).isTrue();
+    }
+
+    @Test
+    public void shouldTrustEveryCertificateWhenDisabled() {
+        assertThat(CertificateChainValidator.getInstance().isEnabled()).isFalse();
+        assertThat(CertificateChainValidator.getInstance().validate(vendorCertificate).isTrusted()).isTrue();
+    }
+
+    private static X509CertificateHolder createCertificate(String subject, KeyPair subjectKeys,
+                                                           String issuer, KeyPair issuerKeys,
+                                                           BigInteger serial, boolean isCa) throws Exception {
+        return createCertificate(subject, subjectKeys, issuer, issuerKeys, serial, isCa,
+            new Date(System.currentTimeMillis() - DAY));
+    }
+
+    private static X509CertificateHolder createCertificate(String subject, KeyPair subjectKeys,
+                                                           String issuer, KeyPair issuerKeys,
+                                                           BigInteger serial, boolean isCa,
+                                                           Date notBefore) throws Exception {
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+            new X500Name(issuer), serial, notBefore, new Date(notBefore.getTime() + 2 * DAY),
+            new X500Name(subject), subjectKeys.getPublic());
+        if (isCa) {
+            builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+            builder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+        }
+        return builder.build(signer(issuerKeys));
+    }
+
+    private static ContentSigner signer(KeyPair keys) throws Exception {
+        return new JcaContentSignerBuilder("SHA256withRSA").build(keys.getPrivate());
+    }
+
+    private static X509Certificate toX509(X509CertificateHolder holder) throws Exception {
+        return new JcaX509CertificateConverter().getCertificate(holder);
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
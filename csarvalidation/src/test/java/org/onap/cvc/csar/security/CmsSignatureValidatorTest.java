@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.security;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.cms.CMSProcessableByteArray;
+import org.bouncycastle.cms.CMSSignedDataGenerator;
+import org.bouncycastle.cms.jcajce.JcaSignerInfoGeneratorBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CmsSignatureValidatorTest {
+
+    private static final byte[] CONTENT = "signed package content".getBytes(StandardCharsets.UTF_8);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final CmsSignatureValidator validator = new CmsSignatureValidator();
+
+    private byte[] certificate;
+    private byte[] signature;
+
+    @Before
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        X500Name name = new X500Name("CN=signer");
+        Date notBefore = new Date(System.currentTimeMillis() - 60_000);
+        Date notAfter = new Date(notBefore.getTime() + 24L * 60 * 60 * 1000);
+        ContentSigner signer = new JcaContentSignerBuilder("SHA256withRSA").build(keyPair.getPrivate());
+        X509CertificateHolder holder = new JcaX509v3CertificateBuilder(
+            name, BigInteger.ONE, notBefore, notAfter, name, keyPair.getPublic()
+        ).build(signer);
+        certificate = holder.getEncoded();
+
+        CMSSignedDataGenerator signedDataGenerator = new CMSSignedDataGenerator();
+        signedDataGenerator.addSignerInfoGenerator(
+            new JcaSignerInfoGeneratorBuilder(new JcaDigestCalculatorProviderBuilder().build()).build(signer, holder));
+        signature = signedDataGenerator.generate(new CMSProcessableByteArray(CONTENT), false).getEncoded();
+    }
+
+    @Test
+    public void shouldVerifyDetachedSignatureOfStreamedFile() throws Exception {
+        // given
+        Path signedFile = Files.write(folder.newFile("package.csar").toPath(), CONTENT);
+
+        // then
+        assertThat(validator.verifySignedData(signature, Optional.of(certificate), signedFile)).isTrue();
+        assertThat(validator.verifySignedData(signature, Optional.of(certificate), CONTENT)).isTrue();
+    }
+
+    @Test
+    public void shouldRejectStreamedFileWhichDoesNotMatchSignature() throws Exception {
+        // given
+        Path signedFile = Files.write(folder.newFile("package.csar").toPath(),
+            "modified package content".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(validator.verifySignedData(signature, Optional.of(certificate), signedFile)).isFalse();
+    }
+
+    @Test
+    public void shouldFailWhenSignatureHasNoCertificateAndNoneIsGiven() throws Exception {
+        // given
+        Path signedFile = Files.write(folder.newFile("package.csar").toPath(), CONTENT);
+
+        // then
+        assertThatThrownBy(() -> validator.verifySignedData(signature, Optional.empty(), signedFile))
+            .isInstanceOf(CmsSignatureValidatorException.class);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.security;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaCertStore;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.cms.CMSProcessableByteArray;
+import org.bouncycastle.cms.CMSSignedDataGenerator;
+import org.bouncycastle.cms.jcajce.JcaSignerInfoGeneratorBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of verifying one per-artifact detached CMS signature, the way R130206 does it
+ * for every {@code .sig.cms} file of a package: the signature is parsed, the certificate is loaded
+ * and the signer information is verified against the artifact content.
+ * <p>
+ * Run with {@code java -cp <test classpath> org.onap.cvc.csar.security.CmsSignatureVerificationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CmsSignatureVerificationBenchmark {
+
+    private static final int SIGNATURES = 300;
+
+    @Param({"true", "false"})
+    private boolean certificateInSignature;
+
+    private final CmsSignatureValidator validator = new CmsSignatureValidator();
+
+    private byte[][] artifacts;
+    private byte[][] signatures;
+    private byte[] certificate;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        X500Name name = new X500Name("CN=benchmark");
+        Date notBefore = new Date(System.currentTimeMillis() - 60_000);
+        Date notAfter = new Date(notBefore.getTime() + 24L * 60 * 60 * 1000);
+        ContentSigner signer = new JcaContentSignerBuilder("SHA256withRSA").build(keyPair.getPrivate());
+        X509CertificateHolder holder = new JcaX509v3CertificateBuilder(
+            name, BigInteger.ONE, notBefore, notAfter, name, keyPair.getPublic()
+        ).build(signer);
+        certificate = holder.getEncoded();
+
+        CMSSignedDataGenerator signedDataGenerator = new CMSSignedDataGenerator();
+        signedDataGenerator.addSignerInfoGenerator(
+            new JcaSignerInfoGeneratorBuilder(new JcaDigestCalculatorProviderBuilder().build()).build(signer, holder));
+        if (certificateInSignature) {
+            signedDataGenerator.addCertificates(new JcaCertStore(Collections.singletonList(holder)));
+        }
+
+        artifacts = new byte[SIGNATURES][];
+        signatures = new byte[SIGNATURES][];
+        for (int i = 0; i < SIGNATURES; i++) {
+            artifacts[i] = ("artifact content " + i).getBytes(StandardCharsets.UTF_8);
+            signatures[i] = signedDataGenerator.generate(new CMSProcessableByteArray(artifacts[i]), false).getEncoded();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIGNATURES)
+    public void verifyArtifactSignatures(Blackhole blackhole) throws CmsSignatureValidatorException {
+        for (int i = 0; i < SIGNATURES; i++) {
+            blackhole.consume(validator.verifySignedData(signatures[i], Optional.of(certificate), artifacts[i]));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CmsSignatureVerificationBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -18,15 +18,25 @@
 package org.onap.cvc.csar.security;
 
 
+import org.bouncycastle.util.encoders.Hex;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class ShaHashCodeGeneratorTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private ShaHashCodeGenerator shaHashCodeGenerator;
 
     @Before
@@ -53,4 +63,21 @@ public class ShaHashCodeGeneratorTest {
         .isEqualTo(shaHashCodeGenerator.generateSha512("test".getBytes()))
         .isNotEqualTo(shaHashCodeGenerator.generateSha512("Test".getBytes()));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldGenerateTheSameHashCodeWhenStreamingFile() throws NoSuchAlgorithmException, IOException {
+        // given
+        final byte[] content = new byte[200 * 1024 + 17];
+        new Random(42).nextBytes(content);
+        final Path file = Files.write(folder.newFile("artifact.bin").toPath(), content);
+
+        // when
+        final byte[] sha256 = shaHashCodeGenerator.digest(file, ShaHashCodeGenerator.SHA_256);
+        final byte[] sha512 = shaHashCodeGenerator.digest(file, ShaHashCodeGenerator.SHA_512);
+
+        // then
+        assertThat(Hex.toHexString(sha256)).isEqualTo(shaHashCodeGenerator.generateSha256(content));
+        assertThat(Hex.toHexString(sha512)).isEqualTo(shaHashCodeGenerator.generateSha512(content));
+        assertThat(shaHashCodeGenerator.digest(file, ShaHashCodeGenerator.SHA_256)).isEqualTo(sha256);
+    }
+}
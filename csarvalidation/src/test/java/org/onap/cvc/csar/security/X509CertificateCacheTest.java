@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.cvc.csar.security;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class X509CertificateCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldParseSameCertificateOnlyOnce() throws Exception {
+        // given
+        X509CertificateCache cache = new X509CertificateCache(2);
+        byte[] encoded = createCertificate("CN=first");
+
+        // when
+        X509Certificate first = cache.get(encoded);
+        X509Certificate second = cache.get(encoded.clone());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getEncoded()).isEqualTo(encoded);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldShareCertificateBetweenFilesWithSameContent() throws Exception {
+        // given
+        X509CertificateCache cache = new X509CertificateCache(2);
+        byte[] encoded = createCertificate("CN=common");
+        Path firstFile = Files.write(folder.newFile("first.cert").toPath(), encoded);
+        Path secondFile = Files.write(folder.newFile("second.cert").toPath(), encoded);
+
+        // when
+        X509Certificate first = cache.get(firstFile);
+        X509Certificate second = cache.get(secondFile);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(cache.get(firstFile)).isSameAs(first);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedCertificate() throws Exception {
+        // given
+        X509CertificateCache cache = new X509CertificateCache(2);
+        byte[] first = createCertificate("CN=first");
+        byte[] second = createCertificate("CN=second");
+        byte[] third = createCertificate("CN=third");
+        cache.get(first);
+        cache.get(second);
+
+        // when
+        cache.get(first);
+        cache.get(second);
+        cache.get(third);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.contains(first)).isFalse();
+        assertThat(cache.contains(second)).isTrue();
+        assertThat(cache.contains(third)).isTrue();
+    }
+
+    @Test
+    public void shouldNotCacheInvalidCertificate() {
+        // given
+        X509CertificateCache cache = new X509CertificateCache(2);
+
+        // then
+        assertThatThrownBy(() -> cache.get("not a certificate".getBytes()))
+            .isInstanceOf(CertificateException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    private static byte[] createCertificate(String subject) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        X500Name name = new X500Name(subject);
+        Date notBefore = new Date();
+        Date notAfter = new Date(notBefore.getTime() + 24L * 60 * 60 * 1000);
+        return new JcaX509v3CertificateBuilder(
+            name, BigInteger.ONE, notBefore, notAfter, name, keyPair.getPublic()
+        ).build(new JcaContentSignerBuilder("SHA256withRSA").build(keyPair.getPrivate())).getEncoded();
+    }
+}
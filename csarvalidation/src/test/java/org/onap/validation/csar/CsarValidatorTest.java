@@ -28,14 +28,27 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 
@@ -98,17 +111,8 @@ public class CsarValidatorTest {
         testValidateCsar(csarValidator4);
         CsarValidator csarValidator5 = new CsarValidator(packageId5, sample5);
         testValidateCsar(csarValidator5);
-        String sample1Dir = sample1.replace(".csar", "");
-        String sample2Dir = sample2.replace(".csar", "");
-        String sample3Dir = sample3.replace(".csar", "");
-        String sample4Dir = sample4.replace(".csar", "");
-        String sample5Dir = sample5.replace(".csar", "");
-        boolean result = FileUtil.deleteDirectory(sample1Dir);
-        boolean result1 = FileUtil.deleteDirectory(sample2Dir);
-        boolean result2 = FileUtil.deleteDirectory(sample3Dir);
-        boolean result3 = FileUtil.deleteDirectory(sample4Dir);
-        boolean result4 = FileUtil.deleteDirectory(sample5Dir);
-        assertEquals(true, result == true && result1 == true && result2 == true && result3 == true && result4 == true);
+        assertTrue(closeAndCheckWorkspacesDeleted(csarValidator, csarValidator2, csarValidator3, csarValidator4,
+                csarValidator5));
     }
 
     @Test
@@ -143,20 +147,84 @@ public class CsarValidatorTest {
         testValidateToscaMeta(csarValidator6);
         testValidateMainService(csarValidator6);
         testR02454(csarValidator6);
-        // Rel1 specific test case
-        String sample1Dir = sample1.replace(".csar", "");
-        String sample2Dir = sample2.replace(".csar", "");
-        String sample3Dir = sample3.replace(".csar", "");
-        String sample4Dir = sample4.replace(".csar", "");
-        String sample5Dir = sample5.replace(".csar", "");
-        String sampleDir = sample.replace(".csar", "");
-        boolean result = FileUtil.deleteDirectory(sample1Dir);
-        boolean result1 = FileUtil.deleteDirectory(sample2Dir);
-        boolean result2 = FileUtil.deleteDirectory(sample3Dir);
-        boolean result3 = FileUtil.deleteDirectory(sample4Dir);
-        boolean result4 = FileUtil.deleteDirectory(sample5Dir);
-        boolean result5 = FileUtil.deleteDirectory(sampleDir);
-        assertEquals(true, result == true && result1 == true && result2 == true && result3 == true && result4 == true);
+        assertTrue(closeAndCheckWorkspacesDeleted(csarValidator, csarValidator2, csarValidator3, csarValidator4,
+                csarValidator5, csarValidator6));
+    }
+
+    @Test
+    public void testValidateCsarsConcurrently() throws Exception {
+        List<String> samples = Arrays.asList(sample1, sample2, sample3, sample4, sample5);
+        ExecutorService executor = Executors.newFixedThreadPool(samples.size());
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (String csar : samples) {
+                results.add(executor.submit(() -> {
+                    try (CsarValidator cv = new CsarValidator(UUID.randomUUID().toString(), csar)) {
+                        return cv.validateCsar();
+                    }
+                }));
+            }
+            for (Future<String> result : results) {
+                assertEquals(CommonConstants.SUCCESS_STR, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testValidatorsDoNotShareExtractedFiles() throws IOException {
+        CsarValidator csarValidator = new CsarValidator(packageId, sample1);
+        CsarValidator csarValidator2 = new CsarValidator(packageId2, sample2);
+        try {
+            assertNotEquals(csarValidator.getCsarFiles(), csarValidator2.getCsarFiles());
+            assertEquals(CommonConstants.SUCCESS_STR, csarValidator.validateCsarMeta());
+
+            csarValidator.close();
+
+            assertTrue(csarValidator.getCsarFiles().isEmpty());
+            assertFalse(csarValidator2.getCsarFiles().isEmpty());
+        } finally {
+            csarValidator2.close();
+        }
+    }
+
+    @Test
+    public void testValidatorsOfSamePackageUseSeparateWorkspacesDeletedOnClose() throws IOException {
+        CsarValidator csarValidator = new CsarValidator(packageId, sample1);
+        CsarValidator csarValidator2 = new CsarValidator(packageId, sample1);
+        Path workspace = csarValidator.getWorkspaceDirectory();
+        Path workspace2 = csarValidator2.getWorkspaceDirectory();
+
+        assertNotEquals(workspace, workspace2);
+        assertTrue(Files.isDirectory(workspace));
+
+        csarValidator.close();
+
+        assertFalse(Files.exists(workspace));
+        assertEquals(CommonConstants.SUCCESS_STR, csarValidator2.validateCsar());
+
+        csarValidator2.close();
+
+        assertFalse(Files.exists(workspace2));
+    }
+
+    @Test
+    public void testExtractionRejectsEntriesOutsideOfWorkspace() throws IOException {
+        Path csar = Files.createTempFile("zip-slip", ".csar");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(csar))) {
+            zip.putNextEntry(new ZipEntry("../outside.txt"));
+            zip.write("outside".getBytes());
+            zip.closeEntry();
+        }
+        try {
+            CsarUtil.csarExtract(csar.toString());
+            fail("ValidationException expected");
+        } catch (ValidationException e) {
+            assertFalse(Files.exists(csar.getParent().resolve("outside.txt")));
+        } finally {
+            Files.delete(csar);
+        }
     }
 
     @Test
@@ -217,8 +285,17 @@ public class CsarValidatorTest {
         FileUtil.closeOutputStream(outputStream);
     }
 
+    private boolean closeAndCheckWorkspacesDeleted(CsarValidator... validators) {
+        boolean deleted = true;
+        for (CsarValidator cv : validators) {
+            cv.close();
+            deleted &= !Files.exists(cv.getWorkspaceDirectory());
+        }
+        return deleted;
+    }
+
     private void testValidateCsarMeta(CsarValidator cv) {
-        String result = CsarValidator.validateCsarMeta();
+        String result = cv.validateCsarMeta();
         assertEquals(true, result == CommonConstants.SUCCESS_STR);
     }
 
@@ -228,24 +305,24 @@ public class CsarValidatorTest {
     }
 
     private void testValidateToscaMeta(CsarValidator cv) {
-        String result = CsarValidator.validateAndScanToscaMeta();
+        String result = cv.validateAndScanToscaMeta();
         assertEquals(true, result == CommonConstants.SUCCESS_STR);
     }
 
     private void testValidateMainService(CsarValidator cv) {
 
-        String result = CsarValidator.validateMainService();
+        String result = cv.validateMainService();
         assertEquals(true, result == CommonConstants.SUCCESS_STR);
     }
 
     private void testValidateCsar(CsarValidator cv) {
 
-        String result = CsarValidator.validateCsar();
+        String result = cv.validateCsar();
         assertEquals(true, result == CommonConstants.SUCCESS_STR);
     }
 
     private void testR02454(CsarValidator cv) {
-        String result = CsarValidator.r02454();
+        String result = cv.r02454();
         assertEquals(true, result == CommonConstants.SUCCESS_STR);
     }
 
@@ -18,8 +18,10 @@ package org.onap.validation.cli;
 
 import org.onap.validation.cli.command.validate.ResponseStorage;
 import org.onap.validation.cli.command.validate.ToJsonConverter;
+import org.onap.validation.cli.command.validate.ValidateDictionaryYamlBatchCommand;
 import org.onap.validation.cli.command.validate.ValidateDictionaryYamlCommand;
 import org.onap.validation.cli.core.Cli;
+import org.onap.validation.cli.core.Command;
 import org.onap.validation.cli.core.Console;
 import org.onap.validation.yaml.util.Args;
 
@@ -39,10 +41,18 @@ public class Main {
     static int run(String[] args, Console console, ResponseStorage responseStorage) {
 
         Cli<String> cli = new Cli<>(console, responseStorage);
+        final Args cliArgs = new Args(List.of(args));
 
         return cli.run(
-                new Args(List.of(args)),
-                new ValidateDictionaryYamlCommand(new ToJsonConverter())
+                cliArgs,
+                resolveCommand(cliArgs)
         );
     }
+
+    private static Command<String> resolveCommand(Args args) {
+        if (ValidateDictionaryYamlBatchCommand.isBatch(args)) {
+            return new ValidateDictionaryYamlBatchCommand(new ToJsonConverter());
+        }
+        return new ValidateDictionaryYamlCommand(new ToJsonConverter());
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.validation.cli.command.validate;
+
+/**
+ * Aggregated result of validating many dictionary files, one {@link ResponseModel} per file being written
+ * to the NDJSON output.
+ */
+public class BatchSummaryModel {
+
+    private final String output;
+    private final ResponseModel.ResponseStatus status;
+    private final int files;
+    private final int passed;
+    private final int failed;
+    private final int invalid;
+
+    public BatchSummaryModel(String output, int passed, int failed, int invalid) {
+        this.output = output;
+        this.status = resolveStatus(failed, invalid);
+        this.files = passed + failed + invalid;
+        this.passed = passed;
+        this.failed = failed;
+        this.invalid = invalid;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public ResponseModel.ResponseStatus getStatus() {
+        return status;
+    }
+
+    public int getFiles() {
+        return files;
+    }
+
+    public int getPassed() {
+        return passed;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public int getInvalid() {
+        return invalid;
+    }
+
+    private static ResponseModel.ResponseStatus resolveStatus(int failed, int invalid) {
+        if (invalid > 0) {
+            return ResponseModel.ResponseStatus.ERROR;
+        }
+        return failed > 0 ? ResponseModel.ResponseStatus.FAILED : ResponseModel.ResponseStatus.PASS;
+    }
+}
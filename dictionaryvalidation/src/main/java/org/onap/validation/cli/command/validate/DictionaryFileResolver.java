@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.validation.cli.command.validate;
+
+import org.onap.validation.cli.core.CommandException;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Resolves files, directories and globs given on the command line to the dictionary files to validate.
+ * Directories are searched recursively for YAML files. Globs use the {@link java.nio.file.FileSystem#getPathMatcher}
+ * syntax and are searched from their longest leading part which does not contain any wildcard.
+ */
+public class DictionaryFileResolver {
+
+    private static final String GLOB_SYNTAX = "glob:";
+    private static final String GLOB_CHARACTERS = "*?[{";
+    private static final List<String> YAML_EXTENSIONS = List.of(".yaml", ".yml");
+
+    public List<Path> resolve(List<String> patterns) throws CommandException {
+        final Set<Path> files = new TreeSet<>();
+        for (String pattern : patterns) {
+            files.addAll(resolve(pattern));
+        }
+        if (files.isEmpty()) {
+            throw new CommandException(String.format("No dictionary files found in: %s", String.join(", ", patterns)));
+        }
+        return new ArrayList<>(files);
+    }
+
+    public static boolean isGlob(String pattern) {
+        return pattern.chars().anyMatch(character -> GLOB_CHARACTERS.indexOf(character) >= 0);
+    }
+
+    private List<Path> resolve(String pattern) throws CommandException {
+        if (isGlob(pattern)) {
+            final PathMatcher matcher = FileSystems.getDefault().getPathMatcher(GLOB_SYNTAX + pattern);
+            return find(getGlobBaseDirectory(pattern), matcher::matches);
+        }
+        final Path path = Path.of(pattern);
+        if (Files.isDirectory(path)) {
+            return find(path, DictionaryFileResolver::isYamlFile);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new CommandException(String.format("File '%s' does not exist!", pattern));
+        }
+        return List.of(path);
+    }
+
+    private List<Path> find(Path directory, Predicate<Path> filter) throws CommandException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths
+                    .filter(Files::isRegularFile)
+                    .filter(filter)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new CommandException(String.format("Unable to search for dictionary files in '%s'", directory), e);
+        }
+    }
+
+    private static Path getGlobBaseDirectory(String pattern) {
+        final String separator = FileSystems.getDefault().getSeparator();
+        final String[] segments = pattern.split(Pattern.quote(separator), -1);
+        final StringBuilder baseDirectory = new StringBuilder();
+        for (int index = 0; index < segments.length - 1 && !isGlob(segments[index]); index++) {
+            baseDirectory.append(segments[index]).append(separator);
+        }
+        return Path.of(baseDirectory.toString());
+    }
+
+    private static boolean isYamlFile(Path path) {
+        final String fileName = path.getFileName().toString().toLowerCase();
+        return YAML_EXTENSIONS.stream().anyMatch(fileName::endsWith);
+    }
+}
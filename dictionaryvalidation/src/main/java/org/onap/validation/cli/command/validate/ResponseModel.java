@@ -26,11 +26,17 @@ public class ResponseModel {
     private final String file;
     private final ResponseStatus status;
     private final List<YamlDocumentValidationError> errors;
+    private final String message;
 
     public ResponseModel(String file, ResponseStatus status, List<YamlDocumentValidationError> errors) {
+        this(file, status, errors, null);
+    }
+
+    public ResponseModel(String file, ResponseStatus status, List<YamlDocumentValidationError> errors, String message) {
         this.file = file;
         this.status = status;
         this.errors = errors;
+        this.message = message;
     }
 
     public String getFile() {
@@ -45,7 +51,11 @@ public class ResponseModel {
         return status;
     }
 
+    public String getMessage() {
+        return message;
+    }
+
     public enum ResponseStatus {
-        PASS, FAILED
+        PASS, FAILED, ERROR
     }
 }
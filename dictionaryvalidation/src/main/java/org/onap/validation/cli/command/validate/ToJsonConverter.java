@@ -21,8 +21,23 @@ import com.google.gson.GsonBuilder;
 
 
 public class ToJsonConverter {
+
+    private static final Gson LINE_GSON = new Gson();
+
     public String convert(ResponseModel responseModel) {
         Gson gson = new GsonBuilder().setPrettyPrinting().create();
         return gson.toJson(responseModel);
     }
+
+    /**
+     * Converts the response to a single line of JSON, as written to NDJSON output.
+     */
+    public String convertToLine(ResponseModel responseModel) {
+        return LINE_GSON.toJson(responseModel);
+    }
+
+    public String convert(BatchSummaryModel summaryModel) {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        return gson.toJson(summaryModel);
+    }
 }
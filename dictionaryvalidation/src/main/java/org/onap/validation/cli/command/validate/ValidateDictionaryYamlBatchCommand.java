@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.validation.cli.command.validate;
+
+import org.onap.validation.cli.core.Command;
+import org.onap.validation.cli.core.CommandException;
+import org.onap.validation.cli.core.CommandResponse;
+import org.onap.validation.yaml.IncrementalYamlContentValidator;
+import org.onap.validation.yaml.YamlContentValidator;
+import org.onap.validation.yaml.error.YamlDocumentValidationError;
+import org.onap.validation.yaml.exception.YamlProcessingException;
+import org.onap.validation.yaml.util.Args;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Validates many dictionary files in a single run. Files are given as paths, directories or globs and are
+ * validated in parallel, sharing the cached schemas. One line of JSON is written to a single NDJSON output
+ * per file, as soon as the file is validated, so lines follow the order in which validations complete.
+ * With a state directory, documents which did not change since the previous run are not validated again,
+ * see {@link IncrementalYamlContentValidator}.
+ * <p>
+ * A file which cannot be validated, whatever the reason, is reported with the ERROR status and does not stop
+ * the validation of the others.
+ * <p>
+ * Arguments: {@code [--output=<file>] [--threads=<count>] [--state=<directory>] <file|directory|glob>...}
+ */
+public class ValidateDictionaryYamlBatchCommand implements Command<String> {
+
+    public static final String OUTPUT_OPTION = "--output=";
+    public static final String THREADS_OPTION = "--threads=";
+    public static final String STATE_OPTION = "--state=";
+    public static final String OPTION_PREFIX = "--";
+    public static final String DEFAULT_OUTPUT_FILE = "dictionary-validation-results.ndjson";
+    public static final String SUMMARY_POST_FIX = "-summary.json";
+    public static final String INVALID_STRUCTURE_MSG = "Provided yaml file has invalid structure!";
+    public static final String VALIDATION_FAILURE_MSG = "Unexpected failure while validating yaml file!";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ValidateDictionaryYamlBatchCommand.class);
+
+    private final DictionaryFileResolver fileResolver = new DictionaryFileResolver();
+
+    private final ToJsonConverter toJsonConverter;
+    private final YamlContentValidator yamlContentValidator;
+
+    public ValidateDictionaryYamlBatchCommand(ToJsonConverter toJsonConverter) {
+        this(toJsonConverter, new YamlContentValidator());
+    }
+
+    ValidateDictionaryYamlBatchCommand(ToJsonConverter toJsonConverter, YamlContentValidator yamlContentValidator) {
+        this.toJsonConverter = toJsonConverter;
+        this.yamlContentValidator = yamlContentValidator;
+    }
+
+    /**
+     * Checks whether arguments ask for more than the single, existing file the one-file command validates.
+     */
+    public static boolean isBatch(Args args) {
+        final List<String> arguments = args.getArgs();
+        if (arguments.size() > 1) {
+            return true;
+        }
+        return arguments.stream().anyMatch(argument -> argument.startsWith(OPTION_PREFIX)
+                || DictionaryFileResolver.isGlob(argument)
+                || Files.isDirectory(Path.of(argument)));
+    }
+
+    @Override
+    public CommandResponse<String> execute(Args args) throws CommandException {
+        final BatchOptions options = BatchOptions.of(args);
+        final List<Path> files = fileResolver.resolve(options.patterns);
+        final DictionaryValidator validator = resolveValidator(options);
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(options.threads, files.size()));
+        try (BufferedWriter output = Files.newBufferedWriter(options.output)) {
+            final List<Future<ResponseModel.ResponseStatus>> results = new ArrayList<>();
+            for (Path file : files) {
+                results.add(executor.submit(() -> validateAndWrite(validator, file, output)));
+            }
+            return summarize(options.output, results);
+        } catch (IOException e) {
+            throw new CommandException(String.format("Unable to write validation results to '%s'", options.output), e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Validate Dictionary yaml files";
+    }
+
+    @Override
+    public Path getOutputFilePath(Args args) throws CommandException {
+        final Path output = BatchOptions.of(args).output.toAbsolutePath();
+        final String fileNameAbbreviation = output.getFileName().toString()
+                .split(OutputFilePathGenerator.BY_PERIOD_REGEX)[OutputFilePathGenerator.FILE_NAME_ABBREVIATION_INDEX];
+        return output.resolveSibling(fileNameAbbreviation + SUMMARY_POST_FIX);
+    }
+
+    private DictionaryValidator resolveValidator(BatchOptions options) {
+        if (options.stateDirectory == null) {
+            return yamlContentValidator::validate;
+        }
+        final IncrementalYamlContentValidator incrementalValidator = new IncrementalYamlContentValidator(options.stateDirectory);
+        return (file, errorConsumer) -> incrementalValidator.validate(file).getErrors().forEach(errorConsumer);
+    }
+
+    private ResponseModel.ResponseStatus validateAndWrite(DictionaryValidator validator, Path file, Writer output)
+            throws IOException {
+        final ResponseModel responseModel = validate(validator, file);
+        final String line = toJsonConverter.convertToLine(responseModel);
+        synchronized (output) {
+            output.write(line);
+            output.write(System.lineSeparator());
+            output.flush();
+        }
+        return responseModel.getStatus();
+    }
+
+    private ResponseModel validate(DictionaryValidator validator, Path file) {
+        final List<YamlDocumentValidationError> errors = new ArrayList<>();
+        try {
+            validator.validate(file, errors::add);
+            return new ResponseModel(file.toString(), resolveResponseStatus(errors), errors);
+        } catch (YamlProcessingException | YAMLException e) {
+            return new ResponseModel(file.toString(), ResponseModel.ResponseStatus.ERROR, errors,
+                    String.format("%s %s", INVALID_STRUCTURE_MSG, e.getMessage()));
+        } catch (RuntimeException e) {
+            LOGGER.error("Unexpected failure while validating {}", file, e);
+            return new ResponseModel(file.toString(), ResponseModel.ResponseStatus.ERROR, errors,
+                    String.format("%s %s", VALIDATION_FAILURE_MSG, e));
+        }
+    }
+
+    private CommandResponse<String> summarize(Path output, List<Future<ResponseModel.ResponseStatus>> results)
+            throws CommandException, IOException {
+        int passed = 0;
+        int failed = 0;
+        int invalid = 0;
+        for (Future<ResponseModel.ResponseStatus> result : results) {
+            switch (getStatus(result)) {
+                case PASS:
+                    passed++;
+                    break;
+                case FAILED:
+                    failed++;
+                    break;
+                default:
+                    invalid++;
+            }
+        }
+        final BatchSummaryModel summary = new BatchSummaryModel(output.toString(), passed, failed, invalid);
+        return new CommandResponse<>(toJsonConverter.convert(summary), resolveCommandStatus(summary));
+    }
+
+    private ResponseModel.ResponseStatus getStatus(Future<ResponseModel.ResponseStatus> result)
+            throws CommandException, IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException("Validation of dictionary files was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new CommandException("Validation of dictionary files failed", (Exception) e.getCause());
+        }
+    }
+
+    private ResponseModel.ResponseStatus resolveResponseStatus(List<YamlDocumentValidationError> errors) {
+        return errors.isEmpty() ? ResponseModel.ResponseStatus.PASS : ResponseModel.ResponseStatus.FAILED;
+    }
+
+    private CommandResponse.CommandStatus resolveCommandStatus(BatchSummaryModel summary) {
+        switch (summary.getStatus()) {
+            case PASS:
+                return CommandResponse.CommandStatus.PASS;
+            case FAILED:
+                return CommandResponse.CommandStatus.FAILED;
+            default:
+                return CommandResponse.CommandStatus.ERROR;
+        }
+    }
+
+    @FunctionalInterface
+    private interface DictionaryValidator {
+        void validate(Path file, Consumer<YamlDocumentValidationError> errorConsumer) throws YamlProcessingException;
+    }
+
+    private static final class BatchOptions {
+
+        private final Path output;
+        private final int threads;
+        private final Path stateDirectory;
+        private final List<String> patterns;
+
+        private BatchOptions(Path output, int threads, Path stateDirectory, List<String> patterns) {
+            this.output = output;
+            this.threads = threads;
+            this.stateDirectory = stateDirectory;
+            this.patterns = patterns;
+        }
+
+        static BatchOptions of(Args args) throws CommandException {
+            Path output = Path.of(DEFAULT_OUTPUT_FILE);
+            int threads = Runtime.getRuntime().availableProcessors();
+            Path stateDirectory = null;
+            final List<String> patterns = new ArrayList<>();
+            for (String argument : args.getArgs()) {
+                if (argument.startsWith(OUTPUT_OPTION)) {
+                    output = Path.of(argument.substring(OUTPUT_OPTION.length()));
+                } else if (argument.startsWith(THREADS_OPTION)) {
+                    threads = parseThreads(argument.substring(THREADS_OPTION.length()));
+                } else if (argument.startsWith(STATE_OPTION)) {
+                    stateDirectory = Path.of(argument.substring(STATE_OPTION.length()));
+                } else if (argument.startsWith(OPTION_PREFIX)) {
+                    throw new CommandException(String.format("Unknown option '%s'", argument));
+                } else {
+                    patterns.add(argument);
+                }
+            }
+            if (patterns.isEmpty()) {
+                throw new CommandException("Command argument is missing: provide paths to files or directories");
+            }
+            return new BatchOptions(output, threads, stateDirectory, patterns);
+        }
+
+        private static int parseThreads(String value) throws CommandException {
+            try {
+                final int threads = Integer.parseInt(value);
+                if (threads > 0) {
+                    return threads;
+                }
+            } catch (NumberFormatException e) {
+                // reported below, the same way as a count which is not positive
+            }
+            throw new CommandException(String.format("Number of threads must be a positive number, got '%s'", value));
+        }
+    }
+}
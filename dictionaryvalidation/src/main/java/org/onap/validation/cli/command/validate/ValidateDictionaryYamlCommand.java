@@ -26,6 +26,7 @@ import org.onap.validation.yaml.util.Args;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 public class ValidateDictionaryYamlCommand implements Command<String> {
@@ -63,7 +64,8 @@ public class ValidateDictionaryYamlCommand implements Command<String> {
     }
 
     private CommandResponse<String> validate(String pathToFile) throws YamlProcessingException {
-        final List<YamlDocumentValidationError> errors = yamlContentValidator.validate(pathToFile);
+        final List<YamlDocumentValidationError> errors = new ArrayList<>();
+        yamlContentValidator.validate(Path.of(pathToFile), errors::add);
         return new CommandResponse<>(
                 toJsonConverter.convert(new ResponseModel(pathToFile, resolveResponseStatus(errors), errors))
                 ,resolveCommandStatus(errors)
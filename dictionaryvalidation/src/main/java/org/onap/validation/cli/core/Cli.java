@@ -56,7 +56,14 @@ public class Cli<T> {
     }
 
     private int resolveCliStatusCodeFor(CommandResponse<T> commandResponse) {
-        return commandResponse.getCommandStatus() == CommandStatus.PASS ? PASS_STATUS_CODE : FAILED_STATUS_CODE;
+        switch (commandResponse.getCommandStatus()) {
+            case PASS:
+                return PASS_STATUS_CODE;
+            case ERROR:
+                return INTERNAL_ERROR_STATUS_CODE;
+            default:
+                return FAILED_STATUS_CODE;
+        }
     }
 
     private void logException(Exception e) {
@@ -35,7 +35,7 @@ public class CommandResponse<T> {
     }
 
     public enum CommandStatus {
-        PASS, FAILED
+        PASS, FAILED, ERROR
     }
 
     @Override
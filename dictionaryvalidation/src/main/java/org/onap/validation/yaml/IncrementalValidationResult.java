@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.validation.yaml;
+
+import org.onap.validation.yaml.error.YamlDocumentValidationError;
+
+import java.util.Collections;
+import java.util.List;
+
+public class IncrementalValidationResult {
+
+    private final List<YamlDocumentValidationError> errors;
+    private final int validatedDocuments;
+    private final int reusedDocuments;
+
+    IncrementalValidationResult(List<YamlDocumentValidationError> errors, int validatedDocuments, int reusedDocuments) {
+        this.errors = errors;
+        this.validatedDocuments = validatedDocuments;
+        this.reusedDocuments = reusedDocuments;
+    }
+
+    public List<YamlDocumentValidationError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Returns the number of documents, schema excluded, which were validated in this run.
+     */
+    public int getValidatedDocuments() {
+        return validatedDocuments;
+    }
+
+    /**
+     * Returns the number of documents whose errors were taken from an earlier run, as their content did not change.
+     */
+    public int getReusedDocuments() {
+        return reusedDocuments;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.validation.yaml;
+
+import org.onap.validation.yaml.error.SchemaValidationError;
+import org.onap.validation.yaml.error.YamlDocumentValidationError;
+import org.onap.validation.yaml.exception.YamlProcessingException;
+import org.onap.validation.yaml.model.YamlDocument;
+import org.onap.validation.yaml.model.YamlDocumentFactory;
+import org.onap.validation.yaml.schema.YamlSchemaCache;
+import org.onap.validation.yaml.state.YamlValidationState;
+import org.onap.validation.yaml.state.YamlValidationStateStore;
+import org.onap.validation.yaml.util.YamlDigest;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validates dictionaries again after they were changed, validating only the documents whose content changed.
+ * Errors of every document are stored with the digest of its content, per dictionary and schema. Documents
+ * with a digest known from the previous run of the same dictionary and schema are not validated again,
+ * and a dictionary whose content did not change at all is not parsed again. A change of the schema makes
+ * all documents validated again.
+ * <p>
+ * Errors are reported the same way as by {@link YamlContentValidator}.
+ */
+public class IncrementalYamlContentValidator {
+
+    private static final YamlLoader YAML_LOADER = new YamlLoader(new YamlDocumentFactory());
+    private static final int FIRST_DOCUMENT_INDEX = 1;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final YamlValidationStateStore stateStore;
+
+    /**
+     * Creates a validator keeping the validation state in memory only.
+     */
+    public IncrementalYamlContentValidator() {
+        this(new YamlValidationStateStore());
+    }
+
+    /**
+     * Creates a validator storing the validation state in the given directory as well, to be reused by later runs.
+     */
+    public IncrementalYamlContentValidator(Path stateDirectory) {
+        this(new YamlValidationStateStore(stateDirectory));
+    }
+
+    public IncrementalYamlContentValidator(YamlValidationStateStore stateStore) {
+        this.stateStore = stateStore;
+    }
+
+    public IncrementalValidationResult validate(Path pathToFile) throws YamlProcessingException {
+        try {
+            return validate(pathToFile.toAbsolutePath().normalize().toString(), digestOf(pathToFile),
+                () -> new BufferedInputStream(Files.newInputStream(pathToFile)));
+        } catch (IOException e) {
+            throw new YamlProcessingException("Fail to read file under given path.", e);
+        }
+    }
+
+    /**
+     * Validates the dictionary known under the given key, e.g. the path of a file being edited.
+     */
+    public IncrementalValidationResult validate(String key, byte[] yamlWithSchema) throws YamlProcessingException {
+        final MessageDigest contentDigest = YamlDigest.newMessageDigest();
+        contentDigest.update(yamlWithSchema);
+        try {
+            return validate(key, YamlDigest.toHex(contentDigest.digest()), () -> new ByteArrayInputStream(yamlWithSchema));
+        } catch (IOException e) {
+            throw new YamlProcessingException("Fail to read dictionary content.", e);
+        }
+    }
+
+    private IncrementalValidationResult validate(String key, String contentDigest, YamlSource source)
+            throws YamlProcessingException, IOException {
+        final YamlValidationState previousState = stateStore.load(key);
+        if (previousState != null && contentDigest.equals(previousState.getContentDigest())) {
+            return reuse(previousState);
+        }
+
+        final IncrementalValidation validation = new IncrementalValidation(previousState);
+        final MessageDigest parsedContentDigest = YamlDigest.newMessageDigest();
+        try (InputStream yamlStream = new DigestInputStream(source.open(), parsedContentDigest)) {
+            if (YAML_LOADER.streamMultiDocumentYaml(yamlStream, validation) == 0) {
+                throw new YamlProcessingException("Dictionary YAML file is empty");
+            }
+        }
+        validation.state.setContentDigest(YamlDigest.toHex(parsedContentDigest.digest()));
+        stateStore.save(key, validation.state);
+        return new IncrementalValidationResult(validation.errors, validation.validatedDocuments, validation.reusedDocuments);
+    }
+
+    private IncrementalValidationResult reuse(YamlValidationState state) {
+        final List<YamlDocumentValidationError> errors = new ArrayList<>();
+        final List<String> documentDigests = state.getDocumentDigests();
+        for (int index = 0; index < documentDigests.size(); index++) {
+            addErrors(errors, FIRST_DOCUMENT_INDEX + index, state.getErrors(documentDigests.get(index)));
+        }
+        return new IncrementalValidationResult(errors, 0, documentDigests.size());
+    }
+
+    private static String digestOf(Path pathToFile) throws IOException {
+        final MessageDigest contentDigest = YamlDigest.newMessageDigest();
+        try (InputStream content = Files.newInputStream(pathToFile)) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                contentDigest.update(buffer, 0, read);
+            }
+        }
+        return YamlDigest.toHex(contentDigest.digest());
+    }
+
+    private static void addErrors(List<YamlDocumentValidationError> errors, int index,
+                                  List<SchemaValidationError> documentErrors) {
+        for (SchemaValidationError error : documentErrors) {
+            errors.add(new YamlDocumentValidationError(index, error.getPath(), error.getMessage()));
+        }
+    }
+
+    @FunctionalInterface
+    private interface YamlSource {
+        InputStream open() throws IOException;
+    }
+
+    private static final class IncrementalValidation implements YamlLoader.YamlDocumentConsumer {
+        private final YamlValidationState previousState;
+        private final List<YamlDocumentValidationError> errors = new ArrayList<>();
+        private YamlValidator validator;
+        private YamlValidationState reusableState;
+        private YamlValidationState state;
+        private int validatedDocuments;
+        private int reusedDocuments;
+
+        private IncrementalValidation(YamlValidationState previousState) {
+            this.previousState = previousState;
+        }
+
+        @Override
+        public void accept(int index, YamlDocument document) throws YamlProcessingException {
+            if (validator == null) {
+                final String schemaDigest = document.getDigest();
+                validator = new YamlValidator(YamlSchemaCache.getInstance().get(document));
+                if (previousState != null && schemaDigest.equals(previousState.getSchemaDigest())) {
+                    reusableState = previousState;
+                }
+                state = new YamlValidationState(schemaDigest);
+            } else {
+                addErrors(errors, index, getErrors(document));
+            }
+        }
+
+        private List<SchemaValidationError> getErrors(YamlDocument document) throws YamlProcessingException {
+            final String documentDigest = document.getDigest();
+            List<SchemaValidationError> documentErrors = state.getErrors(documentDigest);
+            if (documentErrors == null && reusableState != null) {
+                documentErrors = reusableState.getErrors(documentDigest);
+            }
+            if (documentErrors == null) {
+                documentErrors = validator.validate(document);
+                validatedDocuments++;
+            } else {
+                reusedDocuments++;
+            }
+            state.addDocument(documentDigest, documentErrors);
+            return documentErrors;
+        }
+    }
+}
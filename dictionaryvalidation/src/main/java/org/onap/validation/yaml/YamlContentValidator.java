@@ -23,17 +23,42 @@ import org.onap.validation.yaml.exception.YamlProcessingException;
 import org.onap.validation.yaml.model.YamlDocument;
 import org.onap.validation.yaml.model.YamlDocumentFactory;
 import org.onap.validation.yaml.schema.YamlSchema;
-import org.onap.validation.yaml.schema.YamlSchemaFactory;
+import org.onap.validation.yaml.schema.YamlSchemaCache;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class YamlContentValidator {
 
+    public static final String PARALLEL_THRESHOLD_PROPERTY = "onap.validation.yaml.parallelThreshold";
+    static final int DEFAULT_PARALLEL_THRESHOLD = 16;
+
     private static final int FIRST_DOCUMENT_INDEX = 1;
     private static final YamlLoader YAML_LOADER = new YamlLoader(new YamlDocumentFactory());
 
+    private final int parallelThreshold;
+
+    public YamlContentValidator() {
+        this(Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, DEFAULT_PARALLEL_THRESHOLD));
+    }
+
+    /**
+     * @param parallelThreshold number of documents, schema excluded, above which documents are validated
+     *                          in parallel
+     */
+    YamlContentValidator(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
     public List<YamlDocumentValidationError> validate(String pathToFile)
             throws YamlProcessingException {
         List<YamlDocument> documents = YAML_LOADER.loadMultiDocumentYamlFile(pathToFile);
@@ -46,6 +71,28 @@ public class YamlContentValidator {
         return getYamlDocumentValidationErrors(documents);
     }
 
+    /**
+     * Validates the dictionary while it is parsed. The schema is taken from the first document and every
+     * later document is validated and dropped as soon as it is parsed, so memory does not grow with the
+     * number of documents. Errors are passed to the consumer in document order, as they are found.
+     */
+    public void validate(Path pathToFile, Consumer<YamlDocumentValidationError> errorConsumer)
+            throws YamlProcessingException {
+        try (InputStream yamlStream = new BufferedInputStream(Files.newInputStream(pathToFile))) {
+            validate(yamlStream, errorConsumer);
+        } catch (IOException e) {
+            throw new YamlProcessingException("Fail to read file under given path.", e);
+        }
+    }
+
+    public void validate(InputStream yamlWithSchema, Consumer<YamlDocumentValidationError> errorConsumer)
+            throws YamlProcessingException {
+        int documents = YAML_LOADER.streamMultiDocumentYaml(yamlWithSchema, new StreamingValidation(errorConsumer));
+        if (documents == 0) {
+            throw new YamlProcessingException("Dictionary YAML file is empty");
+        }
+    }
+
     private List<YamlDocumentValidationError> getYamlDocumentValidationErrors(List<YamlDocument> documents) throws YamlProcessingException {
         if (documents.isEmpty()) {
             throw new YamlProcessingException("Dictionary YAML file is empty");
@@ -57,18 +104,32 @@ public class YamlContentValidator {
     private List<YamlDocumentValidationError> validateDocuments(List<YamlDocument> documents)
             throws YamlProcessingException {
 
-        List<YamlDocumentValidationError> yamlFileValidationErrors = new ArrayList<>();
         YamlSchema schema = extractSchema(documents);
         YamlValidator validator = new YamlValidator(schema);
 
-        for (int index = FIRST_DOCUMENT_INDEX; index < documents.size(); index++) {
-            List<SchemaValidationError> validationErrors = validator.validate(documents.get(index));
-            yamlFileValidationErrors.addAll(transformErrors(index, validationErrors));
+        IntStream indexes = IntStream.range(FIRST_DOCUMENT_INDEX, documents.size());
+        if (documents.size() - FIRST_DOCUMENT_INDEX > parallelThreshold) {
+            indexes = indexes.parallel();
         }
+        List<DocumentValidationResult> results = indexes
+                .mapToObj(index -> validateDocument(validator, index, documents.get(index)))
+                .collect(Collectors.toList());
 
+        List<YamlDocumentValidationError> yamlFileValidationErrors = new ArrayList<>();
+        for (DocumentValidationResult result : results) {
+            yamlFileValidationErrors.addAll(result.getErrors());
+        }
         return yamlFileValidationErrors;
     }
 
+    private DocumentValidationResult validateDocument(YamlValidator validator, int index, YamlDocument document) {
+        try {
+            return DocumentValidationResult.of(transformErrors(index, validator.validate(document)));
+        } catch (YamlProcessingException e) {
+            return DocumentValidationResult.failed(e);
+        }
+    }
+
     private List<YamlDocumentValidationError> transformErrors(int index, List<SchemaValidationError> validationErrors) {
         return validationErrors
                 .stream()
@@ -77,7 +138,53 @@ public class YamlContentValidator {
     }
 
     private YamlSchema extractSchema(List<YamlDocument> documents) throws YamlProcessingException {
-        return new YamlSchemaFactory().createTreeStructuredYamlSchema(documents.get(0));
+        return YamlSchemaCache.getInstance().get(documents.get(0));
+    }
+
+    private final class StreamingValidation implements YamlLoader.YamlDocumentConsumer {
+        private final Consumer<YamlDocumentValidationError> errorConsumer;
+        private YamlValidator validator;
+
+        private StreamingValidation(Consumer<YamlDocumentValidationError> errorConsumer) {
+            this.errorConsumer = errorConsumer;
+        }
+
+        @Override
+        public void accept(int index, YamlDocument document) throws YamlProcessingException {
+            if (validator == null) {
+                validator = new YamlValidator(YamlSchemaCache.getInstance().get(document));
+            } else {
+                transformErrors(index, validator.validate(document)).forEach(errorConsumer);
+            }
+        }
     }
 
+    /**
+     * Outcome of validating a single document. Failures are kept with the document instead of being thrown
+     * from a worker thread, so the failure of the first failing document is reported, as in sequential order.
+     */
+    private static final class DocumentValidationResult {
+        private final List<YamlDocumentValidationError> errors;
+        private final YamlProcessingException failure;
+
+        private DocumentValidationResult(List<YamlDocumentValidationError> errors, YamlProcessingException failure) {
+            this.errors = errors;
+            this.failure = failure;
+        }
+
+        static DocumentValidationResult of(List<YamlDocumentValidationError> errors) {
+            return new DocumentValidationResult(errors, null);
+        }
+
+        static DocumentValidationResult failed(YamlProcessingException failure) {
+            return new DocumentValidationResult(Collections.emptyList(), failure);
+        }
+
+        List<YamlDocumentValidationError> getErrors() throws YamlProcessingException {
+            if (failure != null) {
+                throw failure;
+            }
+            return errors;
+        }
+    }
 }
@@ -20,9 +20,10 @@ package org.onap.validation.yaml;
 import org.onap.validation.yaml.exception.YamlProcessingException;
 import org.onap.validation.yaml.model.YamlDocument;
 import org.onap.validation.yaml.model.YamlDocumentFactory;
+import org.onap.validation.yaml.parser.YamlDocumentStream;
+import org.onap.validation.yaml.parser.YamlParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.yaml.snakeyaml.Yaml;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -74,9 +75,31 @@ class YamlLoader {
 
     private List<YamlDocument> loadMultiDocumentYaml(InputStream yamlStream) throws YamlDocumentFactory.YamlDocumentParsingException {
         List<YamlDocument> documents = new ArrayList<>();
-        for (Object yamlDocument : new Yaml().loadAll(yamlStream)) {
+        for (Object yamlDocument : YamlParser.getInstance().loadAll(yamlStream)) {
             documents.add(documentFactory.createYamlDocument(yamlDocument));
         }
         return documents;
     }
+
+    /**
+     * Passes the documents of the stream to the consumer one by one, as they are parsed.
+     *
+     * @return number of documents in the stream
+     */
+    int streamMultiDocumentYaml(InputStream yamlStream, YamlDocumentConsumer consumer)
+            throws YamlProcessingException {
+        int index = 0;
+        try (YamlDocumentStream documents = YamlParser.getInstance().streamAll(yamlStream)) {
+            while (documents.hasNext()) {
+                consumer.accept(index, documentFactory.createYamlDocument(documents.next()));
+                index++;
+            }
+        }
+        return index;
+    }
+
+    @FunctionalInterface
+    interface YamlDocumentConsumer {
+        void accept(int index, YamlDocument document) throws YamlProcessingException;
+    }
 }
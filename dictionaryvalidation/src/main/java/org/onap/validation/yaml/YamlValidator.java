@@ -20,20 +20,40 @@ package org.onap.validation.yaml;
 import org.onap.validation.yaml.error.SchemaValidationError;
 import org.onap.validation.yaml.exception.YamlProcessingException;
 import org.onap.validation.yaml.model.YamlDocument;
+import org.onap.validation.yaml.process.PreResolvedYamlValidationProcess;
 import org.onap.validation.yaml.process.YamlValidationProcess;
 import org.onap.validation.yaml.schema.YamlSchema;
+import org.onap.validation.yaml.schema.YamlSchemaCache;
 
 import java.util.List;
 
 public class YamlValidator {
 
+    public static final String PRE_RESOLVED_VALIDATION_PROPERTY = "onap.validation.yaml.preResolvedValidation";
+
     private final YamlSchema schema;
+    private final PreResolvedYamlValidationProcess preResolvedProcess;
 
     YamlValidator(YamlSchema schema) {
+        this(schema, Boolean.getBoolean(PRE_RESOLVED_VALIDATION_PROPERTY));
+    }
+
+    /**
+     * @param preResolvedValidation whether documents are validated by {@link PreResolvedYamlValidationProcess},
+     *                              taken from {@link YamlSchemaCache} so it is built once per schema; a schema
+     *                              which cannot be turned into one is interpreted by {@link YamlValidationProcess}
+     */
+    YamlValidator(YamlSchema schema, boolean preResolvedValidation) {
         this.schema = schema;
+        this.preResolvedProcess = preResolvedValidation
+            ? YamlSchemaCache.getInstance().getPreResolvedProcess(schema).orElse(null)
+            : null;
     }
 
     public List<SchemaValidationError> validate(YamlDocument document) throws YamlProcessingException {
+        if (preResolvedProcess != null) {
+            return preResolvedProcess.validate(document);
+        }
         return new YamlValidationProcess(schema,document).validate();
     }
 
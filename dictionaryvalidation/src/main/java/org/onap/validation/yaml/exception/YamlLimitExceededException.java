@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.validation.yaml.exception;
+
+import org.yaml.snakeyaml.error.YAMLException;
+
+/**
+ * Thrown when a YAML input goes beyond one of the limits of {@link org.onap.validation.yaml.parser.YamlParserLimits}.
+ * It is a {@link YAMLException}, so it is handled the same way as any other malformed YAML.
+ */
+public class YamlLimitExceededException extends YAMLException {
+
+    public YamlLimitExceededException(String message) {
+        super(message);
+    }
+
+    public YamlLimitExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -17,40 +17,150 @@
 
 package org.onap.validation.yaml.model;
 
+import org.onap.validation.yaml.util.YamlDigest;
+
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+/**
+ * View of a YAML mapping loaded by the parser. Values are read from the loaded mapping itself,
+ * keys are compared as strings. A copy of the mapping with stringified keys is made at most once,
+ * and only when the mapping has keys which are not strings or when the whole mapping is requested.
+ */
 public class YamlDocument {
 
-    private final Map<String, Object> yaml;
+    private static final YamlDocumentFactory DOCUMENT_FACTORY = new YamlDocumentFactory();
+    private static final YamlParameterListFactory PARAMETER_LIST_FACTORY = new YamlParameterListFactory();
+
+    private final Map<?, ?> source;
+    private volatile Map<String, Object> yaml;
 
-    YamlDocument(Map<String, Object> yaml) {
-        this.yaml = yaml;
+    YamlDocument(Map<?, ?> source) {
+        this.source = source;
     }
 
     public Map<String, Object> getYaml() {
-        return yaml;
+        Map<String, Object> stringKeyedYaml = yaml;
+        if (stringKeyedYaml == null) {
+            stringKeyedYaml = transformMap(source);
+            yaml = stringKeyedYaml;
+        }
+        return stringKeyedYaml;
+    }
+
+    /**
+     * Returns a SHA-256 of the document content as it was loaded, without copying the mapping.
+     */
+    public String getDigest() {
+        return YamlDigest.of(source);
     }
 
     public boolean containsKey(String key) {
-        return yaml.containsKey(key);
+        return source.containsKey(key) || lookup(key).containsKey(key);
     }
 
     public String getValue(String key) {
-        return yaml.get(key).toString();
+        return get(key).toString();
     }
 
     public YamlParametersList getListOfValues(String key) {
-        return new YamlParameterListFactory().createYamlParameterList(
-            yaml.get(key)
+        return PARAMETER_LIST_FACTORY.createYamlParameterList(
+            get(key)
         );
     }
 
+    /**
+     * Checks whether the value of the key, or each element of it when it is a list, is one of the given values.
+     * Values are compared as strings, the same way as in {@link #getListOfValues(String)}, but without copying them.
+     *
+     * @throws YamlDocumentFactory.YamlDocumentParsingException when the key has no value to compare
+     */
+    public boolean hasValuesIn(String key, Set<String> values) throws YamlDocumentFactory.YamlDocumentParsingException {
+        final Object value = get(key);
+        if (value == null) {
+            throw createMissingValueException(key);
+        }
+        return areValuesIn(value, values);
+    }
+
+    /**
+     * Checks whether the value, or each element of it when it is a list, is one of the given values,
+     * the same way as {@link #hasValuesIn(String, Set)} does for the value of a key.
+     * A null element of a list is not one of the given values.
+     */
+    public static boolean areValuesIn(Object value, Set<String> values) {
+        if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            for (int index = 0; index < list.size(); index++) {
+                final Object element = list.get(index);
+                if (element == null || !values.contains(element.toString())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return values.contains(value.toString());
+    }
+
+    /**
+     * Creates the exception reported for a key which has no value to compare with accepted values.
+     */
+    public static YamlDocumentFactory.YamlDocumentParsingException createMissingValueException(String key) {
+        return new YamlDocumentFactory.YamlDocumentParsingException(String.format("Value not found: %s", key));
+    }
+
+    /**
+     * Returns the value of the key, or null when the document does not contain the key or its value is null.
+     * A key the loaded mapping contains is looked up only once.
+     */
+    public Object find(String key) {
+        if (yaml == null) {
+            final Object value = source.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return get(key);
+    }
+
     public YamlDocument getSubStructure(String name)
         throws YamlDocumentFactory.YamlDocumentParsingException {
-        return new YamlDocumentFactory().createYamlDocument(
-            yaml.get(name)
+        return DOCUMENT_FACTORY.createYamlDocument(
+            get(name)
         );
     }
-}
 
+    private Object get(String key) {
+        return lookup(key).get(key);
+    }
+
+    /**
+     * Keys are looked up in the loaded mapping first. The mapping with stringified keys is needed only when
+     * a key is missing there and the loaded mapping has keys of other types, e.g. numbers.
+     */
+    private Map<?, ?> lookup(String key) {
+        if (yaml != null || source.containsKey(key) || hasOnlyStringKeys(source)) {
+            return yaml != null ? yaml : source;
+        }
+        return getYaml();
+    }
+
+    private static boolean hasOnlyStringKeys(Map<?, ?> map) {
+        for (Object key : map.keySet()) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
+    private static Map<String, Object> transformMap(Map<?, ?> yaml) {
+        Map<String, Object> parsedYaml = new HashMap<>();
+        for (Map.Entry<?, ?> entry: yaml.entrySet()) {
+            parsedYaml.put(entry.getKey().toString(), entry.getValue());
+        }
+        return parsedYaml;
+    }
+}
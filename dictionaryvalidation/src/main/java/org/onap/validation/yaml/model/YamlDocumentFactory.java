@@ -19,31 +19,24 @@ package org.onap.validation.yaml.model;
 
 import org.onap.validation.yaml.exception.YamlProcessingException;
 
-import java.util.HashMap;
 import java.util.Map;
 
 public class YamlDocumentFactory {
 
     public YamlDocument createYamlDocument(Object yaml) throws YamlDocumentParsingException {
-        try {
-            Map<String, Object> parsedYaml = transformMap((Map) yaml);
-            return new YamlDocument(parsedYaml);
-        } catch (ClassCastException e) {
-            throw new YamlDocumentParsingException(
-                String.format("Fail to parse given objects: %s as yaml document.", yaml), e
-            );
+        if (yaml instanceof Map) {
+            return new YamlDocument((Map<?, ?>) yaml);
         }
+        throw new YamlDocumentParsingException(
+            String.format("Fail to parse given objects: %s as yaml document.", yaml)
+        );
     }
 
-    private Map<String, Object> transformMap(Map<Object, Object> yaml) {
-        Map<String, Object> parsedYaml = new HashMap<>();
-        for (Map.Entry<Object, Object> entry: yaml.entrySet()) {
-            parsedYaml.put(entry.getKey().toString(), entry.getValue());
+    public static class YamlDocumentParsingException extends YamlProcessingException {
+        YamlDocumentParsingException(String message) {
+            super(message);
         }
-        return parsedYaml;
-    }
 
-    public static class YamlDocumentParsingException extends YamlProcessingException {
         YamlDocumentParsingException(String message, Throwable throwable) {
             super(message, throwable);
         }
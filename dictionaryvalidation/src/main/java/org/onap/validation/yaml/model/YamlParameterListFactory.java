@@ -28,15 +28,25 @@ public class YamlParameterListFactory {
     }
 
     public YamlParametersList createYamlParameterList(Object yaml) {
-        List<String> parametersList = new ArrayList<>();
-        if( yaml instanceof List) {
-            for (Object element : (List) yaml) {
-                parametersList.add(element.toString());
+        if (yaml instanceof List) {
+            return new YamlParametersList(toStrings((List<?>) yaml));
+        }
+        return new YamlParametersList(Collections.singletonList(yaml.toString()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> toStrings(List<?> yaml) {
+        for (Object element : yaml) {
+            if (!(element instanceof String)) {
+                List<String> parametersList = new ArrayList<>(yaml.size());
+                for (Object value : yaml) {
+                    parametersList.add(value.toString());
+                }
+                return parametersList;
             }
-        } else {
-            parametersList.add(yaml.toString());
         }
-        return new YamlParametersList(parametersList);
+        // a list of strings is used as it is, without copying
+        return Collections.unmodifiableList((List<String>) yaml);
     }
 
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.validation.yaml.parser;
+
+import org.onap.validation.yaml.exception.YamlLimitExceededException;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.composer.Composer;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * Composer which fails on collections nested deeper than allowed.
+ * The alias limit enforced by SnakeYAML itself is reported as a {@link YamlLimitExceededException} as well.
+ */
+class DepthLimitingComposer extends Composer {
+
+    private static final String ALIAS_LIMIT_MESSAGE = "Number of aliases for non-scalar nodes exceeds";
+
+    private final int maxDepth;
+    private int depth;
+
+    DepthLimitingComposer(Parser parser, Resolver resolver, LoaderOptions loaderOptions, int maxDepth) {
+        super(parser, resolver, loaderOptions);
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public Node getNode() {
+        try {
+            return super.getNode();
+        } catch (YAMLException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public Node getSingleNode() {
+        try {
+            return super.getSingleNode();
+        } catch (YAMLException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    protected Node composeSequenceNode(String anchor) {
+        enter();
+        try {
+            return super.composeSequenceNode(anchor);
+        } finally {
+            depth--;
+        }
+    }
+
+    @Override
+    protected Node composeMappingNode(String anchor) {
+        enter();
+        try {
+            return super.composeMappingNode(anchor);
+        } finally {
+            depth--;
+        }
+    }
+
+    private static YAMLException translate(YAMLException e) {
+        if (!(e instanceof YamlLimitExceededException)
+                && e.getMessage() != null && e.getMessage().startsWith(ALIAS_LIMIT_MESSAGE)) {
+            return new YamlLimitExceededException(e.getMessage(), e);
+        }
+        return e;
+    }
+
+    private void enter() {
+        if (++depth > maxDepth) {
+            throw new YamlLimitExceededException("YAML collections are nested deeper than the allowed " + maxDepth);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.validation.yaml.parser;
+
+import org.onap.validation.yaml.exception.YamlLimitExceededException;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reader which fails as soon as more characters than allowed are read from the wrapped reader.
+ */
+class LimitedReader extends FilterReader {
+
+    private final long maxCharacters;
+    private long charactersRead;
+    private long limitStart;
+
+    LimitedReader(Reader reader, long maxCharacters) {
+        super(reader);
+        this.maxCharacters = maxCharacters;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int character = super.read();
+        if (character != -1) {
+            count(1);
+        }
+        return character;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        final int read = super.read(buffer, offset, length);
+        if (read > 0) {
+            count(read);
+        }
+        return read;
+    }
+
+    long getCharactersRead() {
+        return charactersRead;
+    }
+
+    /**
+     * Applies the limit again to the characters read from now on.
+     * Characters already buffered by the parser are counted as read before the restart.
+     */
+    void restartLimit() {
+        limitStart = charactersRead;
+    }
+
+    private void count(int read) {
+        charactersRead += read;
+        if (charactersRead - limitStart > maxCharacters) {
+            throw new YamlLimitExceededException(
+                    "YAML input is longer than the allowed " + maxCharacters + " characters");
+        }
+    }
+}
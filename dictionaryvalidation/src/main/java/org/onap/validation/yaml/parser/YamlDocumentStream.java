@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.validation.yaml.parser;
+
+import org.onap.validation.yaml.exception.YamlLimitExceededException;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Documents of a multi-document YAML input, each one composed only when it is requested.
+ * Documents already returned are not referenced by the stream, so a caller which handles and drops them
+ * one by one needs memory for a single document only. The character limit applies to every document
+ * separately, the other {@link YamlParserLimits} to the whole input.
+ */
+public final class YamlDocumentStream implements Iterator<Object>, AutoCloseable {
+
+    private final LimitedReader reader;
+    private final SafeConstructor constructor;
+    private final YamlParserMetrics metrics;
+    private final long start = System.nanoTime();
+
+    private RuntimeException failure;
+
+    YamlDocumentStream(LimitedReader reader, LoaderOptions loaderOptions, YamlParserLimits limits,
+                       YamlParserMetrics metrics) {
+        this.reader = reader;
+        this.metrics = metrics;
+        this.constructor = new SafeConstructor(loaderOptions);
+        this.constructor.setComposer(new DepthLimitingComposer(
+                new ParserImpl(new StreamReader(reader)), new Resolver(), loaderOptions, limits.getMaxDepth()));
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return constructor.checkData();
+        } catch (RuntimeException e) {
+            throw fail(e);
+        }
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            final Object document = constructor.getData();
+            reader.restartLimit();
+            return document;
+        } catch (RuntimeException e) {
+            throw fail(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        final long nanos = System.nanoTime() - start;
+        if (failure instanceof YamlLimitExceededException) {
+            metrics.recordRejected(reader.getCharactersRead(), nanos);
+        } else if (failure != null) {
+            metrics.recordFailed(reader.getCharactersRead(), nanos);
+        } else {
+            metrics.recordParsed(reader.getCharactersRead(), nanos);
+        }
+    }
+
+    private RuntimeException fail(RuntimeException e) {
+        if (failure == null) {
+            failure = e;
+        }
+        return e;
+    }
+}
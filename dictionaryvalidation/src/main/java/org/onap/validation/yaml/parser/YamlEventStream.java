@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.validation.yaml.parser;
+
+import org.onap.validation.yaml.exception.YamlLimitExceededException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Lazily parsed events of a YAML input, checked against the {@link YamlParserLimits} as they are read.
+ * Only aliases to collections count against {@link YamlParserLimits#getMaxAliases()}, the same way
+ * SnakeYAML counts them while loading documents, so aliases to scalars are not limited.
+ */
+public final class YamlEventStream implements Iterator<Event>, AutoCloseable {
+
+    private final LimitedReader reader;
+    private final Parser parser;
+    private final YamlParserLimits limits;
+    private final YamlParserMetrics metrics;
+    private final long start = System.nanoTime();
+    private final Set<String> collectionAnchors = new HashSet<>();
+
+    private int depth;
+    private int aliases;
+    private RuntimeException failure;
+
+    YamlEventStream(LimitedReader reader, YamlParserLimits limits, YamlParserMetrics metrics) {
+        this.reader = reader;
+        this.parser = new ParserImpl(new StreamReader(reader));
+        this.limits = limits;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return parser.peekEvent() != null;
+        } catch (RuntimeException e) {
+            throw fail(e);
+        }
+    }
+
+    @Override
+    public Event next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return check(parser.getEvent());
+        } catch (RuntimeException e) {
+            throw fail(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        final long nanos = System.nanoTime() - start;
+        if (failure instanceof YamlLimitExceededException) {
+            metrics.recordRejected(reader.getCharactersRead(), nanos);
+        } else if (failure != null) {
+            metrics.recordFailed(reader.getCharactersRead(), nanos);
+        } else {
+            metrics.recordParsed(reader.getCharactersRead(), nanos);
+        }
+    }
+
+    private Event check(Event event) {
+        if (event.is(Event.ID.MappingStart) || event.is(Event.ID.SequenceStart)) {
+            if (++depth > limits.getMaxDepth()) {
+                throw new YamlLimitExceededException(
+                        "YAML collections are nested deeper than the allowed " + limits.getMaxDepth());
+            }
+            recordAnchor((NodeEvent) event, true);
+        } else if (event.is(Event.ID.MappingEnd) || event.is(Event.ID.SequenceEnd)) {
+            depth--;
+        } else if (event.is(Event.ID.Scalar)) {
+            recordAnchor((NodeEvent) event, false);
+        } else if (event.is(Event.ID.Alias) && collectionAnchors.contains(((AliasEvent) event).getAnchor())
+                && ++aliases > limits.getMaxAliases()) {
+            throw new YamlLimitExceededException(
+                    "YAML input has more than the allowed " + limits.getMaxAliases() + " aliases");
+        }
+        return event;
+    }
+
+    private void recordAnchor(NodeEvent event, boolean collection) {
+        final String anchor = event.getAnchor();
+        if (anchor == null) {
+            return;
+        }
+        if (collection) {
+            collectionAnchors.add(anchor);
+        } else {
+            collectionAnchors.remove(anchor);
+        }
+    }
+
+    private RuntimeException fail(RuntimeException e) {
+        if (failure == null) {
+            failure = e;
+        }
+        return e;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.validation.yaml.parser;
+
+import org.onap.validation.yaml.exception.YamlLimitExceededException;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.reader.UnicodeReader;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single entry point for parsing YAML.
+ * <p>
+ * Every thread gets its own preconfigured loader, created on first use and reused afterwards.
+ * All inputs are parsed with the same safe configuration and within the same {@link YamlParserLimits},
+ * and every parse is recorded in the shared {@link YamlParserMetrics}.
+ */
+public final class YamlParser {
+
+    private static final YamlParser INSTANCE = new YamlParser(YamlParserLimits.fromSystemProperties());
+
+    private final YamlParserLimits limits;
+    private final LoaderOptions loaderOptions;
+    private final YamlParserMetrics metrics = new YamlParserMetrics();
+    private final ThreadLocal<Loader> loaders;
+
+    public YamlParser(YamlParserLimits limits) {
+        this.limits = limits;
+        this.loaderOptions = new LoaderOptions();
+        this.loaderOptions.setMaxAliasesForCollections(limits.getMaxAliases());
+        this.loaders = ThreadLocal.withInitial(() -> new Loader(loaderOptions));
+    }
+
+    public static YamlParser getInstance() {
+        return INSTANCE;
+    }
+
+    public YamlParserLimits getLimits() {
+        return limits;
+    }
+
+    public YamlParserMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Loads the only document of the stream, detecting its encoding from the BOM.
+     */
+    public Object load(InputStream inputStream) {
+        return load(new UnicodeReader(inputStream));
+    }
+
+    public Object load(String yaml) {
+        return load(new StringReader(yaml));
+    }
+
+    public Object load(Reader reader) {
+        return parse(reader, loader -> loader.constructor.getSingleData(Object.class));
+    }
+
+    /**
+     * Loads all documents of the stream, detecting its encoding from the BOM.
+     */
+    public List<Object> loadAll(InputStream inputStream) {
+        return loadAll(new UnicodeReader(inputStream));
+    }
+
+    public List<Object> loadAll(Reader reader) {
+        return parse(reader, loader -> {
+            final List<Object> documents = new ArrayList<>();
+            while (loader.constructor.checkData()) {
+                documents.add(loader.constructor.getData());
+            }
+            return documents;
+        });
+    }
+
+    /**
+     * Opens a stream of the documents of the input, detecting its encoding from the BOM.
+     * Documents are composed one at a time as the stream is iterated.
+     * The stream has to be closed for the parse to be recorded in the metrics.
+     */
+    public YamlDocumentStream streamAll(InputStream inputStream) {
+        return streamAll(new UnicodeReader(inputStream));
+    }
+
+    public YamlDocumentStream streamAll(Reader reader) {
+        return new YamlDocumentStream(
+                new LimitedReader(reader, limits.getMaxCharacters()), loaderOptions, limits, metrics);
+    }
+
+    /**
+     * Opens a stream of parsing events, without composing them into nodes.
+     * The stream has to be closed for the parse to be recorded in the metrics.
+     */
+    public YamlEventStream parseEvents(InputStream inputStream) {
+        return parseEvents(new UnicodeReader(inputStream));
+    }
+
+    public YamlEventStream parseEvents(Reader reader) {
+        return new YamlEventStream(new LimitedReader(reader, limits.getMaxCharacters()), limits, metrics);
+    }
+
+    private <T> T parse(Reader reader, Parse<T> parse) {
+        final long start = System.nanoTime();
+        final LimitedReader limitedReader = new LimitedReader(reader, limits.getMaxCharacters());
+        final Loader loader = loaders.get();
+        try {
+            loader.constructor.setComposer(new DepthLimitingComposer(
+                    new ParserImpl(new StreamReader(limitedReader)), loader.resolver, loaderOptions, limits.getMaxDepth()));
+            final T result = parse.apply(loader);
+            metrics.recordParsed(limitedReader.getCharactersRead(), System.nanoTime() - start);
+            return result;
+        } catch (YamlLimitExceededException e) {
+            loaders.remove();
+            metrics.recordRejected(limitedReader.getCharactersRead(), System.nanoTime() - start);
+            throw e;
+        } catch (RuntimeException e) {
+            loaders.remove();
+            metrics.recordFailed(limitedReader.getCharactersRead(), System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Parse<T> {
+        T apply(Loader loader);
+    }
+
+    private static final class Loader {
+        private final Resolver resolver = new Resolver();
+        private final SafeConstructor constructor;
+
+        private Loader(LoaderOptions loaderOptions) {
+            this.constructor = new SafeConstructor(loaderOptions);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.validation.yaml.parser;
+
+/**
+ * Limits enforced on every YAML input handled by {@link YamlParser}.
+ * Defaults can be overridden with the system properties named by the constants of this class.
+ * The number of characters is not limited by default, because definition YAMLs and PM dictionaries
+ * of tens of megabytes are legitimate inputs; set {@link #MAX_CHARACTERS_PROPERTY} to bound it.
+ */
+public final class YamlParserLimits {
+
+    public static final String MAX_ALIASES_PROPERTY = "onap.validation.yaml.maxAliases";
+    public static final String MAX_DEPTH_PROPERTY = "onap.validation.yaml.maxDepth";
+    public static final String MAX_CHARACTERS_PROPERTY = "onap.validation.yaml.maxCharacters";
+
+    public static final int DEFAULT_MAX_ALIASES = 50;
+    public static final int DEFAULT_MAX_DEPTH = 100;
+    public static final long DEFAULT_MAX_CHARACTERS = Long.MAX_VALUE;
+
+    private final int maxAliases;
+    private final int maxDepth;
+    private final long maxCharacters;
+
+    public YamlParserLimits(int maxAliases, int maxDepth, long maxCharacters) {
+        this.maxAliases = maxAliases;
+        this.maxDepth = maxDepth;
+        this.maxCharacters = maxCharacters;
+    }
+
+    public static YamlParserLimits fromSystemProperties() {
+        return new YamlParserLimits(
+                Integer.getInteger(MAX_ALIASES_PROPERTY, DEFAULT_MAX_ALIASES),
+                Integer.getInteger(MAX_DEPTH_PROPERTY, DEFAULT_MAX_DEPTH),
+                Long.getLong(MAX_CHARACTERS_PROPERTY, DEFAULT_MAX_CHARACTERS));
+    }
+
+    /**
+     * Maximal number of aliases to collections in one input, the same way SnakeYAML counts them.
+     * Aliases to scalars are not limited.
+     */
+    public int getMaxAliases() {
+        return maxAliases;
+    }
+
+    /**
+     * Maximal nesting depth of collections.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Maximal number of characters read from one input, unbounded by default.
+     */
+    public long getMaxCharacters() {
+        return maxCharacters;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.validation.yaml.parser;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the inputs handled by {@link YamlParser}, safe to update from many threads.
+ */
+public final class YamlParserMetrics {
+
+    private final LongAdder parsed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder characters = new LongAdder();
+    private final LongAdder parseTimeNanos = new LongAdder();
+
+    void recordParsed(long readCharacters, long nanos) {
+        parsed.increment();
+        record(readCharacters, nanos);
+    }
+
+    void recordFailed(long readCharacters, long nanos) {
+        failed.increment();
+        record(readCharacters, nanos);
+    }
+
+    void recordRejected(long readCharacters, long nanos) {
+        rejected.increment();
+        record(readCharacters, nanos);
+    }
+
+    private void record(long readCharacters, long nanos) {
+        characters.add(readCharacters);
+        parseTimeNanos.add(nanos);
+    }
+
+    /**
+     * Number of inputs parsed successfully.
+     */
+    public long getParsedCount() {
+        return parsed.sum();
+    }
+
+    /**
+     * Number of inputs which were not valid YAML.
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Number of inputs rejected because they went beyond a limit.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getCharactersRead() {
+        return characters.sum();
+    }
+
+    public long getParseTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(parseTimeNanos.sum());
+    }
+
+    @Override
+    public String toString() {
+        return "YamlParserMetrics{"
+                + "parsed=" + getParsedCount()
+                + ", failed=" + getFailedCount()
+                + ", rejected=" + getRejectedCount()
+                + ", charactersRead=" + getCharactersRead()
+                + ", parseTimeMillis=" + getParseTimeMillis()
+                + '}';
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.validation.yaml.process;
+
+import org.onap.validation.yaml.error.SchemaValidationError;
+import org.onap.validation.yaml.exception.YamlProcessingException;
+import org.onap.validation.yaml.model.YamlDocument;
+import org.onap.validation.yaml.model.YamlDocumentFactory;
+import org.onap.validation.yaml.schema.YamlSchema;
+import org.onap.validation.yaml.schema.node.YamlSchemaNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Validation of documents against a pre-resolved check tree of a schema, one check object per schema node,
+ * specialised for the kind of the node. No code is generated: the checks are plain objects, called through
+ * a virtual call which is polymorphic across the kinds of checks. What makes it faster than
+ * {@link YamlValidationProcess} is that whether a node is required, whether it limits accepted values and
+ * its error messages are resolved once, when the tree is built, and that optional nodes accepting any value
+ * are left out. Validating a document then only checks its keys and values, walking the tree directly,
+ * without a queue of validation steps, and looking every key of the document up once.
+ * <p>
+ * Errors are the same and in the same order as the ones of {@link YamlValidationProcess}, which validates
+ * documents level by level: every check is ranked by the position of its node in a level by level walk
+ * of the schema. No tree is built for a schema with a branch which cannot be loaded.
+ */
+public final class PreResolvedYamlValidationProcess {
+
+    private static final YamlDocumentFactory DOCUMENT_FACTORY = new YamlDocumentFactory();
+
+    private final Check[] rootChecks;
+
+    private PreResolvedYamlValidationProcess(Check[] rootChecks) {
+        this.rootChecks = rootChecks;
+    }
+
+    /**
+     * Builds the check tree of the schema, or returns empty when one of its branches cannot be loaded.
+     * {@link org.onap.validation.yaml.schema.YamlSchemaCache#getPreResolvedProcess(YamlSchema)} keeps the result
+     * with the schema, so it is built once per schema.
+     */
+    public static Optional<PreResolvedYamlValidationProcess> build(YamlSchema schema) {
+        try {
+            final Map<YamlSchemaNode, Integer> ranks = rankLevelByLevel(schema.getRootNodes());
+            return Optional.of(new PreResolvedYamlValidationProcess(resolve(schema.getRootNodes(), ranks)));
+        } catch (YamlProcessingException e) {
+            return Optional.empty();
+        }
+    }
+
+    public List<SchemaValidationError> validate(YamlDocument document) throws YamlProcessingException {
+        final ValidationErrors errors = new ValidationErrors();
+        validate(rootChecks, document, errors);
+        return errors.toList();
+    }
+
+    private static void validate(Check[] checks, YamlDocument document, ValidationErrors errors)
+        throws YamlProcessingException {
+        for (Check check : checks) {
+            check.validate(document, errors);
+        }
+    }
+
+    private static Map<YamlSchemaNode, Integer> rankLevelByLevel(List<YamlSchemaNode> rootNodes)
+        throws YamlProcessingException {
+        final Map<YamlSchemaNode, Integer> ranks = new IdentityHashMap<>();
+        final Queue<YamlSchemaNode> nodes = new ArrayDeque<>(rootNodes);
+        while (!nodes.isEmpty()) {
+            final YamlSchemaNode node = nodes.poll();
+            ranks.put(node, ranks.size());
+            if (node.isContainingSubStructure()) {
+                nodes.addAll(node.getNextNodes());
+            }
+        }
+        return ranks;
+    }
+
+    private static Check[] resolve(List<YamlSchemaNode> nodes, Map<YamlSchemaNode, Integer> ranks)
+        throws YamlProcessingException {
+        final List<Check> checks = new ArrayList<>();
+        for (YamlSchemaNode node : nodes) {
+            final int rank = ranks.get(node);
+            if (node.isContainingSubStructure()) {
+                checks.add(new BranchCheck(node, rank, resolve(node.getNextNodes(), ranks)));
+            } else if (!node.getAcceptedValues().isEmpty()) {
+                checks.add(new AcceptedValuesCheck(node, rank));
+            } else if (node.isRequired()) {
+                checks.add(new RequiredKeyCheck(node, rank));
+            }
+        }
+        return checks.toArray(new Check[0]);
+    }
+
+    private abstract static class Check {
+        final String name;
+        final int rank;
+        final boolean required;
+        final SchemaValidationError keyNotFoundError;
+
+        Check(YamlSchemaNode node, int rank) {
+            this.name = node.getName();
+            this.rank = rank;
+            this.required = node.isRequired();
+            this.keyNotFoundError = new SchemaValidationError(node.getPath(), String.format("Key not found: %s", name));
+        }
+
+        abstract void validate(YamlDocument document, ValidationErrors errors) throws YamlProcessingException;
+    }
+
+    private static final class RequiredKeyCheck extends Check {
+
+        RequiredKeyCheck(YamlSchemaNode node, int rank) {
+            super(node, rank);
+        }
+
+        @Override
+        void validate(YamlDocument document, ValidationErrors errors) {
+            if (!document.containsKey(name)) {
+                errors.add(rank, keyNotFoundError);
+            }
+        }
+    }
+
+    private static final class AcceptedValuesCheck extends Check {
+        private final String fullPath;
+        private final List<String> acceptedValues;
+        private final Set<String> acceptedValuesLookup;
+
+        AcceptedValuesCheck(YamlSchemaNode node, int rank) {
+            super(node, rank);
+            this.fullPath = node.getFullPath();
+            this.acceptedValues = node.getAcceptedValues();
+            this.acceptedValuesLookup = new HashSet<>(acceptedValues);
+        }
+
+        @Override
+        void validate(YamlDocument document, ValidationErrors errors) throws YamlProcessingException {
+            final Object value = document.find(name);
+            if (value != null) {
+                if (!YamlDocument.areValuesIn(value, acceptedValuesLookup)) {
+                    errors.add(rank, new SchemaValidationError(
+                        fullPath,
+                        String.format(
+                            "Value(s) is/are not in array of accepted values.%n value(s):  %s%n  accepted value(s):  %s",
+                            value, acceptedValues)
+                    ));
+                }
+            } else if (document.containsKey(name)) {
+                throw YamlDocument.createMissingValueException(name);
+            } else if (required) {
+                errors.add(rank, keyNotFoundError);
+            }
+        }
+    }
+
+    private static final class BranchCheck extends Check {
+        private final Check[] nextChecks;
+
+        BranchCheck(YamlSchemaNode node, int rank, Check[] nextChecks) {
+            super(node, rank);
+            this.nextChecks = nextChecks;
+        }
+
+        @Override
+        void validate(YamlDocument document, ValidationErrors errors) throws YamlProcessingException {
+            final Object value = document.find(name);
+            if (value != null) {
+                PreResolvedYamlValidationProcess.validate(nextChecks, DOCUMENT_FACTORY.createYamlDocument(value), errors);
+            } else if (document.containsKey(name)) {
+                PreResolvedYamlValidationProcess.validate(nextChecks, document.getSubStructure(name), errors);
+            } else if (required) {
+                errors.add(rank, keyNotFoundError);
+            }
+        }
+    }
+
+    /**
+     * Errors of a document, put in the order of the ranks of the checks reporting them when they are returned.
+     */
+    private static final class ValidationErrors {
+        private List<RankedError> errors = Collections.emptyList();
+        private boolean ordered = true;
+
+        void add(int rank, SchemaValidationError error) {
+            if (errors.isEmpty()) {
+                errors = new ArrayList<>();
+            } else if (errors.get(errors.size() - 1).rank > rank) {
+                ordered = false;
+            }
+            errors.add(new RankedError(rank, error));
+        }
+
+        List<SchemaValidationError> toList() {
+            if (!ordered) {
+                errors.sort(Comparator.comparingInt(error -> error.rank));
+            }
+            return errors.stream().map(error -> error.error).collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    private static final class RankedError {
+        private final int rank;
+        private final SchemaValidationError error;
+
+        private RankedError(int rank, SchemaValidationError error) {
+            this.rank = rank;
+            this.error = error;
+        }
+    }
+}
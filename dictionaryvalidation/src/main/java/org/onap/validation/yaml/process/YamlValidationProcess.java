@@ -23,8 +23,8 @@ import org.onap.validation.yaml.model.YamlDocument;
 import org.onap.validation.yaml.schema.YamlSchema;
 import org.onap.validation.yaml.schema.node.YamlSchemaNode;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
 
@@ -39,7 +39,7 @@ public class YamlValidationProcess {
         this.schema = schema;
         this.document = document;
         errors = new ArrayList<>();
-        validationSteps = new LinkedList<>();
+        validationSteps = new ArrayDeque<>();
     }
 
     public List<SchemaValidationError> validate() throws YamlProcessingException {
@@ -53,8 +53,9 @@ public class YamlValidationProcess {
 
     private void validateStep(YamlValidationStep validationNode)
         throws YamlProcessingException {
-        for (YamlSchemaNode schemaNode : validationNode.getSchemaNodes()) {
-            validateNode(validationNode.getDocument(), schemaNode);
+        List<YamlSchemaNode> schemaNodes = validationNode.getSchemaNodes();
+        for (int index = 0; index < schemaNodes.size(); index++) {
+            validateNode(validationNode.getDocument(), schemaNodes.get(index));
         }
     }
 
@@ -72,11 +73,9 @@ public class YamlValidationProcess {
         }
     }
 
-    private boolean isValueOfNodeInAcceptedValuesList(YamlDocument document, YamlSchemaNode node) {
-        return node.getAcceptedValues().isEmpty() ||
-            node.getAcceptedValues().containsAll(
-                document.getListOfValues(node.getName()).getParameters()
-            );
+    private boolean isValueOfNodeInAcceptedValuesList(YamlDocument document, YamlSchemaNode node)
+        throws YamlProcessingException {
+        return node.isAcceptingValueOf(document);
     }
 
     private void addNextLevelNodeToValidationNodesQueue(YamlDocument document, YamlSchemaNode node)
@@ -101,7 +100,7 @@ public class YamlValidationProcess {
     private void addIncorrectValueError(YamlDocument document, YamlSchemaNode node) {
         errors.add(
             new SchemaValidationError(
-                node.getPath() + node.getName(),
+                node.getFullPath(),
                 String.format(
                     "Value(s) is/are not in array of accepted values.%n value(s):  %s%n  accepted value(s):  %s",
                     document.getValue(node.getName()), node.getAcceptedValues())
@@ -20,8 +20,6 @@ package org.onap.validation.yaml.process;
 import org.onap.validation.yaml.model.YamlDocument;
 import org.onap.validation.yaml.schema.node.YamlSchemaNode;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 class YamlValidationStep {
@@ -29,13 +27,16 @@ class YamlValidationStep {
     private final List<YamlSchemaNode> schemaNodes;
     private final YamlDocument document;
 
+    /**
+     * @param nodes unmodifiable nodes of the schema, they are not copied
+     */
     YamlValidationStep(List<YamlSchemaNode> nodes, YamlDocument yaml) {
-        this.schemaNodes = new ArrayList<>(nodes);
+        this.schemaNodes = nodes;
         this.document = yaml;
     }
 
     List<YamlSchemaNode> getSchemaNodes() {
-        return Collections.unmodifiableList(schemaNodes);
+        return schemaNodes;
     }
 
     YamlDocument getDocument() {
@@ -17,21 +17,28 @@
 
 package org.onap.validation.yaml.schema;
 
+import org.onap.validation.yaml.process.PreResolvedYamlValidationProcess;
 import org.onap.validation.yaml.schema.node.YamlSchemaNode;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 public class YamlSchema {
 
     private final List<YamlSchemaNode> rootNodes;
+    /**
+     * Validation process of the schema, built by {@link YamlSchemaCache#getPreResolvedProcess(YamlSchema)}
+     * the first time it is needed.
+     */
+    volatile Optional<PreResolvedYamlValidationProcess> preResolvedProcess;
 
     public List<YamlSchemaNode> getRootNodes() {
-        return Collections.unmodifiableList(rootNodes);
+        return rootNodes;
     }
 
     YamlSchema(List<YamlSchemaNode> rootNodes) {
-        this.rootNodes = new ArrayList<>(rootNodes);
+        this.rootNodes = Collections.unmodifiableList(new ArrayList<>(rootNodes));
     }
 }
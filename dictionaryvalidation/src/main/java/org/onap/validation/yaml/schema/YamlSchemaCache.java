@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.validation.yaml.schema;
+
+import org.onap.validation.yaml.exception.YamlProcessingException;
+import org.onap.validation.yaml.model.YamlDocument;
+import org.onap.validation.yaml.process.PreResolvedYamlValidationProcess;
+import org.onap.validation.yaml.util.YamlDigest;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Process-wide cache of fully loaded schemas, so dictionaries sharing a schema document load it only once.
+ * Schemas are keyed by a SHA-256 of the schema document content, taken over its keys, values and their types
+ * in document order. The cache is bounded and evicts the least recently used schemas first.
+ * A schema which fails to load is not cached. The {@link PreResolvedYamlValidationProcess} of a schema is kept
+ * with the schema as well.
+ */
+public final class YamlSchemaCache {
+
+    public static final String MAX_SIZE_PROPERTY = "onap.validation.yaml.schemaCacheSize";
+    static final int DEFAULT_MAX_SIZE = 64;
+
+    private static final YamlSchemaCache INSTANCE =
+        new YamlSchemaCache(Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE), new YamlSchemaFactory());
+
+    private final Map<String, FutureTask<YamlSchema>> schemas;
+    private final YamlSchemaFactory schemaFactory;
+
+    YamlSchemaCache(int maxSize, YamlSchemaFactory schemaFactory) {
+        this.schemaFactory = schemaFactory;
+        this.schemas = Collections.synchronizedMap(new LinkedHashMap<String, FutureTask<YamlSchema>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, FutureTask<YamlSchema>> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public static YamlSchemaCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the fully loaded schema of the given schema document, loading it if it is not cached yet.
+     * Threads asking for the same schema at the same time wait for a single load.
+     */
+    public YamlSchema get(YamlDocument schemaDocument) throws YamlProcessingException {
+        final String key = digest(schemaDocument.getYaml());
+        final FutureTask<YamlSchema> loading =
+            new FutureTask<>(() -> schemaFactory.createFullyLoadedYamlSchema(schemaDocument));
+        final FutureTask<YamlSchema> cached = schemas.putIfAbsent(key, loading);
+        if (cached == null) {
+            loading.run();
+        }
+        final FutureTask<YamlSchema> schema = cached != null ? cached : loading;
+        try {
+            return schema.get();
+        } catch (ExecutionException e) {
+            schemas.remove(key, schema);
+            final Throwable cause = e.getCause();
+            if (cause instanceof YamlProcessingException) {
+                throw (YamlProcessingException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new YamlProcessingException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new YamlProcessingException(e);
+        }
+    }
+
+    /**
+     * Returns the validation process of the given schema, built once per schema and kept with it, so it is
+     * shared by every dictionary using a cached schema. Returns empty when the schema cannot be turned into one.
+     */
+    public Optional<PreResolvedYamlValidationProcess> getPreResolvedProcess(YamlSchema schema) {
+        Optional<PreResolvedYamlValidationProcess> preResolvedProcess = schema.preResolvedProcess;
+        if (preResolvedProcess == null) {
+            // building it twice on a race is harmless, both processes are equal
+            preResolvedProcess = PreResolvedYamlValidationProcess.build(schema);
+            schema.preResolvedProcess = preResolvedProcess;
+        }
+        return preResolvedProcess;
+    }
+
+    public int size() {
+        return schemas.size();
+    }
+
+    public void clear() {
+        schemas.clear();
+    }
+
+    static String digest(Object schemaDocument) {
+        return YamlDigest.of(schemaDocument);
+    }
+}
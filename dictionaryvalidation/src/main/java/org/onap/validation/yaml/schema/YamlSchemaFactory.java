@@ -24,7 +24,9 @@ import org.onap.validation.yaml.model.YamlDocumentFactory;
 import org.onap.validation.yaml.schema.node.YamlSchemaNode;
 import org.onap.validation.yaml.schema.node.YamlSchemaNodeFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
 public class YamlSchemaFactory {
@@ -38,6 +40,30 @@ public class YamlSchemaFactory {
         return new YamlSchema(getRootNodes(schema));
     }
 
+    /**
+     * Creates a schema with all branch nodes loaded up front, so validating a document only walks the tree
+     * and the schema can be shared by threads validating documents concurrently.
+     * A branch whose sub structure can not be loaded is left lazy and reports the error to the validation
+     * which reaches it, the same way as in a tree structured schema.
+     */
+    public YamlSchema createFullyLoadedYamlSchema(YamlDocument schema)
+        throws YamlProcessingException {
+
+        YamlSchema yamlSchema = createTreeStructuredYamlSchema(schema);
+        Deque<YamlSchemaNode> nodesToLoad = new ArrayDeque<>(yamlSchema.getRootNodes());
+        while (!nodesToLoad.isEmpty()) {
+            YamlSchemaNode node = nodesToLoad.pop();
+            if (node.isContainingSubStructure()) {
+                try {
+                    nodesToLoad.addAll(node.getNextNodes());
+                } catch (YamlProcessingException e) {
+                    // reported when a validated document reaches the node
+                }
+            }
+        }
+        return yamlSchema;
+    }
+
     private List<YamlSchemaNode> getRootNodes(YamlDocument yamlDocument)
         throws YamlProcessingException {
 
@@ -24,11 +24,13 @@ import org.onap.validation.yaml.model.YamlDocumentFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public class YamlSchemaBranchNode extends YamlSchemaNode {
 
     private final YamlDocument nextNodesInLazyForm;
-    private List<YamlSchemaNode> nextNodes = Collections.emptyList();
+    // Published once loaded, readers never take a lock. Loading twice concurrently builds equal lists.
+    private volatile List<YamlSchemaNode> nextNodes;
 
     YamlSchemaBranchNode(String name, String path, boolean required, String comment,
                          YamlDocument nextNodesInLazyForm) {
@@ -47,9 +49,20 @@ public class YamlSchemaBranchNode extends YamlSchemaNode {
     }
 
     @Override
-    public synchronized List<YamlSchemaNode> getNextNodes() throws YamlSchemaProcessingException {
+    public boolean isAcceptingValues(List<String> values) {
+        return true;
+    }
+
+    @Override
+    public boolean isAcceptingValueOf(YamlDocument document) {
+        return true;
+    }
+
+    @Override
+    public List<YamlSchemaNode> getNextNodes() throws YamlSchemaProcessingException {
+        final List<YamlSchemaNode> loadedNextNodes = nextNodes;
         try {
-            return nextNodes.isEmpty() ? this.loadNextNodes() : nextNodes;
+            return loadedNextNodes == null ? this.loadNextNodes() : loadedNextNodes;
         } catch (YamlSchemaLazyLoadingException lazyLoadingException) {
             throw new YamlSchemaProcessingException(lazyLoadingException);
         }
@@ -57,14 +70,17 @@ public class YamlSchemaBranchNode extends YamlSchemaNode {
 
     private List<YamlSchemaNode> loadNextNodes() {
         try {
+            YamlDocumentFactory documentFactory = new YamlDocumentFactory();
+            YamlSchemaNodeFactory nodeFactory = new YamlSchemaNodeFactory();
+            String nextNodesPath = getFullPath() + "/";
             List<YamlSchemaNode> loadedNextNodes = new ArrayList<>();
-            for (String key : nextNodesInLazyForm.getYaml().keySet()) {
-                YamlDocument substructure = new YamlDocumentFactory()
-                    .createYamlDocument(nextNodesInLazyForm.getYaml().get(key));
-                loadedNextNodes.add(new YamlSchemaNodeFactory().createNode(key, getPath() + getName() + "/", substructure));
+            for (Map.Entry<String, Object> entry : nextNodesInLazyForm.getYaml().entrySet()) {
+                YamlDocument substructure = documentFactory.createYamlDocument(entry.getValue());
+                loadedNextNodes.add(nodeFactory.createNode(entry.getKey(), nextNodesPath, substructure));
             }
-            nextNodes = loadedNextNodes;
-            return loadedNextNodes;
+            List<YamlSchemaNode> immutableNextNodes = Collections.unmodifiableList(loadedNextNodes);
+            nextNodes = immutableNextNodes;
+            return immutableNextNodes;
         } catch (YamlProcessingException e) {
             throw new YamlSchemaLazyLoadingException("Lazy loading failed, due to yaml parsing exception.",e);
         }
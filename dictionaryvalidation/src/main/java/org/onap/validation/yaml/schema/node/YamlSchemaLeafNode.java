@@ -17,24 +17,40 @@
 
 package org.onap.validation.yaml.schema.node;
 
+import org.onap.validation.yaml.exception.YamlProcessingException;
+import org.onap.validation.yaml.model.YamlDocument;
 import org.onap.validation.yaml.model.YamlParametersList;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class YamlSchemaLeafNode extends YamlSchemaNode {
 
-    private final YamlParametersList acceptedValues;
+    private final List<String> acceptedValues;
+    private final Set<String> acceptedValuesLookup;
 
     YamlSchemaLeafNode(String name, String path, boolean required, String comment,
                        YamlParametersList acceptedValues) {
         super(name, path, required, comment);
-        this.acceptedValues = acceptedValues;
+        this.acceptedValues = Collections.unmodifiableList(acceptedValues.getParameters());
+        this.acceptedValuesLookup = new HashSet<>(acceptedValues.getParameters());
     }
 
     @Override
     public List<String> getAcceptedValues() {
-        return acceptedValues.getParameters();
+        return acceptedValues;
+    }
+
+    @Override
+    public boolean isAcceptingValues(List<String> values) {
+        return acceptedValuesLookup.isEmpty() || acceptedValuesLookup.containsAll(values);
+    }
+
+    @Override
+    public boolean isAcceptingValueOf(YamlDocument document) throws YamlProcessingException {
+        return acceptedValuesLookup.isEmpty() || document.hasValuesIn(getName(), acceptedValuesLookup);
     }
 
     @Override
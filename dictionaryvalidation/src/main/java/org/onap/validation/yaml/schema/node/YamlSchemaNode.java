@@ -18,6 +18,7 @@
 package org.onap.validation.yaml.schema.node;
 
 import org.onap.validation.yaml.exception.YamlProcessingException;
+import org.onap.validation.yaml.model.YamlDocument;
 
 import java.util.List;
 
@@ -25,6 +26,7 @@ public abstract class YamlSchemaNode {
 
     private final String path;
     private final String name;
+    private final String fullPath;
     private final boolean required;
     private final String comment;
 
@@ -37,12 +39,32 @@ public abstract class YamlSchemaNode {
         return path;
     }
 
+    /**
+     * @return path of the node including its own name, computed once when the node is created
+     */
+    public String getFullPath() {
+        return fullPath;
+    }
+
     public boolean isRequired() {
         return required;
     }
 
     public abstract List<String> getAcceptedValues();
 
+    /**
+     * Checks whether all given values are accepted by this node. A node without accepted values accepts any value.
+     */
+    public abstract boolean isAcceptingValues(List<String> values);
+
+    /**
+     * Checks whether the value the document holds under the name of this node is accepted by this node.
+     *
+     * @throws YamlProcessingException when the node limits accepted values and the document has no value
+     *                                 under its name
+     */
+    public abstract boolean isAcceptingValueOf(YamlDocument document) throws YamlProcessingException;
+
     public abstract List<YamlSchemaNode> getNextNodes() throws YamlSchemaProcessingException;
 
     public abstract boolean isContainingSubStructure();
@@ -54,6 +76,7 @@ public abstract class YamlSchemaNode {
     YamlSchemaNode(String name, String path, boolean required, String comment) {
         this.name = name;
         this.path = path;
+        this.fullPath = path + name;
         this.required = required;
         this.comment = comment;
     }
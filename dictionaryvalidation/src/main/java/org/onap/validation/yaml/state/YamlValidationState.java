@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.validation.yaml.state;
+
+import org.onap.validation.yaml.error.SchemaValidationError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of validating the documents of one dictionary against one schema. Errors are kept per document
+ * digest, so they can be reused for a document with the same content, whatever its position in the file.
+ * Digests of the documents are kept in document order together with the digest of the whole content,
+ * so results of unchanged content can be reported without parsing it.
+ */
+public class YamlValidationState {
+
+    private final String schemaDigest;
+    private final List<String> documentDigests;
+    private final Map<String, List<SchemaValidationError>> documentErrors;
+    private String contentDigest;
+
+    public YamlValidationState(String schemaDigest) {
+        this.schemaDigest = schemaDigest;
+        this.documentDigests = new ArrayList<>();
+        this.documentErrors = new HashMap<>();
+    }
+
+    public String getSchemaDigest() {
+        return schemaDigest;
+    }
+
+    public String getContentDigest() {
+        return contentDigest;
+    }
+
+    public void setContentDigest(String contentDigest) {
+        this.contentDigest = contentDigest;
+    }
+
+    /**
+     * Returns digests of the documents, schema excluded, in document order.
+     */
+    public List<String> getDocumentDigests() {
+        return Collections.unmodifiableList(documentDigests);
+    }
+
+    /**
+     * Returns the errors of a document with the given digest, or null when such document was not validated.
+     */
+    public List<SchemaValidationError> getErrors(String documentDigest) {
+        return documentErrors.get(documentDigest);
+    }
+
+    /**
+     * Checks whether a state read back from storage has all of its parts.
+     */
+    boolean isComplete() {
+        return schemaDigest != null && contentDigest != null && documentDigests != null && documentErrors != null;
+    }
+
+    public void addDocument(String documentDigest, List<SchemaValidationError> errors) {
+        documentDigests.add(documentDigest);
+        documentErrors.put(documentDigest, errors.isEmpty() ? Collections.emptyList() : errors);
+    }
+}
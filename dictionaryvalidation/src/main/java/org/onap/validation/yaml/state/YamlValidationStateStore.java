@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.validation.yaml.state;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.onap.validation.yaml.exception.YamlProcessingException;
+import org.onap.validation.yaml.util.YamlDigest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the {@link YamlValidationState} of validated dictionaries, keyed by the dictionary, e.g. its path.
+ * States are kept in memory and, when a directory is given, stored there as JSON as well, so they outlive
+ * the process. The states kept in memory are bounded by {@link #MAX_SIZE_PROPERTY}, evicting the least recently
+ * used first. An evicted state is read again from the directory or, without a directory, the dictionary is
+ * validated in full again.
+ */
+public class YamlValidationStateStore {
+
+    public static final String MAX_SIZE_PROPERTY = "onap.validation.yaml.stateCacheSize";
+    static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static final String STATE_FILE_EXTENSION = ".json";
+
+    private final Map<String, YamlValidationState> states;
+    private final Path directory;
+    private final Gson gson = new Gson();
+
+    public YamlValidationStateStore() {
+        this(null);
+    }
+
+    public YamlValidationStateStore(Path directory) {
+        this(directory, Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE));
+    }
+
+    public YamlValidationStateStore(Path directory, int maxSize) {
+        this.directory = directory;
+        this.states = Collections.synchronizedMap(new LinkedHashMap<String, YamlValidationState>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, YamlValidationState> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * Returns the last stored state of the given dictionary, or null when there is none.
+     */
+    public YamlValidationState load(String key) {
+        final YamlValidationState state = states.get(key);
+        if (state == null && directory != null) {
+            return read(getStateFile(key));
+        }
+        return state;
+    }
+
+    public void save(String key, YamlValidationState state) throws YamlProcessingException {
+        states.put(key, state);
+        if (directory != null) {
+            write(getStateFile(key), state);
+        }
+    }
+
+    private YamlValidationState read(Path stateFile) {
+        if (!Files.isRegularFile(stateFile)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
+            final YamlValidationState state = gson.fromJson(reader, YamlValidationState.class);
+            return state != null && state.isComplete() ? state : null;
+        } catch (IOException | JsonParseException e) {
+            // a state which cannot be read is the same as no state, the dictionary is validated again
+            return null;
+        }
+    }
+
+    private void write(Path stateFile, YamlValidationState state) throws YamlProcessingException {
+        try {
+            Files.createDirectories(directory);
+            final Path temporaryFile = Files.createTempFile(directory, stateFile.getFileName().toString(), null);
+            try {
+                try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                    gson.toJson(state, writer);
+                }
+                Files.move(temporaryFile, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException e) {
+            throw new YamlProcessingException("Fail to store validation state under given path.", e);
+        }
+    }
+
+    private Path getStateFile(String key) {
+        return directory.resolve(YamlDigest.of(key) + STATE_FILE_EXTENSION);
+    }
+}
@@ -17,6 +17,7 @@
 package org.onap.validation.yaml.util;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class Args {
@@ -33,4 +34,8 @@ public class Args {
         }
         return this.data.get(index);
     }
+
+    public List<String> getArgs() {
+        return Collections.unmodifiableList(this.data);
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.validation.yaml.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SHA-256 of a loaded YAML node, taken over its keys, values and their types in iteration order.
+ * Every key, value and collection is tagged with its kind and length, so different trees do not
+ * produce the same input to the hash. The tree is written to a single buffer which is hashed at once.
+ */
+public final class YamlDigest {
+
+    private static final String SHA_256 = "SHA-256";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final ThreadLocal<MessageDigest> NODE_DIGEST = ThreadLocal.withInitial(YamlDigest::newMessageDigest);
+
+    private YamlDigest() {
+    }
+
+    public static String of(Object node) {
+        final DigestInput input = new DigestInput();
+        input.write(node);
+        final MessageDigest digest = NODE_DIGEST.get();
+        digest.update(input.bytes, 0, input.size);
+        return toHex(digest.digest());
+    }
+
+    public static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(SHA_256 + " is not supported", e);
+        }
+    }
+
+    public static String toHex(byte[] digest) {
+        final char[] hex = new char[digest.length * 2];
+        for (int index = 0; index < digest.length; index++) {
+            hex[index * 2] = HEX_DIGITS[(digest[index] >> 4) & 0xf];
+            hex[index * 2 + 1] = HEX_DIGITS[digest[index] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    private static final class DigestInput {
+        private byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+        private int size;
+
+        private void write(Object node) {
+            if (node instanceof Map) {
+                final Map<?, ?> map = (Map<?, ?>) node;
+                writeHeader('M', map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    write(entry.getKey());
+                    write(entry.getValue());
+                }
+            } else if (node instanceof List) {
+                final List<?> list = (List<?>) node;
+                writeHeader('L', list.size());
+                for (Object element : list) {
+                    write(element);
+                }
+            } else if (node == null) {
+                writeHeader('N', 0);
+            } else if (node instanceof String) {
+                writeText('S', (String) node);
+            } else if (node instanceof Integer) {
+                writeText('I', node.toString());
+            } else if (node instanceof Boolean) {
+                writeText('B', node.toString());
+            } else if (node instanceof Double) {
+                writeText('D', node.toString());
+            } else {
+                writeText('T', node.getClass().getName());
+                writeText('S', node.toString());
+            }
+        }
+
+        /**
+         * Characters are written the way UTF-8 writes them, each one on its own, which keeps text short
+         * without allocating an encoded copy of it.
+         */
+        private void writeText(char tag, String text) {
+            writeHeader(tag, text.length());
+            ensureCapacity(text.length() * 3);
+            for (int index = 0; index < text.length(); index++) {
+                final char character = text.charAt(index);
+                if (character < 0x80) {
+                    bytes[size++] = (byte) character;
+                } else if (character < 0x800) {
+                    bytes[size++] = (byte) (0xc0 | (character >> 6));
+                    bytes[size++] = (byte) (0x80 | (character & 0x3f));
+                } else {
+                    bytes[size++] = (byte) (0xe0 | (character >> 12));
+                    bytes[size++] = (byte) (0x80 | ((character >> 6) & 0x3f));
+                    bytes[size++] = (byte) (0x80 | (character & 0x3f));
+                }
+            }
+        }
+
+        private void writeHeader(char tag, int length) {
+            ensureCapacity(5);
+            bytes[size++] = (byte) tag;
+            bytes[size++] = (byte) (length >>> 24);
+            bytes[size++] = (byte) (length >>> 16);
+            bytes[size++] = (byte) (length >>> 8);
+            bytes[size++] = (byte) length;
+        }
+
+        private void ensureCapacity(int length) {
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+        }
+    }
+}
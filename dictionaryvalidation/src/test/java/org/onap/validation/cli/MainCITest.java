@@ -19,6 +19,7 @@ package org.onap.validation.cli;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -32,6 +33,7 @@ import org.onap.validation.cli.command.validate.ToResponseModelConverter;
 import org.onap.validation.yaml.YamlLoadingUtils;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 
@@ -128,6 +130,24 @@ class MainCITest {
         );
     }
 
+    @Test
+    void shouldValidateAllYamlFilesOfDirectoryInOneRun(@TempDir Path directory) throws IOException {
+        // given
+        final Path output = directory.resolve("results.ndjson");
+        for (String file : List.of(YamlLoadingUtils.PATH_TO_SIMPLE_VALID_SCHEMA, YamlLoadingUtils.PATH_TO_YAML_WITH_WRONG_VALUES)) {
+            final Path source = Path.of(YamlLoadingUtils.getUrlForGivenPath(file).getPath());
+            Files.copy(source, directory.resolve(source.getFileName()));
+        }
+
+        // when
+        final int statusCode = Main.run(new String[]{"--output=" + output, directory.toString()}, console, responseStorage);
+
+        // then
+        assertThat(statusCode).isEqualTo(Cli.FAILED_STATUS_CODE);
+        assertThat(Files.readAllLines(output)).hasSize(2);
+        verify(responseStorage).store(eq(directory.resolve("results-summary.json")), anyString());
+    }
+
     private void assertThatResponseWasLoggedAtConsole(String pathToFile, ResponseModel.ResponseStatus responseStatus, int expectedErrors) throws IOException {
         ArgumentCaptor<String> consoleInfoCaptor = ArgumentCaptor.forClass(String.class);
         verify(console, times(6)).info(consoleInfoCaptor.capture());
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.validation.cli.command.validate;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.validation.cli.core.CommandException;
+import org.onap.validation.cli.core.CommandResponse;
+import org.onap.validation.yaml.YamlContentValidator;
+import org.onap.validation.yaml.YamlLoadingUtils;
+import org.onap.validation.yaml.error.YamlDocumentValidationError;
+import org.onap.validation.yaml.exception.YamlProcessingException;
+import org.onap.validation.yaml.util.Args;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ValidateDictionaryYamlBatchCommandTest {
+
+    private final ValidateDictionaryYamlBatchCommand batchCommand = new ValidateDictionaryYamlBatchCommand(new ToJsonConverter());
+
+    @TempDir
+    Path directory;
+    private Path output;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        output = directory.resolve("results.ndjson");
+        copy(YamlLoadingUtils.PATH_TO_SIMPLE_VALID_SCHEMA, directory.resolve("valid.yaml"));
+        copy(YamlLoadingUtils.PATH_TO_YAML_WITH_WRONG_VALUES, directory.resolve("nested/invalid.yml"));
+        Files.writeString(directory.resolve("notes.txt"), "not a dictionary");
+    }
+
+    @Test
+    void shouldWriteOneLinePerFileFoundInDirectory() throws CommandException, IOException {
+        // given
+        Args args = new Args(List.of("--output=" + output, "--threads=2", directory.toString()));
+
+        // when
+        final CommandResponse<String> commandResponse = batchCommand.execute(args);
+
+        // then
+        assertThat(commandResponse.getCommandStatus()).isEqualTo(CommandResponse.CommandStatus.FAILED);
+        assertThat(readLines()).extracting(ResponseModel::getFile, ResponseModel::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(directory.resolve("valid.yaml").toString(), ResponseModel.ResponseStatus.PASS),
+                        tuple(directory.resolve("nested/invalid.yml").toString(), ResponseModel.ResponseStatus.FAILED));
+        final BatchSummaryModel summary = new Gson().fromJson(commandResponse.getResult(), BatchSummaryModel.class);
+        assertThat(summary.getFiles()).isEqualTo(2);
+        assertThat(summary.getPassed()).isEqualTo(1);
+        assertThat(summary.getFailed()).isEqualTo(1);
+        assertThat(summary.getOutput()).isEqualTo(output.toString());
+    }
+
+    @Test
+    void shouldValidateOnlyFilesMatchingGlob() throws CommandException, IOException {
+        // given
+        Args args = new Args(List.of("--output=" + output, directory + "/*.yaml"));
+
+        // when
+        final CommandResponse<String> commandResponse = batchCommand.execute(args);
+
+        // then
+        assertThat(commandResponse.getCommandStatus()).isEqualTo(CommandResponse.CommandStatus.PASS);
+        assertThat(readLines()).extracting(ResponseModel::getFile)
+                .containsExactly(directory.resolve("valid.yaml").toString());
+    }
+
+    @Test
+    void shouldReportFileWithInvalidStructureAndKeepValidatingOthers() throws CommandException, IOException {
+        // given
+        copy("Not_Yaml_File.txt", directory.resolve("broken.yaml"));
+        Args args = new Args(List.of("--output=" + output, directory.toString()));
+
+        // when
+        final CommandResponse<String> commandResponse = batchCommand.execute(args);
+
+        // then
+        assertThat(commandResponse.getCommandStatus()).isEqualTo(CommandResponse.CommandStatus.ERROR);
+        final List<ResponseModel> lines = readLines();
+        assertThat(lines).hasSize(3);
+        assertThat(lines).filteredOn(line -> line.getStatus() == ResponseModel.ResponseStatus.ERROR)
+                .singleElement()
+                .satisfies(line -> {
+                    assertThat(line.getFile()).isEqualTo(directory.resolve("broken.yaml").toString());
+                    assertThat(line.getMessage()).startsWith("Provided yaml file has invalid structure!");
+                });
+    }
+
+    @Test
+    void shouldReportTheSameResultsWhenRevalidatingWithStoredState() throws CommandException, IOException {
+        // given
+        final Path stateDirectory = directory.resolve("state");
+        Args args = new Args(List.of("--output=" + output, "--state=" + stateDirectory, directory.toString()));
+        batchCommand.execute(args);
+        final List<ResponseModel> firstRun = readLines();
+
+        // when
+        final CommandResponse<String> commandResponse = batchCommand.execute(args);
+
+        // then
+        assertThat(commandResponse.getCommandStatus()).isEqualTo(CommandResponse.CommandStatus.FAILED);
+        assertThat(readLines()).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(firstRun);
+        try (var stateFiles = Files.list(stateDirectory)) {
+            assertThat(stateFiles).hasSize(2);
+        }
+    }
+
+    @Test
+    void shouldReportWhenNoFileMatches() {
+        // given
+        Args args = new Args(List.of("--output=" + output, directory + "/*.json"));
+
+        // when then
+        assertThatThrownBy(() -> batchCommand.execute(args))
+                .isInstanceOf(CommandException.class)
+                .hasMessage("No dictionary files found in: " + directory + "/*.json");
+    }
+
+    @Test
+    void shouldRejectUnknownOptionsAndWrongThreadCount() {
+        // when then
+        assertThatThrownBy(() -> batchCommand.execute(new Args(List.of("--unknown", directory.toString()))))
+                .hasMessage("Unknown option '--unknown'");
+        assertThatThrownBy(() -> batchCommand.execute(new Args(List.of("--threads=0", directory.toString()))))
+                .hasMessage("Number of threads must be a positive number, got '0'");
+    }
+
+    @Test
+    void shouldStoreSummaryNextToOutput() throws CommandException {
+        // given
+        Args args = new Args(List.of("--output=" + output, directory.toString()));
+
+        // when
+        final Path summaryPath = batchCommand.getOutputFilePath(args);
+
+        // then
+        assertThat(summaryPath).isEqualTo(directory.resolve("results-summary.json"));
+    }
+
+    @Test
+    void shouldRecognizeBatchArguments() {
+        // given
+        final String file = YamlLoadingUtils.getUrlForGivenPath(YamlLoadingUtils.PATH_TO_SIMPLE_VALID_SCHEMA).getPath();
+
+        // then
+        assertThat(ValidateDictionaryYamlBatchCommand.isBatch(new Args(List.of(file)))).isFalse();
+        assertThat(ValidateDictionaryYamlBatchCommand.isBatch(new Args(List.of("/path/to/nonExisting.yaml")))).isFalse();
+        assertThat(ValidateDictionaryYamlBatchCommand.isBatch(new Args(List.of(directory.toString())))).isTrue();
+        assertThat(ValidateDictionaryYamlBatchCommand.isBatch(new Args(List.of(directory + "/**/*.yaml")))).isTrue();
+        assertThat(ValidateDictionaryYamlBatchCommand.isBatch(new Args(List.of(file, file)))).isTrue();
+    }
+
+    @Test
+    void shouldReportFileWithKeyWithoutValueAsInvalidStructureAndKeepValidatingOthers()
+            throws CommandException, IOException {
+        // given
+        copy(YamlLoadingUtils.PATH_TO_SIMPLE_VALID_SCHEMA, directory.resolve("null-value.yaml"));
+        Files.writeString(directory.resolve("null-value.yaml"), String.join(System.lineSeparator(),
+                "---",
+                "pmMetaData:",
+                "  pmHeader:",
+                "    nfType: gNB",
+                "  pmFields:",
+                "    measChangeType: ~",
+                "    measAdditionalFields:",
+                "      vendorField1: X",
+                "..."), StandardOpenOption.APPEND);
+        Args args = new Args(List.of("--output=" + output, directory.toString()));
+
+        // when
+        final CommandResponse<String> commandResponse = batchCommand.execute(args);
+
+        // then
+        assertThat(commandResponse.getCommandStatus()).isEqualTo(CommandResponse.CommandStatus.ERROR);
+        assertThat(readLines()).extracting(ResponseModel::getFile, ResponseModel::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(directory.resolve("valid.yaml").toString(), ResponseModel.ResponseStatus.PASS),
+                        tuple(directory.resolve("nested/invalid.yml").toString(), ResponseModel.ResponseStatus.FAILED),
+                        tuple(directory.resolve("null-value.yaml").toString(), ResponseModel.ResponseStatus.ERROR));
+        assertThat(readLines()).filteredOn(line -> line.getStatus() == ResponseModel.ResponseStatus.ERROR)
+                .singleElement()
+                .satisfies(line -> assertThat(line.getMessage())
+                        .startsWith(ValidateDictionaryYamlBatchCommand.INVALID_STRUCTURE_MSG)
+                        .contains("measChangeType"));
+    }
+
+    @Test
+    void shouldReportFileFailingUnexpectedlyAndKeepValidatingOthers() throws CommandException, IOException {
+        // given
+        final Path failingFile = directory.resolve("failing.yaml");
+        copy(YamlLoadingUtils.PATH_TO_SIMPLE_VALID_SCHEMA, failingFile);
+        final ValidateDictionaryYamlBatchCommand command = new ValidateDictionaryYamlBatchCommand(
+                new ToJsonConverter(), new FailingYamlContentValidator(failingFile));
+        Args args = new Args(List.of("--output=" + output, directory.toString()));
+
+        // when
+        final CommandResponse<String> commandResponse = command.execute(args);
+
+        // then
+        assertThat(commandResponse.getCommandStatus()).isEqualTo(CommandResponse.CommandStatus.ERROR);
+        assertThat(readLines()).extracting(ResponseModel::getFile, ResponseModel::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(directory.resolve("valid.yaml").toString(), ResponseModel.ResponseStatus.PASS),
+                        tuple(directory.resolve("nested/invalid.yml").toString(), ResponseModel.ResponseStatus.FAILED),
+                        tuple(failingFile.toString(), ResponseModel.ResponseStatus.ERROR));
+        final BatchSummaryModel summary = new Gson().fromJson(commandResponse.getResult(), BatchSummaryModel.class);
+        assertThat(summary.getFiles()).isEqualTo(3);
+        assertThat(readLines()).filteredOn(line -> line.getStatus() == ResponseModel.ResponseStatus.ERROR)
+                .singleElement()
+                .satisfies(line -> assertThat(line.getMessage())
+                        .startsWith(ValidateDictionaryYamlBatchCommand.VALIDATION_FAILURE_MSG));
+    }
+
+    private List<ResponseModel> readLines() throws IOException {
+        return Files.readAllLines(output).stream()
+                .map(line -> new Gson().fromJson(line, ResponseModel.class))
+                .collect(Collectors.toList());
+    }
+
+    private static void copy(String resource, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try (InputStream source = YamlLoadingUtils.getUrlForGivenPath(resource).openStream()) {
+            Files.copy(source, target);
+        }
+    }
+
+    private static final class FailingYamlContentValidator extends YamlContentValidator {
+        private final Path failingFile;
+
+        FailingYamlContentValidator(Path failingFile) {
+            this.failingFile = failingFile;
+        }
+
+        @Override
+        public void validate(Path pathToFile, Consumer<YamlDocumentValidationError> errorConsumer)
+                throws YamlProcessingException {
+            if (pathToFile.equals(failingFile)) {
+                throw new IllegalStateException("validator failure");
+            }
+            super.validate(pathToFile, errorConsumer);
+        }
+    }
+}
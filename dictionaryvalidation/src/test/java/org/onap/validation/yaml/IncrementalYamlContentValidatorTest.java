@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.validation.yaml;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.validation.yaml.error.YamlDocumentValidationError;
+import org.onap.validation.yaml.exception.YamlProcessingException;
+import org.onap.validation.yaml.parser.YamlParser;
+import org.onap.validation.yaml.state.YamlValidationStateStore;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.onap.validation.yaml.YamlLoadingUtils.PATH_TO_YAML_WITH_WRONG_VALUES;
+import static org.onap.validation.yaml.YamlLoadingUtils.getUrlForGivenPath;
+
+class IncrementalYamlContentValidatorTest {
+
+    private static final String SCHEMA = "field: { presence: required, value: [A, B] }\n";
+    private static final String OTHER_SCHEMA = "field: { presence: required, value: [A, B, C] }\n";
+    private static final String DICTIONARY_KEY = "dictionary.yaml";
+    private static final String OTHER_DICTIONARY_KEY = "other-dictionary.yaml";
+
+    private final IncrementalYamlContentValidator validator = new IncrementalYamlContentValidator();
+
+    @Test
+    void shouldValidateEveryDocumentOfNewDictionary() throws YamlProcessingException {
+        // when
+        IncrementalValidationResult result = validate(validator, SCHEMA, "A", "C", "B");
+
+        // then
+        assertThat(result.getValidatedDocuments()).isEqualTo(3);
+        assertThat(result.getReusedDocuments()).isZero();
+        assertThat(result.getErrors()).extracting(YamlDocumentValidationError::getYamlDocumentNumber).containsExactly(2);
+    }
+
+    @Test
+    void shouldValidateOnlyChangedDocuments() throws YamlProcessingException {
+        // given
+        validate(validator, SCHEMA, "A", "C", "B");
+
+        // when
+        IncrementalValidationResult unchanged = validate(validator, SCHEMA, "A", "C", "B");
+        IncrementalValidationResult changed = validate(validator, SCHEMA, "A", "C", "D");
+
+        // then
+        assertThat(unchanged.getValidatedDocuments()).isZero();
+        assertThat(unchanged.getReusedDocuments()).isEqualTo(3);
+        assertThat(unchanged.getErrors()).extracting(YamlDocumentValidationError::getYamlDocumentNumber).containsExactly(2);
+        assertThat(changed.getValidatedDocuments()).isEqualTo(1);
+        assertThat(changed.getReusedDocuments()).isEqualTo(2);
+        assertThat(changed.getErrors()).extracting(YamlDocumentValidationError::getYamlDocumentNumber).containsExactly(2, 3);
+    }
+
+    @Test
+    void shouldNotParseUnchangedDictionaryAgain() throws YamlProcessingException {
+        // given
+        validate(validator, SCHEMA, "A", "C");
+        long charactersRead = YamlParser.getInstance().getMetrics().getCharactersRead();
+
+        // when
+        IncrementalValidationResult result = validate(validator, SCHEMA, "A", "C");
+
+        // then
+        assertThat(YamlParser.getInstance().getMetrics().getCharactersRead()).isEqualTo(charactersRead);
+        assertThat(result.getReusedDocuments()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(YamlDocumentValidationError::getYamlDocumentNumber).containsExactly(2);
+    }
+
+    @Test
+    void shouldReportReusedErrorsAtCurrentPositionOfDocument() throws YamlProcessingException {
+        // given
+        validate(validator, SCHEMA, "A", "C");
+
+        // when
+        IncrementalValidationResult result = validate(validator, SCHEMA, "C", "A");
+
+        // then
+        assertThat(result.getValidatedDocuments()).isZero();
+        assertThat(result.getErrors()).extracting(YamlDocumentValidationError::getYamlDocumentNumber).containsExactly(1);
+    }
+
+    @Test
+    void shouldValidateEveryDocumentAgainWhenSchemaChanged() throws YamlProcessingException {
+        // given
+        validate(validator, SCHEMA, "A", "C");
+
+        // when
+        IncrementalValidationResult result = validate(validator, OTHER_SCHEMA, "A", "C");
+
+        // then
+        assertThat(result.getValidatedDocuments()).isEqualTo(2);
+        assertThat(result.getReusedDocuments()).isZero();
+        assertThat(result.getErrors()).isEmpty();
+    }
+
+    @Test
+    void shouldReuseStateStoredByEarlierRun(@TempDir Path stateDirectory) throws YamlProcessingException {
+        // given
+        validate(new IncrementalYamlContentValidator(stateDirectory), SCHEMA, "A", "C");
+
+        // when
+        IncrementalValidationResult result = validate(new IncrementalYamlContentValidator(stateDirectory), SCHEMA, "A", "C");
+
+        // then
+        assertThat(result.getValidatedDocuments()).isZero();
+        assertThat(result.getReusedDocuments()).isEqualTo(2);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getPath()).isEqualTo("/field"));
+    }
+
+    @Test
+    void shouldValidateAgainWhenStoredStateIsBroken(@TempDir Path stateDirectory) throws YamlProcessingException, IOException {
+        // given
+        validate(new IncrementalYamlContentValidator(stateDirectory), SCHEMA, "A", "C");
+        try (var stateFiles = Files.list(stateDirectory)) {
+            for (Path stateFile : (Iterable<Path>) stateFiles::iterator) {
+                Files.writeString(stateFile, "{ broken");
+            }
+        }
+
+        // when
+        IncrementalValidationResult result = validate(new IncrementalYamlContentValidator(stateDirectory), SCHEMA, "A", "C");
+
+        // then
+        assertThat(result.getValidatedDocuments()).isEqualTo(2);
+        assertThat(result.getErrors()).hasSize(1);
+    }
+
+    @Test
+    void shouldKeepOnlyRecentlyUsedStatesInMemory(@TempDir Path stateDirectory) throws YamlProcessingException {
+        // given
+        IncrementalYamlContentValidator inMemory =
+                new IncrementalYamlContentValidator(new YamlValidationStateStore(null, 1));
+        IncrementalYamlContentValidator stored =
+                new IncrementalYamlContentValidator(new YamlValidationStateStore(stateDirectory, 1));
+        for (IncrementalYamlContentValidator incrementalValidator : List.of(inMemory, stored)) {
+            validateDictionary(incrementalValidator, DICTIONARY_KEY, SCHEMA, "A", "C");
+            validateDictionary(incrementalValidator, OTHER_DICTIONARY_KEY, SCHEMA, "A");
+        }
+
+        // when
+        IncrementalValidationResult evicted = validateDictionary(inMemory, DICTIONARY_KEY, SCHEMA, "A", "C");
+        IncrementalValidationResult readFromDirectory = validateDictionary(stored, DICTIONARY_KEY, SCHEMA, "A", "C");
+
+        // then
+        assertThat(evicted.getValidatedDocuments()).isEqualTo(2);
+        assertThat(readFromDirectory.getReusedDocuments()).isEqualTo(2);
+        assertThat(evicted.getErrors()).hasSameSizeAs(readFromDirectory.getErrors()).hasSize(1);
+    }
+
+    @Test
+    void shouldReturnTheSameErrorsAsFullValidation() throws YamlProcessingException {
+        // given
+        Path path = Path.of(getUrlForGivenPath(PATH_TO_YAML_WITH_WRONG_VALUES).getPath());
+        validator.validate(path);
+
+        // when
+        IncrementalValidationResult result = validator.validate(path);
+
+        // then
+        assertThat(result.getValidatedDocuments()).isZero();
+        assertThat(result.getErrors())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(new YamlContentValidator().validate(path.toString()));
+    }
+
+    @Test
+    void shouldThrowErrorWhenDictionaryIsEmpty() {
+        // when then
+        assertThatThrownBy(() -> validator.validate(DICTIONARY_KEY, new byte[0]))
+                .isInstanceOf(YamlProcessingException.class)
+                .hasMessageContaining("Dictionary YAML file is empty");
+    }
+
+    private static IncrementalValidationResult validate(IncrementalYamlContentValidator validator, String schema,
+                                                        String... fieldValues) throws YamlProcessingException {
+        return validateDictionary(validator, DICTIONARY_KEY, schema, fieldValues);
+    }
+
+    private static IncrementalValidationResult validateDictionary(IncrementalYamlContentValidator validator, String key,
+                                                                  String schema, String... fieldValues)
+            throws YamlProcessingException {
+        StringBuilder dictionary = new StringBuilder(schema);
+        for (String fieldValue : fieldValues) {
+            dictionary.append("---\nfield: ").append(fieldValue).append('\n');
+        }
+        return validator.validate(key, dictionary.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -22,11 +22,16 @@ import org.onap.validation.yaml.error.YamlDocumentValidationError;
 import org.onap.validation.yaml.exception.YamlProcessingException;
 import org.yaml.snakeyaml.parser.ParserException;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.onap.validation.yaml.YamlLoadingUtils.PATH_TO_MULTI_DOCUMENT_INVALID_YAML;
 import static org.onap.validation.yaml.YamlLoadingUtils.PATH_TO_VALID_JSON_STYLE_YAML;
 import static org.onap.validation.yaml.YamlLoadingUtils.PATH_TO_YAML_WITH_WRONG_VALUES;
@@ -131,6 +136,87 @@ class YamlContentValidatorTest {
         }
     }
 
+    @Nested
+    class ParallelValidator {
+        @Test
+        void shouldReturnSameErrorsInSameOrderAsSequentialValidation() throws YamlProcessingException, IOException {
+            // given
+            byte[] yaml = createDictionaryWithRepeatedDocuments(readFile(PATH_TO_YAML_WITH_WRONG_VALUES), 50);
+
+            // when
+            List<YamlDocumentValidationError> sequentialErrors = new YamlContentValidator(Integer.MAX_VALUE).validate(yaml);
+            List<YamlDocumentValidationError> parallelErrors = new YamlContentValidator(0).validate(yaml);
+
+            // then
+            assertThat(sequentialErrors).hasSize(4 * 50);
+            assertThat(parallelErrors)
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(sequentialErrors);
+        }
+
+        @Test
+        void shouldReturnExpectedErrorsWhenValidatingInParallel() throws YamlProcessingException, IOException {
+            // given
+            byte[] yaml = readFile(PATH_TO_YAML_WITH_WRONG_VALUES);
+
+            // when
+            List<YamlDocumentValidationError> validationErrors = new YamlContentValidator(0).validate(yaml);
+
+            // then
+            assertValidationReturnedExpectedErrors(validationErrors);
+        }
+
+        private byte[] createDictionaryWithRepeatedDocuments(byte[] dictionary, int times) {
+            String content = new String(dictionary, StandardCharsets.UTF_8);
+            int schemaEnd = content.indexOf("...") + "...".length();
+            String documents = content.substring(schemaEnd);
+            return (content.substring(0, schemaEnd) + documents.repeat(times)).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Nested
+    class StreamingValidator {
+        @Test
+        void shouldReturnCorrectErrorsWhenValidatingWhileParsing() throws YamlProcessingException {
+            // given
+            Path path = Path.of(getFullPathForGivenResources(PATH_TO_YAML_WITH_WRONG_VALUES));
+            List<YamlDocumentValidationError> validationErrors = new ArrayList<>();
+
+            // when
+            new YamlContentValidator().validate(path, validationErrors::add);
+
+            // then
+            assertValidationReturnedExpectedErrors(validationErrors);
+            assertThat(validationErrors)
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(new YamlContentValidator().validate(path.toString()));
+        }
+
+        @Test
+        void shouldReportErrorsOfDocumentsParsedBeforeInvalidDocument() throws IOException {
+            // given
+            String dictionary = new String(readFile(PATH_TO_YAML_WITH_WRONG_VALUES), StandardCharsets.UTF_8)
+                    + "---\npmMetaData: [unclosed\n";
+            List<YamlDocumentValidationError> validationErrors = new ArrayList<>();
+
+            // when
+            Throwable ex = catchThrowable(() -> new YamlContentValidator().validate(
+                    new ByteArrayInputStream(dictionary.getBytes(StandardCharsets.UTF_8)), validationErrors::add));
+
+            // then
+            assertThat(ex).isInstanceOf(ParserException.class);
+            assertValidationReturnedExpectedErrors(validationErrors);
+        }
+
+        @Test
+        void shouldThrowErrorWhenStreamedPmDictionaryIsEmpty() {
+            //when then
+            assertThatThrownBy(() -> new YamlContentValidator().validate(new ByteArrayInputStream(new byte[0]), error -> { }))
+                    .isInstanceOf(YamlProcessingException.class)
+                    .hasMessageContaining("Dictionary YAML file is empty");
+        }
+    }
+
     private void assertValidationReturnedExpectedErrors(List<YamlDocumentValidationError> validationErrors) {
         assertThat(validationErrors)
                 .isNotNull()
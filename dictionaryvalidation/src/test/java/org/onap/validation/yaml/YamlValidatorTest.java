@@ -69,6 +69,23 @@ class YamlValidatorTest {
         assertValidatorReturnedCorrectErrors(validationErrors);
     }
 
+    @Test
+    void shouldReturnTheSameErrorsWhenValidatingWithPreResolvedProcess()
+            throws YamlProcessingException {
+        // given
+        List<YamlDocument> documents = YamlLoadingUtils.loadValidMultiDocumentYamlFile();
+        YamlValidator validator = new YamlValidator(new YamlSchemaFactory().createFullyLoadedYamlSchema(documents.get(0)), true);
+        Map<Integer, List<SchemaValidationError>> validationErrors = new HashMap<>();
+
+        // when
+        for (int documentIndex = 1; documentIndex < documents.size(); documentIndex++) {
+            validationErrors.put(documentIndex, validator.validate(documents.get(documentIndex)));
+        }
+
+        // then
+        assertValidatorReturnedCorrectErrors(validationErrors);
+    }
+
     private void assertValidatorReturnedCorrectErrors(Map<Integer, List<SchemaValidationError>> validationErrors) {
 
         SchemaValidationError expectedValidationValueError =
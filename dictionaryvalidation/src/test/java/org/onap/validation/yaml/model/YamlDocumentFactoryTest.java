@@ -20,8 +20,10 @@ package org.onap.validation.yaml.model;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -112,6 +114,52 @@ class YamlDocumentFactoryTest {
         assertYamlDocumentParsingException(ex, "testElement");
     }
 
+    @Test
+    void shouldReadValuesFromLoadedMapWithoutCopyingIt()
+            throws YamlDocumentParsingException {
+        // given
+        Map<Object, Object> subStructureMap = new HashMap<>(Map.of("subTest", "subElement"));
+        Map<Object, Object> inputMap = new HashMap<>(Map.of("structure", subStructureMap));
+        YamlDocument document = new YamlDocumentFactory().createYamlDocument(inputMap);
+
+        // when
+        subStructureMap.put("added", List.of("value1", 2));
+
+        // then
+        YamlDocument subStructure = document.getSubStructure("structure");
+        assertThat(subStructure.containsKey("added")).isTrue();
+        assertThat(subStructure.getListOfValues("added").getParameters()).containsExactly("value1", "2");
+        assertThat(subStructure.hasValuesIn("added", Set.of("value1", "2"))).isTrue();
+        assertThat(subStructure.hasValuesIn("subTest", Set.of("value1", "2"))).isFalse();
+    }
+
+    @Test
+    void shouldFindValuesUnderKeysOfOtherTypesThanString()
+            throws YamlDocumentParsingException {
+        // given
+        Map<Object, Object> inputMap = Map.of(
+                345, "element1",
+                true, List.of("element2"));
+
+        // when
+        YamlDocument document = new YamlDocumentFactory().createYamlDocument(inputMap);
+
+        // then
+        assertThat(document.containsKey("345")).isTrue();
+        assertThat(document.getValue("345")).isEqualTo("element1");
+        assertThat(document.hasValuesIn("true", Set.of("element2"))).isTrue();
+        assertThat(document.containsKey("missing")).isFalse();
+    }
+
+    @Test
+    void shouldThrowExceptionIfCreatedFromNull() {
+        // when
+        Throwable ex = catchThrowable(() -> new YamlDocumentFactory().createYamlDocument(null));
+
+        // then
+        assertYamlDocumentParsingException(ex, "null");
+    }
+
     private void assertYamlDocument(YamlDocument document, Map<Object, Object> inputMap) {
         assertThat(document).isNotNull();
         assertThat(document.getYaml()).containsExactlyEntriesOf(mapKeyToString(inputMap));
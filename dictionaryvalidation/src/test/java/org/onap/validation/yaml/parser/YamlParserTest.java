@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.validation.yaml.parser;
+
+import org.junit.jupiter.api.Test;
+import org.onap.validation.yaml.exception.YamlLimitExceededException;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.Event;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class YamlParserTest {
+
+    private static final String BILLION_LAUGHS = String.join("\n",
+            "a: &a [lol, lol, lol, lol, lol, lol, lol, lol, lol]",
+            "b: &b [*a, *a, *a, *a, *a, *a, *a, *a, *a]",
+            "c: &c [*b, *b, *b, *b, *b, *b, *b, *b, *b]",
+            "d: &d [*c, *c, *c, *c, *c, *c, *c, *c, *c]",
+            "e: &e [*d, *d, *d, *d, *d, *d, *d, *d, *d]");
+
+    private final YamlParser parser = new YamlParser(new YamlParserLimits(10, 5, 1000));
+
+    @Test
+    void shouldLoadDocumentsTheSameWayAsSnakeYaml() {
+        // given
+        String yaml = "version: 1.0\nenabled: true\nitems: [1, two]\n---\nsecond: ~\n";
+
+        // when
+        List<Object> documents = parser.loadAll(new StringReader(yaml));
+
+        // then
+        assertThat(documents).containsExactlyElementsOf(new Yaml().loadAll(yaml));
+        assertThat(parser.load("key: value")).isEqualTo(new Yaml().load("key: value"));
+        assertThat(parser.getMetrics().getParsedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectTooManyAliases() {
+        // when then
+        assertThatThrownBy(() -> parser.load(BILLION_LAUGHS))
+                .isInstanceOf(YamlLimitExceededException.class)
+                .hasMessageContaining("aliases");
+        assertThat(parser.getMetrics().getRejectedCount()).isEqualTo(1);
+        assertThat(parser.getMetrics().getFailedCount()).isZero();
+    }
+
+    @Test
+    void shouldRejectTooManyAliasesWhileStreamingDocuments() {
+        // given
+        try (YamlDocumentStream documents = parser.streamAll(new StringReader(BILLION_LAUGHS))) {
+
+            // when then
+            assertThatThrownBy(documents::next).isInstanceOf(YamlLimitExceededException.class);
+        }
+        assertThat(parser.getMetrics().getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotLimitNumberOfCharactersByDefault() {
+        // given
+        YamlParser defaultParser = new YamlParser(YamlParserLimits.fromSystemProperties());
+        long size = 17L * 1024 * 1024;
+
+        // when
+        Object document = defaultParser.load(new GeneratedYamlReader(size));
+
+        // then
+        assertThat(defaultParser.getLimits().getMaxCharacters()).isEqualTo(YamlParserLimits.DEFAULT_MAX_CHARACTERS);
+        assertThat(document).isInstanceOf(Map.class);
+        assertThat(defaultParser.getMetrics().getCharactersRead()).isGreaterThan(size);
+    }
+
+    @Test
+    void shouldRejectTooDeeplyNestedCollections() {
+        // when then
+        assertThatThrownBy(() -> parser.load("[[[[[[deep]]]]]]"))
+                .isInstanceOf(YamlLimitExceededException.class)
+                .hasMessageContaining("nested deeper than the allowed 5");
+        assertThat(parser.getMetrics().getRejectedCount()).isEqualTo(1);
+        assertThat(parser.load("[[[[[deep]]]]]")).isNotNull();
+    }
+
+    @Test
+    void shouldRejectTooLongInput() {
+        // given
+        String yaml = IntStream.range(0, 200).mapToObj(i -> "key" + i + ": value").collect(Collectors.joining("\n"));
+
+        // when then
+        assertThatThrownBy(() -> parser.load(yaml))
+                .isInstanceOf(YamlLimitExceededException.class)
+                .hasMessageContaining("longer than the allowed 1000 characters");
+    }
+
+    @Test
+    void shouldCheckLimitsWhileStreamingEvents() {
+        // given
+        try (YamlEventStream events = parser.parseEvents(new StringReader(BILLION_LAUGHS))) {
+
+            // when then
+            assertThatThrownBy(() -> events.forEachRemaining(Event::toString))
+                    .isInstanceOf(YamlLimitExceededException.class)
+                    .hasMessageContaining("more than the allowed 10 aliases");
+        }
+        assertThat(parser.getMetrics().getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountOnlyAliasesToCollectionsWhileStreamingEvents() {
+        // given
+        String yaml = "scalar: &s value\ncollection: &c [value]\naliases: ["
+                + String.join(", ", Collections.nCopies(20, "*s")) + ", *c]";
+        List<Event> read = new ArrayList<>();
+
+        // when
+        try (YamlEventStream events = parser.parseEvents(new StringReader(yaml))) {
+            events.forEachRemaining(read::add);
+        }
+
+        // then
+        assertThat(read).isNotEmpty();
+        assertThat(parser.load(yaml)).isEqualTo(new Yaml().load(yaml));
+        assertThat(parser.getMetrics().getRejectedCount()).isZero();
+    }
+
+    @Test
+    void shouldStreamDocumentsBeforeParsingLaterOnes() {
+        // given
+        String yaml = "first: 1\n---\nsecond: 2\n---\nthird: [unclosed\n";
+
+        try (YamlDocumentStream documents = parser.streamAll(new StringReader(yaml))) {
+
+            // when then
+            assertThat(documents.next()).isEqualTo(Map.of("first", 1));
+            assertThat(documents.next()).isEqualTo(Map.of("second", 2));
+            assertThatThrownBy(documents::next).isInstanceOf(YAMLException.class);
+        }
+        assertThat(parser.getMetrics().getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldApplyCharacterLimitToEveryStreamedDocumentSeparately() {
+        // given
+        YamlParser streamingParser = new YamlParser(new YamlParserLimits(10, 5, 3000));
+        String document = IntStream.range(0, 100).mapToObj(i -> "key" + i + ": value").collect(Collectors.joining("\n"));
+        String yaml = IntStream.range(0, 6).mapToObj(i -> document).collect(Collectors.joining("\n---\n"));
+        List<Object> streamed = new ArrayList<>();
+
+        // when
+        try (YamlDocumentStream documents = streamingParser.streamAll(new StringReader(yaml))) {
+            documents.forEachRemaining(streamed::add);
+        }
+
+        // then
+        assertThat(streamed).hasSize(6);
+        assertThatThrownBy(() -> streamingParser.loadAll(new StringReader(yaml)))
+                .isInstanceOf(YamlLimitExceededException.class);
+    }
+
+    /**
+     * Generates a mapping of short entries until the requested number of characters is reached.
+     */
+    private static class GeneratedYamlReader extends Reader {
+
+        private final long size;
+        private long read;
+        private String line = "";
+        private int position;
+
+        GeneratedYamlReader(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position == line.length()) {
+                if (read > size) {
+                    return -1;
+                }
+                line = "key" + read + ": value\n";
+                position = 0;
+            }
+            int count = Math.min(length, line.length() - position);
+            line.getChars(position, position + count, buffer, offset);
+            position += count;
+            read += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.validation.yaml.process;
+
+import org.junit.jupiter.api.Test;
+import org.onap.validation.yaml.YamlLoadingUtils;
+import org.onap.validation.yaml.error.SchemaValidationError;
+import org.onap.validation.yaml.exception.YamlProcessingException;
+import org.onap.validation.yaml.model.YamlDocument;
+import org.onap.validation.yaml.model.YamlDocumentFactory;
+import org.onap.validation.yaml.schema.YamlSchema;
+import org.onap.validation.yaml.schema.YamlSchemaFactory;
+import org.yaml.snakeyaml.Yaml;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PreResolvedYamlValidationProcessTest {
+
+    @Test
+    void shouldReturnTheSameErrorsAsInterpretedProcessForEveryPmDictionaryDocument()
+            throws YamlProcessingException {
+        for (List<YamlDocument> documents : List.of(
+                YamlLoadingUtils.loadValidMultiDocumentYamlFile(),
+                YamlLoadingUtils.loadValidJsonStyleMultiDocumentYamlFile())) {
+            // given
+            YamlSchema schema = new YamlSchemaFactory().createFullyLoadedYamlSchema(documents.get(0));
+            PreResolvedYamlValidationProcess process = PreResolvedYamlValidationProcess.build(schema).orElseThrow();
+
+            for (YamlDocument document : documents.subList(1, documents.size())) {
+                // when
+                List<SchemaValidationError> errors = process.validate(document);
+
+                // then
+                assertThat(errors)
+                        .usingRecursiveFieldByFieldElementComparator()
+                        .containsExactlyElementsOf(new YamlValidationProcess(schema, document).validate());
+            }
+        }
+    }
+
+    @Test
+    void shouldReportErrorsLevelByLevelAsInterpretedProcess() throws YamlProcessingException {
+        // given
+        YamlSchema schema = createSchema(
+                "outer: { presence: required, structure: { inner: { presence: required } } }\n"
+                        + "last: { presence: required }\n"
+                        + "value: { presence: optional, value: [A] }\n");
+        YamlDocument document = createDocument("outer: {}\nvalue: B\n");
+
+        // when
+        List<SchemaValidationError> errors = PreResolvedYamlValidationProcess.build(schema).orElseThrow().validate(document);
+
+        // then
+        assertThat(errors).extracting(SchemaValidationError::getPath)
+                .containsExactly("/", "/value", "/outer/");
+        assertThat(errors)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(new YamlValidationProcess(schema, document).validate());
+    }
+
+    @Test
+    void shouldThrowTheSameExceptionAsInterpretedProcessWhenSubStructureIsNotMapping() throws YamlProcessingException {
+        // given
+        YamlSchema schema = createSchema("outer: { presence: required, structure: { inner: { presence: required } } }\n");
+        YamlDocument document = createDocument("outer: not a mapping\n");
+
+        // when then
+        assertThatThrownBy(() -> PreResolvedYamlValidationProcess.build(schema).orElseThrow().validate(document))
+                .isInstanceOf(YamlDocumentFactory.YamlDocumentParsingException.class);
+    }
+
+    @Test
+    void shouldThrowTheSameExceptionAsInterpretedProcessWhenKeyWithAcceptedValuesHasNoValue()
+            throws YamlProcessingException {
+        // given
+        YamlSchema schema = createSchema("value: { presence: required, value: [A, B] }\n");
+        YamlDocument document = createDocument("value: ~\n");
+
+        // when then
+        assertThatThrownBy(() -> PreResolvedYamlValidationProcess.build(schema).orElseThrow().validate(document))
+                .isInstanceOf(YamlDocumentFactory.YamlDocumentParsingException.class)
+                .hasMessage("Value not found: value");
+        assertThatThrownBy(() -> new YamlValidationProcess(schema, document).validate())
+                .isInstanceOf(YamlDocumentFactory.YamlDocumentParsingException.class)
+                .hasMessage("Value not found: value");
+    }
+
+    @Test
+    void shouldNotAcceptListWithElementWithoutValue() throws YamlProcessingException {
+        // given
+        YamlSchema schema = createSchema("value: { presence: required, value: [A, B] }\n");
+        YamlDocument document = createDocument("value: [A, ~]\n");
+
+        // when
+        List<SchemaValidationError> errors = PreResolvedYamlValidationProcess.build(schema).orElseThrow().validate(document);
+
+        // then
+        assertThat(errors).extracting(SchemaValidationError::getPath).containsExactly("/value");
+        assertThat(errors)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(new YamlValidationProcess(schema, document).validate());
+    }
+
+    @Test
+    void shouldNotBuildCheckTreeOfSchemaWithBranchWhichCannotBeLoaded() throws YamlProcessingException {
+        // given
+        YamlDocument schemaInYaml = YamlLoadingUtils.loadSimpleInvalidYamlSchemaForLazyLoadingFile();
+        YamlSchema schema = new YamlSchemaFactory().createTreeStructuredYamlSchema(schemaInYaml);
+
+        // when then
+        assertThat(PreResolvedYamlValidationProcess.build(schema)).isEmpty();
+    }
+
+    private static YamlSchema createSchema(String schema) throws YamlProcessingException {
+        return new YamlSchemaFactory().createFullyLoadedYamlSchema(createDocument(schema));
+    }
+
+    private static YamlDocument createDocument(String yaml) throws YamlProcessingException {
+        return new YamlDocumentFactory().createYamlDocument(new Yaml().load(yaml));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.onap.validation.yaml.process;
+
+import org.onap.validation.yaml.YamlLoadingUtils;
+import org.onap.validation.yaml.exception.YamlProcessingException;
+import org.onap.validation.yaml.model.YamlDocument;
+import org.onap.validation.yaml.schema.YamlSchema;
+import org.onap.validation.yaml.schema.YamlSchemaFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.onap.validation.yaml.YamlLoadingUtils.VALID_YAML_DOCUMENT_INDEX;
+
+/**
+ * Compares validating the documents of the PM dictionary with {@link YamlValidationProcess}, which interprets
+ * the schema tree through a queue of validation steps, and with {@link PreResolvedYamlValidationProcess}.
+ * <p>
+ * Run with {@code java -cp <test classpath> org.onap.validation.yaml.process.YamlValidationProcessBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class YamlValidationProcessBenchmark {
+
+    private static final int DOCUMENTS = 4;
+
+    /**
+     * Validates either the documents of the dictionary, most of them with errors, or its valid document only,
+     * the common case for a dictionary which is being maintained.
+     */
+    @Param({"all", "valid"})
+    private String documentSet;
+
+    private YamlSchema schema;
+    private PreResolvedYamlValidationProcess preResolvedProcess;
+    private List<YamlDocument> documents;
+
+    @Setup
+    public void setUp() throws YamlProcessingException {
+        final List<YamlDocument> dictionary = YamlLoadingUtils.loadValidMultiDocumentYamlFile();
+        schema = new YamlSchemaFactory().createFullyLoadedYamlSchema(dictionary.get(0));
+        preResolvedProcess = PreResolvedYamlValidationProcess.build(schema).orElseThrow();
+        documents = "valid".equals(documentSet)
+            ? Collections.nCopies(DOCUMENTS, dictionary.get(VALID_YAML_DOCUMENT_INDEX))
+            : dictionary.subList(1, dictionary.size());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DOCUMENTS)
+    public void interpreted(Blackhole blackhole) throws YamlProcessingException {
+        for (YamlDocument document : documents) {
+            blackhole.consume(new YamlValidationProcess(schema, document).validate());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DOCUMENTS)
+    public void preResolved(Blackhole blackhole) throws YamlProcessingException {
+        for (YamlDocument document : documents) {
+            blackhole.consume(preResolvedProcess.validate(document));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(YamlValidationProcessBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
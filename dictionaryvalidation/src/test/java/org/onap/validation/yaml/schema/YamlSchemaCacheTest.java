@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 ONAP Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.onap.validation.yaml.schema;
+
+import org.junit.jupiter.api.Test;
+import org.onap.validation.yaml.YamlLoadingUtils;
+import org.onap.validation.yaml.exception.YamlProcessingException;
+import org.onap.validation.yaml.model.YamlDocument;
+import org.onap.validation.yaml.model.YamlDocumentFactory;
+import org.onap.validation.yaml.process.PreResolvedYamlValidationProcess;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class YamlSchemaCacheTest {
+
+    @Test
+    void shouldLoadSchemaDocumentsWithSameContentOnlyOnce() throws YamlProcessingException {
+        // given
+        YamlSchemaCache cache = new YamlSchemaCache(2, new YamlSchemaFactory());
+        YamlDocument schemaDocument = YamlLoadingUtils.loadValidMultiDocumentYamlFile().get(0);
+        YamlDocument sameSchemaDocument = YamlLoadingUtils.loadValidJsonStyleMultiDocumentYamlFile().get(0);
+
+        // when
+        YamlSchema schema = cache.get(schemaDocument);
+        YamlSchema sameSchema = cache.get(sameSchemaDocument);
+
+        // then
+        assertThat(sameSchema).isSameAs(schema);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBuildValidationProcessOncePerSchema() throws YamlProcessingException {
+        // given
+        YamlSchemaCache cache = new YamlSchemaCache(2, new YamlSchemaFactory());
+        YamlSchema schema = cache.get(YamlLoadingUtils.loadValidMultiDocumentYamlFile().get(0));
+
+        // when
+        Optional<PreResolvedYamlValidationProcess> process = cache.getPreResolvedProcess(schema);
+        Optional<PreResolvedYamlValidationProcess> sameProcess =
+                cache.getPreResolvedProcess(cache.get(YamlLoadingUtils.loadValidJsonStyleMultiDocumentYamlFile().get(0)));
+
+        // then
+        assertThat(process).isPresent();
+        assertThat(sameProcess.get()).isSameAs(process.get());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedSchema() throws YamlProcessingException {
+        // given
+        YamlSchemaCache cache = new YamlSchemaCache(2, new YamlSchemaFactory());
+        YamlDocument first = createSchemaDocument("first");
+        YamlDocument second = createSchemaDocument("second");
+        YamlSchema firstSchema = cache.get(first);
+        cache.get(second);
+
+        // when
+        cache.get(first);
+        cache.get(createSchemaDocument("third"));
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(first)).isSameAs(firstSchema);
+    }
+
+    @Test
+    void shouldNotCacheSchemaWhichFailedToLoad() throws YamlProcessingException {
+        // given
+        YamlSchemaCache cache = new YamlSchemaCache(2, new YamlSchemaFactory());
+        YamlDocument invalidSchema = YamlLoadingUtils.loadSimpleInvalidYamlSchemaFile();
+
+        // when then
+        assertThatThrownBy(() -> cache.get(invalidSchema))
+                .isInstanceOf(YamlDocumentFactory.YamlDocumentParsingException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldDistinguishSchemaValuesOfDifferentTypes() {
+        // then
+        assertThat(YamlSchemaCache.digest(Map.of("node", Map.of("value", List.of(1)))))
+                .isNotEqualTo(YamlSchemaCache.digest(Map.of("node", Map.of("value", List.of("1")))));
+        assertThat(YamlSchemaCache.digest(Map.of("a", "b, c=d")))
+                .isNotEqualTo(YamlSchemaCache.digest(Map.of("a", "b", "c", "d")));
+    }
+
+    private YamlDocument createSchemaDocument(String nodeName) throws YamlProcessingException {
+        return new YamlDocumentFactory().createYamlDocument(Map.of(nodeName, Map.of("presence", "required")));
+    }
+}
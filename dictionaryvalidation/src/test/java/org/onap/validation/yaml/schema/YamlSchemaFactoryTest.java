@@ -112,4 +112,35 @@ class YamlSchemaFactoryTest {
                         documents.getSubStructure("pmMetaData").getYaml().get("structure"))
                 );
     }
+
+    @Test
+    void shouldCreateFullyLoadedYamlSchemaWithAllBranchesLoaded()
+            throws YamlProcessingException {
+        // given
+        YamlDocument documents = YamlLoadingUtils.loadSimpleValidYamlSchemaFile();
+
+        // when
+        YamlSchema schema = new YamlSchemaFactory().createFullyLoadedYamlSchema(documents);
+
+        // then
+        YamlSchemaNode pmMetaData = schema.getRootNodes().get(0);
+        assertThat(pmMetaData.getNextNodes()).isSameAs(pmMetaData.getNextNodes());
+        assertThat(pmMetaData.getNextNodes())
+                .extracting(YamlSchemaNode::getPath)
+                .containsOnly("/pmMetaData/");
+        assertThat(pmMetaData.getFullPath()).isEqualTo("/pmMetaData");
+    }
+
+    @Test
+    void shouldCreateFullyLoadedYamlSchemaLeavingBranchesWhichCanNotBeLoadedLazy()
+            throws YamlProcessingException {
+        // given
+        YamlDocument documents = YamlLoadingUtils.loadSimpleInvalidYamlSchemaForLazyLoadingFile();
+
+        // when
+        YamlSchema schema = new YamlSchemaFactory().createFullyLoadedYamlSchema(documents);
+
+        // then
+        assertThat(schema.getRootNodes()).extracting(YamlSchemaNode::getName).containsExactly("pmMetaData");
+    }
 }
@@ -109,6 +109,39 @@ public class YamlSchemaNodeFactoryTest {
                 subNodes.get(0), subNode2Name, ROOT_PATH + nodeName + "/", false, EMPTY_COMMENT);
     }
 
+    @Test
+    void shouldLoadBranchNodeWithoutSubNodesOnlyOnce()
+            throws YamlProcessingException {
+        // given
+        Map<Object, Object> nodeInYamlFormat = Map.of(YamlSchemaNodeFactory.STRUCTURE_KEY, new HashMap<>());
+        YamlDocument document = new YamlDocumentFactory().createYamlDocument(nodeInYamlFormat);
+        YamlSchemaNode yamlSchemaNode = new YamlSchemaNodeFactory().createNode("empty_branch", ROOT_PATH, document);
+
+        // when
+        List<YamlSchemaNode> subNodes = yamlSchemaNode.getNextNodes();
+
+        // then
+        assertThat(subNodes).isEmpty();
+        assertThat(yamlSchemaNode.getNextNodes()).isSameAs(subNodes);
+        assertThat(yamlSchemaNode.isAcceptingValues(List.of("any"))).isTrue();
+    }
+
+    @Test
+    void shouldAcceptOnlyValuesListedInLeafNode()
+            throws YamlProcessingException {
+        // given
+        Map<Object, Object> nodeInYamlFormat = Map.of(YamlSchemaNodeFactory.VALUE_KET, List.of("val1", "val2", 3));
+        YamlDocument document = new YamlDocumentFactory().createYamlDocument(nodeInYamlFormat);
+
+        // when
+        YamlSchemaNode yamlSchemaNode = new YamlSchemaNodeFactory().createNode("leaf", ROOT_PATH, document);
+
+        // then
+        assertThat(yamlSchemaNode.isAcceptingValues(List.of("val2", "3", "val1"))).isTrue();
+        assertThat(yamlSchemaNode.isAcceptingValues(List.of("val1", "val3"))).isFalse();
+        assertThat(yamlSchemaNode.getFullPath()).isEqualTo("/leaf");
+    }
+
     public static void assertThatBranchNodeIsValid(
             YamlSchemaNode yamlSchemaNode, String name, String path, boolean isRequired, String comment,
             int numberOfSubNodes